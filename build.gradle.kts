@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "4.0.1"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("org.hibernate.orm") version "7.1.0.Final"
 }
 
 group = "com.workledger"
@@ -29,9 +30,18 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-validation")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-aspectj")
 
     /* -------------------- Database -------------------- */
-    runtimeOnly("org.postgresql:postgresql")
+    // Compile scope for PGConnection.getNotifications (LISTEN/NOTIFY invalidation)
+    implementation("org.postgresql:postgresql")
+    implementation("org.springframework.boot:spring-boot-starter-flyway")
+    implementation("org.flywaydb:flyway-database-postgresql")
+    implementation("net.ttddyy:datasource-proxy:1.10")
+
+    /* -------------------- Caching -------------------- */
+    implementation("com.github.ben-manes.caffeine:caffeine")
 
     /* -------------------- Lombok -------------------- */
     compileOnly("org.projectlombok:lombok")
@@ -53,3 +63,94 @@ dependencies {
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+/* -------------------- Load testing -------------------- */
+// ./gradlew loadTest -Dloadtest.duration=PT2M -Dloadtest.clients=128
+val loadTest by sourceSets.creating {
+	compileClasspath += sourceSets.main.get().output
+	runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+dependencies {
+	"loadTestImplementation"("org.hdrhistogram:HdrHistogram:2.2.2")
+}
+
+tasks.register<JavaExec>("loadTest") {
+	group = "verification"
+	description = "Boots the service against the loadtest profile and drives a mixed workload."
+	classpath = loadTest.runtimeClasspath
+	mainClass = "com.workledger.core.loadtest.LoadTestRunner"
+	workingDir = projectDir
+	systemProperties(System.getProperties()
+		.filterKeys { it.toString().startsWith("loadtest.") }
+		.mapKeys { it.key.toString() })
+}
+
+/* -------------------- Hibernate bytecode enhancement -------------------- */
+// Lazy basic attributes (WorkEntry.description) and inline dirty tracking
+hibernate {
+	enhancement {
+		enableLazyInitialization = true
+		enableDirtyTracking = true
+		enableAssociationManagement = false
+	}
+}
+
+/* -------------------- Production build (-Pprod) -------------------- */
+// Runs Spring AOT processing so bean definitions are generated at build time.
+// Start the resulting jar with -Dspring.aot.enabled=true -Dspring.profiles.active=prod.
+if (project.hasProperty("prod")) {
+	apply(plugin = "org.springframework.boot.aot")
+
+	// AOT fixes the bean definitions, so they must be generated for the profile
+	// the jar runs with; switching profiles at runtime is not supported
+	tasks.named<JavaExec>("processAot") {
+		args("--spring.profiles.active=prod")
+	}
+}
+
+val javaLauncher = javaToolchains.launcherFor {
+	languageVersion = JavaLanguageVersion.of(21)
+}
+val extractedDir = layout.buildDirectory.dir("extracted")
+val bootJarFile = tasks.bootJar.flatMap { it.archiveFile }
+
+val extractBootJar by tasks.registering(Exec::class) {
+	group = "build"
+	description = "Extracts the boot jar into a CDS friendly layout."
+	dependsOn(tasks.bootJar)
+	inputs.file(bootJarFile)
+	outputs.dir(extractedDir)
+	doFirst { delete(extractedDir) }
+	executable = javaLauncher.get().executablePath.asFile.absolutePath
+	argumentProviders.add(CommandLineArgumentProvider {
+		listOf("-Djarmode=tools", "-jar", bootJarFile.get().asFile.absolutePath,
+			"extract", "--destination", extractedDir.get().asFile.absolutePath)
+	})
+}
+
+// Training run: refreshes the context without a database and exits,
+// dumping every class loaded on the way into a class data sharing archive.
+val cdsArchive by tasks.registering(Exec::class) {
+	group = "build"
+	description = "Generates build/extracted/application.jsa with a CDS training run."
+	dependsOn(extractBootJar)
+	outputs.file(extractedDir.map { it.file("application.jsa") })
+	workingDir(extractedDir)
+	executable = javaLauncher.get().executablePath.asFile.absolutePath
+	argumentProviders.add(CommandLineArgumentProvider {
+		listOfNotNull(
+			"-XX:ArchiveClassesAtExit=application.jsa",
+			"-Dspring.context.exit=onRefresh",
+			"-Dspring.profiles.active=prod",
+			if (project.hasProperty("prod")) "-Dspring.aot.enabled=true" else null,
+			"-Dspring.flyway.enabled=false",
+			"-Dspring.jpa.hibernate.ddl-auto=none",
+			"-Dspring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false",
+			"-jar", bootJarFile.get().asFile.name
+		)
+	})
+}
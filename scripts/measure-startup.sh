@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+# Measures time-to-first-request of the packaged service.
+#
+# Usage: scripts/measure-startup.sh [plain|cds] [runs]
+#   plain - java -jar build/libs/*.jar (./gradlew bootJar)
+#   cds   - extracted jar with application.jsa (./gradlew -Pprod cdsArchive)
+#
+# Needs the database from application.properties to be reachable.
+# The median is appended to docs/startup-times.md together with the commit and JDK.
+set -euo pipefail
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+
+MODE="${1:-plain}"
+RUNS="${2:-5}"
+URL="http://localhost:8080/api/v1/work-entries?size=1"
+
+case "$MODE" in
+  plain)
+    JAR=$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -1)
+    CMD=(java -Dspring.profiles.active=prod -jar "$JAR")
+    ;;
+  cds)
+    cd build/extracted
+    JAR=$(ls *.jar | head -1)
+    CMD=(java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -Dspring.profiles.active=prod -jar "$JAR")
+    ;;
+  *)
+    echo "Unknown mode: $MODE" >&2
+    exit 1
+    ;;
+esac
+
+durations=()
+for run in $(seq 1 "$RUNS"); do
+  start=$(date +%s%N)
+  "${CMD[@]}" > /dev/null 2>&1 &
+  pid=$!
+  until curl -s -o /dev/null "$URL"; do
+    sleep 0.02
+  done
+  end=$(date +%s%N)
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  elapsed=$(( (end - start) / 1000000 ))
+  durations+=("$elapsed")
+  echo "$MODE run $run: $elapsed ms to first response"
+done
+
+median=$(printf '%s\n' "${durations[@]}" | sort -n | awk '{ a[NR] = $1 } END { print a[int((NR + 1) / 2)] }')
+jdk=$(java -version 2>&1 | head -1)
+commit=$(git -C "$ROOT" rev-parse --short HEAD)
+echo "$MODE median: $median ms over $RUNS runs"
+echo "| $(date +%F) | $commit | $MODE | $RUNS | $median | $jdk |" >> "$ROOT/docs/startup-times.md"
@@ -0,0 +1,52 @@
+package com.workledger.core.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties.
+ *
+ * @param baseUrl target service; when blank the service is booted in-process
+ * @param clients number of concurrent virtual-thread clients
+ * @param warmup run time whose results are discarded
+ * @param duration measured run time
+ * @param mix relative weight of each operation
+ * @param outputDir directory the reports are written to
+ * @param baseline report of a previous run to compare against, may be null
+ */
+public record LoadTestConfig(
+        String baseUrl,
+        int clients,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        Path outputDir,
+        Path baseline
+) {
+
+    private static final String DEFAULT_MIX = "create:20,list:25,dateRange:20,submit:10,lock:5,totalHours:20";
+
+    public static LoadTestConfig fromSystemProperties() {
+        String baseline = System.getProperty("loadtest.baseline");
+        return new LoadTestConfig(
+                System.getProperty("loadtest.baseUrl", ""),
+                Integer.getInteger("loadtest.clients", 64),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+                Path.of(System.getProperty("loadtest.output", "build/reports/loadtest")),
+                baseline != null ? Path.of(baseline) : null
+        );
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for(String part : mix.split(",")) {
+            String[] pair = part.trim().split(":");
+            weights.put(Operation.fromKey(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,116 @@
+package com.workledger.core.loadtest;
+
+import org.HdrHistogram.Histogram;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Result of a load test run. Latencies are in milliseconds.
+ * Serialized as JSON so runs of different commits can be compared with {@code loadtest.baseline}.
+ */
+public record LoadTestReport(
+        String commit,
+        Instant startedAt,
+        int clients,
+        double durationSeconds,
+        Map<String, OperationStats> operations
+) {
+
+    public record OperationStats(
+            long count,
+            long errors,
+            double throughput,
+            double p50,
+            double p99,
+            double p999,
+            double max
+    ) {
+
+        static OperationStats of(Histogram histogram, long errors, double seconds) {
+            return new OperationStats(
+                    histogram.getTotalCount(),
+                    errors,
+                    histogram.getTotalCount() / seconds,
+                    millis(histogram.getValueAtPercentile(50.0)),
+                    millis(histogram.getValueAtPercentile(99.0)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue())
+            );
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    public static LoadTestReport of(String commit, Instant startedAt, int clients, double seconds,
+                                    Map<Operation, Histogram> histograms, Map<Operation, Long> errors) {
+        Map<String, OperationStats> operations = new LinkedHashMap<>();
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+
+        for(Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+            long operationErrors = errors.getOrDefault(entry.getKey(), 0L);
+            operations.put(entry.getKey().key(), OperationStats.of(entry.getValue(), operationErrors, seconds));
+            total.add(entry.getValue());
+            totalErrors += operationErrors;
+        }
+        operations.put("all", OperationStats.of(total, totalErrors, seconds));
+
+        return new LoadTestReport(commit, startedAt, clients, seconds, operations);
+    }
+
+    public static LoadTestReport read(Path path) {
+        return JSON.readValue(path.toFile(), LoadTestReport.class);
+    }
+
+    /**
+     * Writes report-<timestamp>.json and latest.json into the directory.
+     *
+     * @return the timestamped report file
+     */
+    public Path write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        File report = directory.resolve("report-" + startedAt.toEpochMilli() + ".json").toFile();
+        JSON.writerWithDefaultPrettyPrinter().writeValue(report, this);
+        JSON.writerWithDefaultPrettyPrinter().writeValue(directory.resolve("latest.json").toFile(), this);
+        return report.toPath();
+    }
+
+    public String format(LoadTestReport baseline) {
+        StringBuilder out = new StringBuilder()
+                .append(String.format("commit %s, %d clients, %.0f s%n", commit, clients, durationSeconds))
+                .append(String.format("%-12s %9s %7s %10s %9s %9s %9s %9s%n",
+                        "operation", "count", "errors", "ops/s", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+
+        operations.forEach((name, stats) -> {
+            out.append(String.format("%-12s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    name, stats.count(), stats.errors(), stats.throughput(),
+                    stats.p50(), stats.p99(), stats.p999(), stats.max()));
+
+            OperationStats before = baseline != null ? baseline.operations().get(name) : null;
+            if(before != null) {
+                out.append(String.format("%-12s %9s %7s %+9.1f%% %+8.1f%% %+8.1f%% %+8.1f%%%n",
+                        "  vs " + baseline.commit(), "", "",
+                        change(before.throughput(), stats.throughput()),
+                        change(before.p50(), stats.p50()),
+                        change(before.p99(), stats.p99()),
+                        change(before.p999(), stats.p999())));
+            }
+        });
+        return out.toString();
+    }
+
+    private static double change(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100;
+    }
+}
@@ -0,0 +1,134 @@
+package com.workledger.core.loadtest;
+
+import com.workledger.core.WorkledgerServiceApplication;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Boots the service with the loadtest profile (unless loadtest.baseUrl is set) and drives
+ * a weighted mix of requests from virtual-thread clients for a fixed time.
+ * Latencies are recorded into HDR histograms and written as a report.
+ */
+public class LoadTestRunner {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final LoadTestConfig config;
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Operation[] weightedOperations;
+
+    private volatile boolean running = true;
+
+    public LoadTestRunner(LoadTestConfig config) {
+        this.config = config;
+        for(Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+        this.weightedOperations = config.mix().entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Operation[]::new);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        ConfigurableApplicationContext context = null;
+        String baseUrl = config.baseUrl();
+
+        if(baseUrl.isBlank()) {
+            SpringApplication application = new SpringApplication(WorkledgerServiceApplication.class);
+            application.setAdditionalProfiles("loadtest");
+            context = application.run("--server.port=0");
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+
+        try {
+            LoadTestReport report = new LoadTestRunner(config).run(new WorkloadClient(baseUrl));
+            LoadTestReport baseline = config.baseline() != null ? LoadTestReport.read(config.baseline()) : null;
+
+            Path written = report.write(config.outputDir());
+            System.out.println(report.format(baseline));
+            System.out.println("Report written to " + written);
+        } finally {
+            if(context != null) {
+                context.close();
+            }
+        }
+    }
+
+    public LoadTestReport run(WorkloadClient client) throws InterruptedException {
+        try(ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for(int i = 0; i < config.clients(); i++) {
+                executor.submit(() -> clientLoop(client));
+            }
+
+            System.out.printf("Warming up for %s with %d clients%n", config.warmup(), config.clients());
+            Thread.sleep(config.warmup().toMillis());
+            recorders.values().forEach(Recorder::reset);
+            errors.values().forEach(LongAdder::reset);
+
+            Instant startedAt = Instant.now();
+            long start = System.nanoTime();
+            System.out.printf("Measuring for %s%n", config.duration());
+            Thread.sleep(config.duration().toMillis());
+
+            Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+            recorders.forEach((operation, recorder) -> histograms.put(operation, recorder.getIntervalHistogram()));
+            double seconds = (System.nanoTime() - start) / 1e9;
+            running = false;
+
+            Map<Operation, Long> errorCounts = new EnumMap<>(Operation.class);
+            errors.forEach((operation, count) -> errorCounts.put(operation, count.sum()));
+
+            return LoadTestReport.of(commit(), startedAt, config.clients(), seconds, histograms, errorCounts);
+        }
+    }
+
+    private void clientLoop(WorkloadClient client) {
+        while(running) {
+            Operation planned = weightedOperations[ThreadLocalRandom.current().nextInt(weightedOperations.length)];
+            long start = System.nanoTime();
+            try {
+                Operation executed = client.execute(planned);
+                recorders.get(executed).recordValue(Math.min(
+                        TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start), HIGHEST_TRACKABLE_MICROS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                errors.get(planned).increment();
+            }
+        }
+    }
+
+    private static String commit() {
+        try {
+            Process process = new ProcessBuilder(List.of("git", "rev-parse", "--short", "HEAD"))
+                    .redirectErrorStream(true)
+                    .start();
+            try(BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+                String line = reader.readLine();
+                return process.waitFor() == 0 && line != null ? line.trim() : "unknown";
+            }
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.workledger.core.loadtest;
+
+/**
+ * Requests the load test can issue, keyed by the name used in {@code loadtest.mix}.
+ */
+public enum Operation {
+    CREATE("create"),
+    LIST("list"),
+    DATE_RANGE("dateRange"),
+    SUBMIT("submit"),
+    LOCK("lock"),
+    TOTAL_HOURS("totalHours");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public static Operation fromKey(String key) {
+        for(Operation operation : values()) {
+            if(operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation in loadtest.mix: " + key);
+    }
+}
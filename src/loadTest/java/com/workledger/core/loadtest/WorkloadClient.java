@@ -0,0 +1,127 @@
+package com.workledger.core.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Issues work entry API requests. Shared by all clients; created entries feed the submit and lock pools.
+ */
+public class WorkloadClient {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final String API = "/api/v1/work-entries";
+    private static final String EMPLOYEE_HEADER = "X-Employee-Id";
+
+    /**
+     * Entries are spread over this many employees, so scoped reads hit realistic per-employee volumes
+     */
+    private static final int EMPLOYEES = 200;
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+
+    private final Queue<CreatedEntry> draftEntries = new ConcurrentLinkedQueue<>();
+    private final Queue<CreatedEntry> submittedEntries = new ConcurrentLinkedQueue<>();
+
+    public WorkloadClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * Executes one request of the given kind.
+     *
+     * @return the operation that was actually executed; submit and lock fall back
+     * to create while there are no entries in the right state
+     * @throws IOException if the request fails or returns an error status
+     */
+    public Operation execute(Operation operation) throws IOException, InterruptedException {
+        return switch(operation) {
+            case CREATE -> create();
+            case LIST -> get(API + "?page=" + random(0, 5) + "&size=20", Operation.LIST);
+            case DATE_RANGE -> get(API + "/date-range?startDate=" + LocalDate.now().minusDays(30)
+                    + "&endDate=" + LocalDate.now() + "&size=20", Operation.DATE_RANGE);
+            case SUBMIT -> transition(draftEntries, "submit", submittedEntries, Operation.SUBMIT);
+            case LOCK -> transition(submittedEntries, "lock", null, Operation.LOCK);
+            case TOTAL_HOURS -> get(API + "/hours/total?startDate=" + LocalDate.now().withDayOfMonth(1)
+                    + "&endDate=" + LocalDate.now(), Operation.TOTAL_HOURS);
+        };
+    }
+
+    private Operation create() throws IOException, InterruptedException {
+        // Locale.ROOT keeps the decimal separator a dot whatever the machine's locale
+        int employeeId = random(1, EMPLOYEES + 1);
+        String body = String.format(Locale.ROOT, """
+                {"workDate":"%s","programType":"CLIENT","programReference":"LOAD-%d","ticketId":"LOAD-%d",\
+                "description":"Load test entry","hoursSpent":%.2f}""",
+                LocalDate.now().minusDays(random(0, 30)), random(1, 20), random(1, 10_000), random(1, 32) * 0.25);
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + API))
+                .header(EMPLOYEE_HEADER, String.valueOf(employeeId))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        String response = send(request);
+
+        Matcher matcher = ID_PATTERN.matcher(response);
+        if(matcher.find()) {
+            draftEntries.add(new CreatedEntry(Long.parseLong(matcher.group(1)), employeeId));
+        }
+        return Operation.CREATE;
+    }
+
+    private Operation transition(Queue<CreatedEntry> source, String action, Queue<CreatedEntry> target, Operation operation)
+            throws IOException, InterruptedException {
+        CreatedEntry entry = source.poll();
+        if(entry == null) {
+            return create();
+        }
+
+        // Entries are only found for the employee they belong to
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + API + "/" + entry.id() + "/" + action))
+                .header(EMPLOYEE_HEADER, String.valueOf(entry.employeeId()))
+                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                .build();
+        send(request);
+
+        if(target != null) {
+            target.add(entry);
+        }
+        return operation;
+    }
+
+    private Operation get(String path, Operation operation) throws IOException, InterruptedException {
+        send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header(EMPLOYEE_HEADER, String.valueOf(random(1, EMPLOYEES + 1)))
+                .GET()
+                .build());
+        return operation;
+    }
+
+    private String send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if(response.statusCode() >= 400) {
+            throw new IOException(request.method() + " " + request.uri() + " returned " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private static int random(int from, int to) {
+        return ThreadLocalRandom.current().nextInt(from, to);
+    }
+
+    private record CreatedEntry(long id, int employeeId) {}
+}
@@ -0,0 +1,50 @@
+package com.workledger.core.analytics.controller;
+
+import com.workledger.core.analytics.dto.LockedHoursResponse;
+import com.workledger.core.analytics.service.AnalyticsService;
+import com.workledger.core.analytics.store.LockedEntryFilter;
+import com.workledger.core.analytics.store.LockedEntryGroupBy;
+import com.workledger.core.common.dto.ApiResponse;
+import com.workledger.core.timesheet.domain.ProgramType;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/analytics")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Analytics", description = "In-memory analytics over locked work entries")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    @GetMapping("/locked-hours")
+    @Operation(summary = "Get locked hours", description = "Sums locked hours, optionally grouped, from an in-process columnar copy of locked entries")
+    public ResponseEntity<ApiResponse<LockedHoursResponse>> getLockedHours(
+            @RequestParam(required = false) Long employeeId,
+            @Parameter(description = "Start date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) ProgramType programType,
+            @RequestParam(required = false) String programReference,
+            @RequestParam(defaultValue = "NONE") LockedEntryGroupBy groupBy
+    ) {
+        log.info("Fetching locked hours grouped by {}", groupBy);
+        LockedEntryFilter filter = new LockedEntryFilter(employeeId, startDate, endDate, programType, programReference);
+        LockedHoursResponse response = analyticsService.getLockedHours(filter, groupBy);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Locked hours fetched successfully"));
+    }
+}
@@ -0,0 +1,14 @@
+package com.workledger.core.analytics.dto;
+
+/**
+ * Locked hours of one group.
+ *
+ * @param key the group value: employee id, program type, program reference or yyyy-MM month
+ * @param totalHours summed hours
+ * @param entryCount matching entries
+ */
+public record LockedHoursGroup(
+        String key,
+        Double totalHours,
+        long entryCount
+) {}
@@ -0,0 +1,24 @@
+package com.workledger.core.analytics.dto;
+
+import com.workledger.core.analytics.store.LockedEntryGroupBy;
+
+import java.util.List;
+
+/**
+ * Locked hours answered from the in-process columnar store.
+ *
+ * @param complete false while the store is still loading after startup
+ * @param scannedEntries locked entries held by the store
+ * @param groupBy grouping applied to {@code groups}
+ * @param totalHours hours of all matching entries
+ * @param entryCount number of matching entries
+ * @param groups totals per group, empty when not grouped; months ascending, otherwise by hours descending
+ */
+public record LockedHoursResponse(
+        boolean complete,
+        long scannedEntries,
+        LockedEntryGroupBy groupBy,
+        Double totalHours,
+        long entryCount,
+        List<LockedHoursGroup> groups
+) {}
@@ -0,0 +1,81 @@
+package com.workledger.core.analytics.repository;
+
+import com.workledger.core.analytics.store.LockedEntryRow;
+import com.workledger.core.timesheet.domain.ProgramType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads the columns of LOCKED work entries for the in-process columnar store.
+ */
+@Repository
+public class LockedEntryRowRepository {
+
+    /**
+     * Most bind parameters the PostgreSQL driver accepts in one statement; the id list
+     * is the only parameter of {@link #findLockedByIds}, so it caps the ids per query
+     */
+    static final int MAX_BIND_PARAMETERS = Short.MAX_VALUE;
+    private static final String SELECT_LOCKED = """
+            SELECT id, employee_id, work_date, program_type, program_reference, minutes_spent
+            FROM work_entries
+            WHERE work_entry_status = 'LOCKED'
+            """;
+    private static final RowMapper<LockedEntryRow> ROW_MAPPER = (rs, rowNum) -> new LockedEntryRow(
+            rs.getLong("id"),
+            rs.getLong("employee_id"),
+            rs.getObject("work_date", LocalDate.class),
+            ProgramType.valueOf(rs.getString("program_type")),
+            rs.getString("program_reference"),
+            rs.getInt("minutes_spent")
+    );
+
+    private final JdbcClient jdbcClient;
+    private final int idChunkSize;
+
+    @Autowired
+    public LockedEntryRowRepository(DataSource dataSource) {
+        this(dataSource, MAX_BIND_PARAMETERS);
+    }
+
+    LockedEntryRowRepository(DataSource dataSource, int idChunkSize) {
+        this.jdbcClient = JdbcClient.create(dataSource);
+        this.idChunkSize = idChunkSize;
+    }
+
+    /**
+     * Next page of LOCKED entries in id order, for the initial load.
+     */
+    public List<LockedEntryRow> findLockedAfter(long afterId, int limit) {
+        return jdbcClient.sql(SELECT_LOCKED + " AND id > :afterId ORDER BY id LIMIT :limit")
+                .param("afterId", afterId)
+                .param("limit", limit)
+                .query(ROW_MAPPER)
+                .list();
+    }
+
+    /**
+     * The given entries that are LOCKED, in no particular order. The ids queued between two
+     * syncs are unbounded, so they are queried in chunks the driver can bind.
+     */
+    public List<LockedEntryRow> findLockedByIds(Collection<Long> ids) {
+        List<Long> idList = List.copyOf(ids);
+        List<LockedEntryRow> rows = new ArrayList<>(idList.size());
+        for(int from = 0; from < idList.size(); from += idChunkSize) {
+            List<Long> chunk = idList.subList(from, Math.min(from + idChunkSize, idList.size()));
+            rows.addAll(jdbcClient.sql(SELECT_LOCKED + " AND id IN (:ids)")
+                    .param("ids", chunk)
+                    .query(ROW_MAPPER)
+                    .list());
+        }
+        return rows;
+    }
+}
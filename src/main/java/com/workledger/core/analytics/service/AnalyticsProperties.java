@@ -0,0 +1,24 @@
+package com.workledger.core.analytics.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the in-process columnar store of LOCKED work entries.
+ */
+@Data
+@ConfigurationProperties(prefix = "workledger.analytics")
+public class AnalyticsProperties {
+
+    /**
+     * Rows read per query while loading the store at startup
+     */
+    private int loadChunkSize = 10_000;
+
+    /**
+     * Delay between appending newly locked entries to the store
+     */
+    private Duration syncInterval = Duration.ofSeconds(1);
+}
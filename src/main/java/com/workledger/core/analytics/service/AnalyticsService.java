@@ -0,0 +1,22 @@
+package com.workledger.core.analytics.service;
+
+import com.workledger.core.analytics.dto.LockedHoursResponse;
+import com.workledger.core.analytics.store.LockedEntryFilter;
+import com.workledger.core.analytics.store.LockedEntryGroupBy;
+
+/**
+ * Service interface for interactive analytics over LOCKED work entries.
+ * Answers come from an in-process columnar store, never from the database.
+ */
+public interface AnalyticsService {
+
+    /**
+     * Sums locked hours matching the filter, optionally per group.
+     *
+     * @param filter optional employee, date range and program restrictions
+     * @param groupBy grouping of the totals
+     * @return totals with the store's load state
+     * @throws com.workledger.core.common.exception.BusinessValidationException if the start date is after the end date
+     */
+    LockedHoursResponse getLockedHours(LockedEntryFilter filter, LockedEntryGroupBy groupBy);
+}
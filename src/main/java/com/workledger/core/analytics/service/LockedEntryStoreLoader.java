@@ -0,0 +1,150 @@
+package com.workledger.core.analytics.service;
+
+import com.workledger.core.analytics.repository.LockedEntryRowRepository;
+import com.workledger.core.analytics.store.LockedEntryColumnStore;
+import com.workledger.core.analytics.store.LockedEntryRow;
+import com.workledger.core.common.invalidation.InvalidationHandler;
+import com.workledger.core.common.jdbc.UseWorkload;
+import com.workledger.core.common.jdbc.Workload;
+import com.workledger.core.common.jdbc.WorkloadContext;
+import com.workledger.core.timesheet.event.WorkEntryChangeType;
+import com.workledger.core.timesheet.event.WorkEntryChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fills {@link LockedEntryColumnStore}: every LOCKED entry once at startup, in the background,
+ * then entries as they get locked. Lock events are collected and appended in one query per sync interval.
+ * Entries locked on other nodes arrive through {@link InvalidationHandler#invalidate}.
+ * Entries locked while the initial load runs may arrive both ways; the store skips duplicates.
+ */
+@Slf4j
+@Component
+public class LockedEntryStoreLoader implements InvalidationHandler {
+
+    private final LockedEntryRowRepository rowRepository;
+    private final LockedEntryColumnStore store;
+    private final AnalyticsProperties properties;
+    private final Queue<Long> lockedIds = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean loading = new AtomicBoolean();
+    private volatile boolean loaded;
+    private volatile boolean loadFailed;
+
+    public LockedEntryStoreLoader(LockedEntryRowRepository rowRepository,
+                                  LockedEntryColumnStore store,
+                                  AnalyticsProperties properties) {
+        this.rowRepository = rowRepository;
+        this.store = store;
+        this.properties = properties;
+    }
+
+    /**
+     * Whether the initial load has finished, i.e. the store holds every entry locked before startup.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startInitialLoad() {
+        startLoad();
+    }
+
+    @TransactionalEventListener
+    public void onWorkEntryChanged(WorkEntryChangedEvent event) {
+        if(event.changeType() == WorkEntryChangeType.LOCKED) {
+            lockedIds.add(event.id());
+        }
+    }
+
+    /**
+     * Ids changed on another node; the ones now LOCKED are appended with the next sync.
+     */
+    @Override
+    public void invalidate(Set<Long> ids, Set<LocalDate> workDates) {
+        lockedIds.addAll(ids);
+    }
+
+    /**
+     * Invalidations were missed: rescans all LOCKED entries, appending the ones not loaded yet.
+     */
+    @Override
+    public void invalidateAll() {
+        if(loaded) {
+            startLoad();
+        }
+    }
+
+    /**
+     * Appends the entries locked since the last sync, and restarts a failed load.
+     */
+    @UseWorkload(Workload.BATCH)
+    @Scheduled(fixedDelayString = "${workledger.analytics.sync-interval:1s}")
+    public void appendLockedEntries() {
+        if(loadFailed && !loading.get()) {
+            loadFailed = false;
+            startLoad();
+        }
+
+        List<Long> ids = new ArrayList<>();
+        for(Long id = lockedIds.poll(); id != null; id = lockedIds.poll()) {
+            ids.add(id);
+        }
+        if(ids.isEmpty()) {
+            return;
+        }
+        try {
+            int appended = store.append(rowRepository.findLockedByIds(ids));
+            log.debug("Appended {} locked entries to the columnar store", appended);
+        } catch (RuntimeException e) {
+            // Not only database errors: the ids are polled already and would otherwise be lost
+            log.warn("Could not append {} locked entries to the columnar store, retrying", ids.size(), e);
+            lockedIds.addAll(ids);
+        }
+    }
+
+    private void startLoad() {
+        if(loading.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("locked-entry-store-load").start(this::loadAll);
+        }
+    }
+
+    void loadAll() {
+        Workload previous = WorkloadContext.set(Workload.BATCH);
+        try {
+            long start = System.nanoTime();
+            long afterId = 0;
+            List<LockedEntryRow> rows;
+            do {
+                rows = rowRepository.findLockedAfter(afterId, properties.getLoadChunkSize());
+                store.append(rows);
+                if(!rows.isEmpty()) {
+                    afterId = rows.getLast().id();
+                }
+            } while(rows.size() == properties.getLoadChunkSize());
+
+            loaded = true;
+            log.info("Loaded {} locked entries into the columnar store in {} ms",
+                    store.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            // Rows appended so far are kept and skipped by the rescan
+            log.error("Load of the columnar store failed, retrying with the next sync", e);
+            loadFailed = true;
+        } finally {
+            WorkloadContext.restore(previous);
+            loading.set(false);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.workledger.core.analytics.service.impl;
+
+import com.workledger.core.analytics.dto.LockedHoursGroup;
+import com.workledger.core.analytics.dto.LockedHoursResponse;
+import com.workledger.core.analytics.service.AnalyticsService;
+import com.workledger.core.analytics.service.LockedEntryStoreLoader;
+import com.workledger.core.analytics.store.LockedEntryColumnStore;
+import com.workledger.core.analytics.store.LockedEntryFilter;
+import com.workledger.core.analytics.store.LockedEntryGroupBy;
+import com.workledger.core.analytics.store.LockedEntryTotal;
+import com.workledger.core.common.exception.BusinessValidationException;
+import com.workledger.core.common.util.HoursUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static com.workledger.core.common.util.ValidationUtils.*;
+
+/**
+ * Implementation of AnalyticsService interface.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    private final LockedEntryColumnStore store;
+    private final LockedEntryStoreLoader storeLoader;
+
+    @Override
+    public LockedHoursResponse getLockedHours(LockedEntryFilter filter, LockedEntryGroupBy groupBy) {
+        requireNonNull(filter, "LockedEntryFilter");
+        requireNonNull(groupBy, "Group by");
+        log.debug("Aggregating locked hours for {} grouped by {}", filter, groupBy);
+        if(filter.startDate() != null && filter.endDate() != null && filter.startDate().isAfter(filter.endDate())) {
+            throw new BusinessValidationException("Start date cannot be after end date");
+        }
+
+        boolean complete = storeLoader.isLoaded();
+        long scannedEntries = store.size();
+        List<LockedEntryTotal> totals = store.aggregate(filter, groupBy);
+
+        long minutes = totals.stream().mapToLong(LockedEntryTotal::minutesSpent).sum();
+        long entryCount = totals.stream().mapToLong(LockedEntryTotal::entryCount).sum();
+
+        List<LockedHoursGroup> groups = groupBy == LockedEntryGroupBy.NONE
+                ? List.of()
+                : totals.stream()
+                        .sorted(groupBy == LockedEntryGroupBy.MONTH
+                                ? Comparator.comparing(LockedEntryTotal::key)
+                                : Comparator.comparingLong(LockedEntryTotal::minutesSpent).reversed())
+                        .map(total -> new LockedHoursGroup(total.key(), HoursUtils.toHours(total.minutesSpent()), total.entryCount()))
+                        .toList();
+
+        return new LockedHoursResponse(complete, scannedEntries, groupBy, HoursUtils.toHours(minutes), entryCount, groups);
+    }
+}
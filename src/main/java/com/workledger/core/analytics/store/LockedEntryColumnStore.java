@@ -0,0 +1,313 @@
+package com.workledger.core.analytics.store;
+
+import com.workledger.core.timesheet.domain.ProgramType;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process columnar copy of LOCKED work entries. LOCKED entries never change, so rows are only appended.
+ *
+ * Every column is a direct (off-heap) buffer of primitives: epoch day, month index, minutes
+ * (hours in fixed point) and dictionary codes for employee, program type and program reference.
+ * Filtered sums and group-bys are single counted loops over those buffers and never reach the database.
+ *
+ * Appends are serialized. Scans read an immutable {@link Columns} snapshot published through a volatile
+ * field: rows are written past the published size before the new size is published, so scans never
+ * block and never see a partly written row.
+ */
+@Component
+public class LockedEntryColumnStore {
+
+    private static final int INITIAL_CAPACITY = 1 << 14;
+    private static final int ANY = -1;
+    private static final int NO_MATCH = -2;
+    private static final ProgramType[] PROGRAM_TYPES = ProgramType.values();
+
+    private final IdSet loadedIds = new IdSet();
+    private final Map<Long, Integer> employeeCodes = new ConcurrentHashMap<>();
+    private final Map<String, Integer> referenceCodes = new ConcurrentHashMap<>();
+    private long[] employeeIds = new long[64];
+    private String[] references = new String[64];
+
+    private volatile Columns columns = new Columns(Buffers.allocate(INITIAL_CAPACITY), 0, employeeIds, references, 0, 0);
+
+    /**
+     * Appends rows not loaded yet.
+     *
+     * @return number of rows appended
+     */
+    public synchronized int append(Collection<LockedEntryRow> rows) {
+        Columns current = columns;
+        Buffers buffers = current.buffers();
+        int size = current.size();
+        int minMonth = current.minMonth();
+        int maxMonth = current.maxMonth();
+
+        for(LockedEntryRow row : rows) {
+            if(loadedIds.contains(row.id())) {
+                continue;
+            }
+            if(size == buffers.capacity()) {
+                buffers = buffers.copy(size, buffers.capacity() * 2);
+            }
+
+            int month = monthIndex(row.workDate());
+            buffers.employees().put(size, employeeCode(row.employeeId()));
+            buffers.days().put(size, Math.toIntExact(row.workDate().toEpochDay()));
+            buffers.months().put(size, month);
+            buffers.programTypes().put(size, (byte) row.programType().ordinal());
+            buffers.references().put(size, referenceCode(row.programReference()));
+            buffers.minutes().put(size, row.minutesSpent());
+
+            minMonth = size == 0 ? month : Math.min(minMonth, month);
+            maxMonth = size == 0 ? month : Math.max(maxMonth, month);
+            loadedIds.add(row.id());
+            size++;
+        }
+
+        int appended = size - current.size();
+        if(appended > 0) {
+            columns = new Columns(buffers, size, employeeIds, references, minMonth, maxMonth);
+        }
+        return appended;
+    }
+
+    public int size() {
+        return columns.size();
+    }
+
+    /**
+     * Sums minutes and counts entries matching the filter, per group.
+     *
+     * @return one total per non-empty group in dictionary order; a single total when not grouped
+     */
+    public List<LockedEntryTotal> aggregate(LockedEntryFilter filter, LockedEntryGroupBy groupBy) {
+        Columns snapshot = columns;
+        Buffers buffers = snapshot.buffers();
+        int size = snapshot.size();
+
+        int employee = lookup(employeeCodes, filter.employeeId());
+        int reference = lookup(referenceCodes, filter.programReference());
+        if(employee == NO_MATCH || reference == NO_MATCH) {
+            return groupBy == LockedEntryGroupBy.NONE ? List.of(new LockedEntryTotal(null, 0, 0)) : List.of();
+        }
+        int programType = filter.programType() == null ? ANY : filter.programType().ordinal();
+        int fromDay = filter.startDate() == null ? Integer.MIN_VALUE : Math.toIntExact(filter.startDate().toEpochDay());
+        int toDay = filter.endDate() == null ? Integer.MAX_VALUE : Math.toIntExact(filter.endDate().toEpochDay());
+        int minMonth = snapshot.minMonth();
+
+        int groups = switch(groupBy) {
+            case NONE -> 1;
+            case EMPLOYEE -> snapshot.employeeIds().length;
+            case PROGRAM_TYPE -> PROGRAM_TYPES.length;
+            case PROGRAM_REFERENCE -> snapshot.references().length;
+            case MONTH -> snapshot.maxMonth() - minMonth + 1;
+        };
+        long[] minutes = new long[groups];
+        long[] counts = new long[groups];
+
+        IntBuffer days = buffers.days();
+        IntBuffer employees = buffers.employees();
+        IntBuffer references = buffers.references();
+        IntBuffer months = buffers.months();
+        ByteBuffer programTypes = buffers.programTypes();
+        IntBuffer minutesSpent = buffers.minutes();
+
+        for(int i = 0; i < size; i++) {
+            int day = days.get(i);
+            if(day < fromDay || day > toDay
+                    || (employee != ANY && employees.get(i) != employee)
+                    || (programType != ANY && programTypes.get(i) != programType)
+                    || (reference != ANY && references.get(i) != reference)) {
+                continue;
+            }
+            int group = switch(groupBy) {
+                case NONE -> 0;
+                case EMPLOYEE -> employees.get(i);
+                case PROGRAM_TYPE -> programTypes.get(i);
+                case PROGRAM_REFERENCE -> references.get(i);
+                case MONTH -> months.get(i) - minMonth;
+            };
+            minutes[group] += minutesSpent.get(i);
+            counts[group]++;
+        }
+
+        if(groupBy == LockedEntryGroupBy.NONE) {
+            return List.of(new LockedEntryTotal(null, minutes[0], counts[0]));
+        }
+        List<LockedEntryTotal> totals = new ArrayList<>();
+        for(int group = 0; group < groups; group++) {
+            if(counts[group] > 0) {
+                totals.add(new LockedEntryTotal(key(snapshot, groupBy, group), minutes[group], counts[group]));
+            }
+        }
+        return totals;
+    }
+
+    // Private helper methods
+    private int employeeCode(long employeeId) {
+        Integer code = employeeCodes.get(employeeId);
+        if(code == null) {
+            code = employeeCodes.size();
+            if(code == employeeIds.length) {
+                employeeIds = Arrays.copyOf(employeeIds, code * 2);
+            }
+            employeeIds[code] = employeeId;
+            employeeCodes.put(employeeId, code);
+        }
+        return code;
+    }
+
+    private int referenceCode(String reference) {
+        Integer code = referenceCodes.get(reference);
+        if(code == null) {
+            code = referenceCodes.size();
+            if(code == references.length) {
+                references = Arrays.copyOf(references, code * 2);
+            }
+            references[code] = reference;
+            referenceCodes.put(reference, code);
+        }
+        return code;
+    }
+
+    private static <K> int lookup(Map<K, Integer> codes, K value) {
+        if(value == null) {
+            return ANY;
+        }
+        Integer code = codes.get(value);
+        return code != null ? code : NO_MATCH;
+    }
+
+    private static String key(Columns snapshot, LockedEntryGroupBy groupBy, int group) {
+        return switch(groupBy) {
+            case NONE -> null;
+            case EMPLOYEE -> String.valueOf(snapshot.employeeIds()[group]);
+            case PROGRAM_TYPE -> PROGRAM_TYPES[group].name();
+            case PROGRAM_REFERENCE -> snapshot.references()[group];
+            case MONTH -> {
+                int month = snapshot.minMonth() + group;
+                yield YearMonth.of(month / 12, month % 12 + 1).toString();
+            }
+        };
+    }
+
+    private static int monthIndex(LocalDate date) {
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+
+    /**
+     * Published state. Dictionaries are shared with the writer, which only writes past codes already in use.
+     */
+    private record Columns(
+            Buffers buffers,
+            int size,
+            long[] employeeIds,
+            String[] references,
+            int minMonth,
+            int maxMonth
+    ) {}
+
+    /**
+     * Ids of the loaded rows: an open-addressing hash set of primitive longs, so memory follows the
+     * number of rows rather than the largest id. Only used under the append lock.
+     */
+    private static final class IdSet {
+
+        private static final long EMPTY = 0;
+
+        private long[] slots = new long[INITIAL_CAPACITY];
+        private int size;
+        private boolean containsEmpty;
+
+        boolean contains(long id) {
+            if(id == EMPTY) {
+                return containsEmpty;
+            }
+            return slots[slot(slots, id)] == id;
+        }
+
+        void add(long id) {
+            if(id == EMPTY) {
+                containsEmpty = true;
+                return;
+            }
+            int slot = slot(slots, id);
+            if(slots[slot] == id) {
+                return;
+            }
+            slots[slot] = id;
+            // Grow at half full to keep probe sequences short
+            if(++size > slots.length / 2) {
+                long[] previous = slots;
+                slots = new long[previous.length * 2];
+                for(long value : previous) {
+                    if(value != EMPTY) {
+                        slots[slot(slots, value)] = value;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Slot holding the id, or the empty slot where it belongs. The table length is a power of two.
+         */
+        private static int slot(long[] table, long id) {
+            int mask = table.length - 1;
+            int slot = (int) (id * 0x9E3779B97F4A7C15L >>> 32) & mask;
+            while(table[slot] != EMPTY && table[slot] != id) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+
+    private record Buffers(
+            int capacity,
+            IntBuffer employees,
+            IntBuffer days,
+            IntBuffer months,
+            ByteBuffer programTypes,
+            IntBuffer references,
+            IntBuffer minutes
+    ) {
+
+        static Buffers allocate(int capacity) {
+            return new Buffers(
+                    capacity,
+                    intColumn(capacity),
+                    intColumn(capacity),
+                    intColumn(capacity),
+                    ByteBuffer.allocateDirect(capacity),
+                    intColumn(capacity),
+                    intColumn(capacity)
+            );
+        }
+
+        Buffers copy(int size, int newCapacity) {
+            Buffers copy = allocate(newCapacity);
+            copy.employees().put(0, employees, 0, size);
+            copy.days().put(0, days, 0, size);
+            copy.months().put(0, months, 0, size);
+            copy.programTypes().put(0, programTypes, 0, size);
+            copy.references().put(0, references, 0, size);
+            copy.minutes().put(0, minutes, 0, size);
+            return copy;
+        }
+
+        private static IntBuffer intColumn(int capacity) {
+            return ByteBuffer.allocateDirect(capacity * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+        }
+    }
+}
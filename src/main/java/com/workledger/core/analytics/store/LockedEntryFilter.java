@@ -0,0 +1,22 @@
+package com.workledger.core.analytics.store;
+
+import com.workledger.core.timesheet.domain.ProgramType;
+
+import java.time.LocalDate;
+
+/**
+ * Scan predicate; null components match everything.
+ *
+ * @param employeeId owner of the entries
+ * @param startDate first work date (inclusive)
+ * @param endDate last work date (inclusive)
+ * @param programType program type
+ * @param programReference exact program reference
+ */
+public record LockedEntryFilter(
+        Long employeeId,
+        LocalDate startDate,
+        LocalDate endDate,
+        ProgramType programType,
+        String programReference
+) {}
@@ -0,0 +1,9 @@
+package com.workledger.core.analytics.store;
+
+public enum LockedEntryGroupBy {
+    NONE,
+    EMPLOYEE,
+    PROGRAM_TYPE,
+    PROGRAM_REFERENCE,
+    MONTH
+}
@@ -0,0 +1,17 @@
+package com.workledger.core.analytics.store;
+
+import com.workledger.core.timesheet.domain.ProgramType;
+
+import java.time.LocalDate;
+
+/**
+ * The columns of a LOCKED work entry kept by {@link LockedEntryColumnStore}.
+ */
+public record LockedEntryRow(
+        long id,
+        long employeeId,
+        LocalDate workDate,
+        ProgramType programType,
+        String programReference,
+        int minutesSpent
+) {}
@@ -0,0 +1,14 @@
+package com.workledger.core.analytics.store;
+
+/**
+ * Sum and count of one group.
+ *
+ * @param key the group value, null when not grouped
+ * @param minutesSpent summed minutes
+ * @param entryCount matching entries
+ */
+public record LockedEntryTotal(
+        String key,
+        long minutesSpent,
+        long entryCount
+) {}
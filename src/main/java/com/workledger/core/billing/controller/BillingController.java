@@ -0,0 +1,44 @@
+package com.workledger.core.billing.controller;
+
+import com.workledger.core.billing.dto.MonthlyBillingSummaryResponse;
+import com.workledger.core.billing.service.BillingSummaryService;
+import com.workledger.core.common.dto.ApiResponse;
+import com.workledger.core.timesheet.domain.ProgramType;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+
+@RestController
+@RequestMapping("/api/v1/billing")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Billing", description = "Billing report APIs")
+public class BillingController {
+
+    private final BillingSummaryService billingSummaryService;
+
+    @GetMapping("/monthly-summary")
+    @Operation(summary = "Get monthly billing summary", description = "Hours and entry counts per program, month and status, read from a periodically refreshed summary")
+    public ResponseEntity<ApiResponse<MonthlyBillingSummaryResponse>> getMonthlySummary(
+            @Parameter(description = "First month (yyyy-MM)")
+            @RequestParam YearMonth from,
+            @Parameter(description = "Last month (yyyy-MM)")
+            @RequestParam YearMonth to,
+            @RequestParam(required = false) ProgramType programType,
+            @RequestParam(required = false) String programReference
+    ) {
+        log.info("Fetching monthly billing summary from {} to {}", from, to);
+        MonthlyBillingSummaryResponse response = billingSummaryService.getMonthlySummary(from, to, programType, programReference);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "Monthly billing summary fetched successfully"));
+    }
+}
@@ -0,0 +1,15 @@
+package com.workledger.core.billing.dto;
+
+import com.workledger.core.timesheet.domain.ProgramType;
+import com.workledger.core.timesheet.domain.WorkEntryStatus;
+
+import java.time.YearMonth;
+
+public record MonthlyBillingSummary(
+        YearMonth month,
+        ProgramType programType,
+        String programReference,
+        WorkEntryStatus workEntryStatus,
+        Double hoursSpent,
+        long entryCount
+) {}
@@ -0,0 +1,15 @@
+package com.workledger.core.billing.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Monthly billing rows read from the materialized summary.
+ *
+ * @param refreshedAt when the summary was last refreshed; writes after this are not included
+ * @param rows summary rows ordered by month, program type and reference
+ */
+public record MonthlyBillingSummaryResponse(
+        Instant refreshedAt,
+        List<MonthlyBillingSummary> rows
+) {}
@@ -0,0 +1,101 @@
+package com.workledger.core.billing.repository;
+
+import com.workledger.core.billing.dto.MonthlyBillingSummary;
+import com.workledger.core.common.util.HoursUtils;
+import com.workledger.core.timesheet.domain.ProgramType;
+import com.workledger.core.timesheet.domain.WorkEntryStatus;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads and refreshes the monthly_billing_summary materialized view (PostgreSQL only).
+ */
+@Repository
+public class BillingSummaryRepository {
+
+    public static final String VIEW_NAME = "monthly_billing_summary";
+
+    /**
+     * Advisory lock key held while refreshing, so only one node refreshes at a time
+     */
+    private static final long REFRESH_LOCK_KEY = 0x62696c6c696e67L;
+
+    private final JdbcClient jdbcClient;
+
+    public BillingSummaryRepository(DataSource dataSource) {
+        this.jdbcClient = JdbcClient.create(dataSource);
+    }
+
+    public List<MonthlyBillingSummary> findMonthlySummaries(YearMonth from, YearMonth to,
+                                                            ProgramType programType, String programReference) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("from", from.atDay(1));
+        params.put("to", to.atDay(1));
+
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT billing_month, program_type, program_reference, work_entry_status, minutes_spent, entry_count")
+                .append(" FROM " + VIEW_NAME)
+                .append(" WHERE billing_month BETWEEN :from AND :to");
+        if(programType != null) {
+            sql.append(" AND program_type = :programType");
+            params.put("programType", programType.name());
+        }
+        if(programReference != null) {
+            sql.append(" AND program_reference = :programReference");
+            params.put("programReference", programReference);
+        }
+        sql.append(" ORDER BY billing_month, program_type, program_reference, work_entry_status");
+
+        return jdbcClient.sql(sql.toString())
+                .params(params)
+                .query((rs, rowNum) -> new MonthlyBillingSummary(
+                        YearMonth.from(rs.getObject("billing_month", LocalDate.class)),
+                        ProgramType.valueOf(rs.getString("program_type")),
+                        rs.getString("program_reference"),
+                        WorkEntryStatus.valueOf(rs.getString("work_entry_status")),
+                        HoursUtils.toHours(rs.getLong("minutes_spent")),
+                        rs.getLong("entry_count")
+                ))
+                .list();
+    }
+
+    public Optional<Instant> findLastRefresh() {
+        return jdbcClient.sql("SELECT refreshed_at FROM materialized_view_refresh WHERE view_name = :viewName")
+                .param("viewName", VIEW_NAME)
+                .query(Timestamp.class)
+                .optional()
+                .map(Timestamp::toInstant);
+    }
+
+    /**
+     * Refreshes the view concurrently, so readers are never blocked, and records the refresh time.
+     * Must run inside a transaction: the advisory lock is released when it ends.
+     *
+     * @return false if another node is refreshing right now
+     */
+    public boolean refreshIfNotRunning() {
+        Boolean locked = jdbcClient.sql("SELECT pg_try_advisory_xact_lock(:key)")
+                .param("key", REFRESH_LOCK_KEY)
+                .query(Boolean.class)
+                .single();
+        if(!Boolean.TRUE.equals(locked)) {
+            return false;
+        }
+
+        jdbcClient.sql("REFRESH MATERIALIZED VIEW CONCURRENTLY " + VIEW_NAME).update();
+        jdbcClient.sql("UPDATE materialized_view_refresh SET refreshed_at = now() WHERE view_name = :viewName")
+                .param("viewName", VIEW_NAME)
+                .update();
+        return true;
+    }
+}
@@ -0,0 +1,86 @@
+package com.workledger.core.billing.service;
+
+import com.workledger.core.billing.repository.BillingSummaryRepository;
+import com.workledger.core.common.jdbc.UseWorkload;
+import com.workledger.core.common.jdbc.Workload;
+import com.workledger.core.timesheet.event.WorkEntryChangeType;
+import com.workledger.core.timesheet.event.WorkEntryChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps monthly_billing_summary fresh: on a fixed schedule, and shortly after entries are locked
+ * (locking is what makes hours billable). Several locks in a row cause a single refresh.
+ */
+@Slf4j
+@Component
+public class BillingSummaryRefresher {
+
+    private final BillingSummaryRepository billingSummaryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    public BillingSummaryRefresher(BillingSummaryRepository billingSummaryRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.billingSummaryRepository = billingSummaryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @TransactionalEventListener
+    public void onWorkEntryChanged(WorkEntryChangedEvent event) {
+        if(event.changeType() == WorkEntryChangeType.LOCKED) {
+            dirty.set(true);
+        }
+    }
+
+    @UseWorkload(Workload.BATCH)
+    @Scheduled(
+            initialDelayString = "${workledger.billing.refresh-interval:15m}",
+            fixedDelayString = "${workledger.billing.refresh-interval:15m}"
+    )
+    public void refreshPeriodically() {
+        dirty.set(false);
+        refresh();
+    }
+
+    @UseWorkload(Workload.BATCH)
+    @Scheduled(fixedDelayString = "${workledger.billing.locked-refresh-delay:30s}")
+    public void refreshAfterLocks() {
+        if(dirty.getAndSet(false)) {
+            refresh();
+        }
+    }
+
+    /**
+     * Refreshes the summary unless another node is already doing so.
+     *
+     * @return true if this call refreshed the summary
+     */
+    public boolean refresh() {
+        try {
+            long start = System.nanoTime();
+            boolean refreshed = Boolean.TRUE.equals(
+                    transactionTemplate.execute(status -> billingSummaryRepository.refreshIfNotRunning()));
+
+            if(refreshed) {
+                log.info("Refreshed {} in {} ms", BillingSummaryRepository.VIEW_NAME, (System.nanoTime() - start) / 1_000_000);
+            } else {
+                // The running refresh may have started before our changes were committed
+                log.debug("Refresh of {} already running elsewhere", BillingSummaryRepository.VIEW_NAME);
+                dirty.set(true);
+            }
+            return refreshed;
+        } catch (DataAccessException e) {
+            log.warn("Failed to refresh {}", BillingSummaryRepository.VIEW_NAME, e);
+            dirty.set(true);
+            return false;
+        }
+    }
+}
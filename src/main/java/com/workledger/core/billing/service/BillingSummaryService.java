@@ -0,0 +1,25 @@
+package com.workledger.core.billing.service;
+
+import com.workledger.core.billing.dto.MonthlyBillingSummaryResponse;
+import com.workledger.core.timesheet.domain.ProgramType;
+
+import java.time.YearMonth;
+
+/**
+ * Service interface for billing reports.
+ * Reads come from a periodically refreshed materialized summary, never from work_entries directly.
+ */
+public interface BillingSummaryService {
+
+    /**
+     * Retrieves monthly hours and entry counts per program and status.
+     *
+     * @param from first month (inclusive)
+     * @param to last month (inclusive)
+     * @param programType optional program type filter
+     * @param programReference optional program reference filter
+     * @return summary rows with the time of the last refresh
+     * @throws com.workledger.core.common.exception.BusinessValidationException if from is after to
+     */
+    MonthlyBillingSummaryResponse getMonthlySummary(YearMonth from, YearMonth to, ProgramType programType, String programReference);
+}
@@ -0,0 +1,51 @@
+package com.workledger.core.billing.service.impl;
+
+import com.workledger.core.billing.dto.MonthlyBillingSummary;
+import com.workledger.core.billing.dto.MonthlyBillingSummaryResponse;
+import com.workledger.core.billing.repository.BillingSummaryRepository;
+import com.workledger.core.billing.service.BillingSummaryService;
+import com.workledger.core.common.concurrent.Coalesce;
+import com.workledger.core.common.exception.BusinessValidationException;
+import com.workledger.core.common.jdbc.UseWorkload;
+import com.workledger.core.common.jdbc.Workload;
+import com.workledger.core.timesheet.domain.ProgramType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+
+import static com.workledger.core.common.util.ValidationUtils.*;
+
+/**
+ * Implementation of BillingSummaryService interface.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class BillingSummaryServiceImpl implements BillingSummaryService {
+
+    private final BillingSummaryRepository billingSummaryRepository;
+
+    @Override
+    @UseWorkload(Workload.REPORTING)
+    @Coalesce
+    public MonthlyBillingSummaryResponse getMonthlySummary(YearMonth from, YearMonth to, ProgramType programType, String programReference) {
+        log.debug("Fetching monthly billing summary from {} to {}", from, to);
+        requireNonNull(from, "From month");
+        requireNonNull(to, "To month");
+        if(from.isAfter(to)) {
+            throw new BusinessValidationException("From month cannot be after to month");
+        }
+
+        // Read the refresh time first: the rows are then at least as fresh as reported
+        Instant refreshedAt = billingSummaryRepository.findLastRefresh().orElse(null);
+        List<MonthlyBillingSummary> rows = billingSummaryRepository.findMonthlySummaries(from, to, programType, programReference);
+
+        return new MonthlyBillingSummaryResponse(refreshedAt, rows);
+    }
+}
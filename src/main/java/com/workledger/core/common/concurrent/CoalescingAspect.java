@@ -0,0 +1,115 @@
+package com.workledger.core.common.concurrent;
+
+import com.workledger.core.common.jdbc.StatementScope;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Applies {@link Coalesce}. Ordered ahead of the transaction interceptor, so callers that join a flight
+ * never open a transaction or take a connection.
+ * <p>
+ * Calls made inside a caller's transaction are not coalesced, since they may see that transaction's
+ * uncommitted writes. A leader whose statements were cancelled because its own client went away does not
+ * fail the callers sharing its flight; they run the call again. Exports per method {@code workledger.coalesce.calls} (tagged shared=true|false)
+ * and {@code workledger.coalesce.ratio}, the share of calls answered by another caller's execution.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class CoalescingAspect {
+
+    private final SingleFlight singleFlight;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, MethodStats> stats = new ConcurrentHashMap<>();
+
+    public CoalescingAspect(
+            @Value("${workledger.coalesce.linger:100ms}") Duration linger,
+            MeterRegistry meterRegistry
+    ) {
+        this.singleFlight = new SingleFlight(linger, e -> leaderCancelled());
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(com.workledger.core.common.concurrent.Coalesce)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        if(TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        SingleFlight.Outcome outcome = singleFlight.execute(
+                new CallKey(method, Arrays.asList(joinPoint.getArgs())), joinPoint::proceed);
+        stats(method.getName()).record(outcome.shared());
+        return outcome.value();
+    }
+
+    /**
+     * Runs on the leader's thread, which carries its request's statement scope.
+     */
+    private static boolean leaderCancelled() {
+        StatementScope scope = StatementScope.current();
+        return scope != null && scope.isCancelled();
+    }
+
+    private MethodStats stats(String method) {
+        return stats.computeIfAbsent(method, name -> new MethodStats(name, meterRegistry));
+    }
+
+    private record CallKey(Method method, List<Object> args) {}
+
+    private static final class MethodStats {
+
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong sharedCalls = new AtomicLong();
+        private final Counter executed;
+        private final Counter shared;
+
+        MethodStats(String method, MeterRegistry meterRegistry) {
+            this.executed = Counter.builder("workledger.coalesce.calls")
+                    .tag("method", method)
+                    .tag("shared", "false")
+                    .register(meterRegistry);
+            this.shared = Counter.builder("workledger.coalesce.calls")
+                    .tag("method", method)
+                    .tag("shared", "true")
+                    .register(meterRegistry);
+            Gauge.builder("workledger.coalesce.ratio", this, MethodStats::ratio)
+                    .tag("method", method)
+                    .register(meterRegistry);
+        }
+
+        void record(boolean sharedCall) {
+            calls.incrementAndGet();
+            if(sharedCall) {
+                sharedCalls.incrementAndGet();
+                shared.increment();
+            }
+            else {
+                executed.increment();
+            }
+        }
+
+        double ratio() {
+            long total = calls.get();
+            return total == 0 ? 0.0 : (double) sharedCalls.get() / total;
+        }
+    }
+}
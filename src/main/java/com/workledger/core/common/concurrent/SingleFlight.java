@@ -0,0 +1,123 @@
+package com.workledger.core.common.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Collapses concurrent calls with the same key into one execution. The first caller runs the call on its own
+ * thread; callers arriving while it runs, or within {@code linger} after it returned, get its result or exception.
+ * Failures are never lingered, so the next caller retries.
+ * <p>
+ * Failures that only concern the leader (e.g. its client went away and its statements were cancelled) are not
+ * passed on: the flight is dropped and the callers waiting on it start over, one of them as the new leader.
+ */
+public class SingleFlight {
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+    private final Duration linger;
+    private final Predicate<Throwable> leaderOnly;
+
+    public SingleFlight(Duration linger) {
+        this(linger, e -> false);
+    }
+
+    /**
+     * @param leaderOnly tells, on the leader's thread, whether its failure concerns the leader alone
+     */
+    public SingleFlight(Duration linger, Predicate<Throwable> leaderOnly) {
+        if(linger.isNegative()) {
+            throw new IllegalArgumentException("linger must not be negative");
+        }
+        this.linger = linger;
+        this.leaderOnly = leaderOnly;
+    }
+
+    /**
+     * @param key identifies equal calls
+     * @param call the call, run on the calling thread when no equal call is in flight
+     * @return the result, and whether it came from another caller's execution
+     */
+    public Outcome execute(Object key, Call call) throws Throwable {
+        while(true) {
+            CompletableFuture<Object> flight = new CompletableFuture<>();
+            CompletableFuture<Object> existing = flights.putIfAbsent(key, flight);
+            if(existing == null) {
+                return lead(key, flight, call);
+            }
+            try {
+                return new Outcome(await(existing), true);
+            } catch(Abandoned e) {
+                // The leader gave up for its own reasons; the flight is gone, so start over
+            }
+        }
+    }
+
+    /**
+     * Number of keys in flight or lingering.
+     */
+    public int size() {
+        return flights.size();
+    }
+
+    private Outcome lead(Object key, CompletableFuture<Object> flight, Call call) throws Throwable {
+        try {
+            Object result = call.call();
+            flight.complete(result);
+            release(key, flight, linger);
+            return new Outcome(result, false);
+        } catch(Throwable e) {
+            // Removed before completing, so the waiters starting over do not find this flight again
+            release(key, flight, Duration.ZERO);
+            flight.completeExceptionally(leaderOnly.test(e) ? new Abandoned() : e);
+            throw e;
+        }
+    }
+
+    private void release(Object key, CompletableFuture<Object> flight, Duration delay) {
+        if(delay.isZero()) {
+            flights.remove(key, flight);
+        }
+        else {
+            CompletableFuture.delayedExecutor(delay.toNanos(), TimeUnit.NANOSECONDS)
+                    .execute(() -> flights.remove(key, flight));
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> flight) throws Throwable {
+        try {
+            return flight.get();
+        } catch(ExecutionException e) {
+            throw e.getCause();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a coalesced call", e);
+        }
+    }
+
+    /**
+     * Completes a flight whose failure is not passed on to its waiters.
+     */
+    private static final class Abandoned extends RuntimeException {
+
+        Abandoned() {
+            super(null, null, false, false);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Call {
+
+        Object call() throws Throwable;
+    }
+
+    /**
+     * @param value the call's result
+     * @param shared whether the call ran for another caller
+     */
+    public record Outcome(Object value, boolean shared) {}
+}
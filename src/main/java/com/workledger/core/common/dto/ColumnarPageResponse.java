@@ -0,0 +1,66 @@
+package com.workledger.core.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Paginated response carrying its content as columns instead of rows.
+ * Pagination metadata is identical to {@link PageResponse}.
+ *
+ * @param <C> the columnar representation of the page content
+ */
+@Data
+@Builder
+@Schema(description = "Paginated response in columnar format")
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ColumnarPageResponse<C> {
+
+    @Schema(description = "Page content, one array per field")
+    private C columns;
+
+    private int pageNumber;
+    private int pageSize;
+    private long totalElements;
+    private int totalPages;
+    private boolean first;
+    private boolean last;
+    private boolean hasNext;
+    private boolean hasPrevious;
+    private int numberOfElements;
+    private boolean empty;
+
+    // ================== Static Factory Methods ==================
+
+    /**
+     * Creates a ColumnarPageResponse from Spring Data Page with column encoding
+     *
+     * @param page Spring Data Page object
+     * @param encoder function turning the page content into columns
+     * @return ColumnarPageResponse with all pagination metadata
+     */
+    public static <T, C> ColumnarPageResponse<C> from(Page<T> page, Function<List<T>, C> encoder) {
+        return ColumnarPageResponse.<C>builder()
+                .columns(encoder.apply(page.getContent()))
+                .pageNumber(page.getNumber())
+                .pageSize(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .first(page.isFirst())
+                .last(page.isLast())
+                .hasNext(page.hasNext())
+                .hasPrevious(page.hasPrevious())
+                .numberOfElements(page.getNumberOfElements())
+                .empty(page.isEmpty())
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.workledger.core.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset paginated response.
+ * Unlike {@link PageResponse} it carries an opaque cursor instead of page numbers,
+ * so fetching the next page never re-reads or counts the rows already returned.
+ *
+ * @param <T> the type of the page content
+ */
+@Data
+@Builder
+@Schema(description = "Cursor paginated response")
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPage<T> {
+
+    @Schema(description = "Page content")
+    private List<T> content;
+
+    private int size;
+    private int numberOfElements;
+    private boolean hasNext;
+
+    @Schema(description = "Cursor to pass back for the next page, absent on the last page")
+    private String nextCursor;
+
+    // ================== Static Factory Methods ==================
+
+    /**
+     * Creates a CursorPage from a slice fetched with one extra row.
+     *
+     * @param rows rows fetched with a limit of {@code size + 1}
+     * @param size requested page size
+     * @param cursorOf function encoding the cursor of a row
+     * @return CursorPage with at most {@code size} elements
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorPage.<T>builder()
+                .content(content)
+                .size(size)
+                .numberOfElements(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null)
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.workledger.core.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Dictionary-encoded column for columnar responses.
+ * Each distinct value is sent once in {@code values}; rows reference it by index in {@code codes}.
+ *
+ * @param values distinct values in order of first appearance
+ * @param codes index into {@code values} for every row
+ * @param <T> the type of the encoded value
+ */
+@Schema(description = "Dictionary-encoded column")
+public record DictionaryColumn<T>(
+        List<T> values,
+        int[] codes
+) {
+
+    /**
+     * Encodes a single attribute of the given rows.
+     *
+     * @param rows the rows to encode
+     * @param extractor function returning the attribute to encode
+     * @return dictionary column with one code per row
+     */
+    public static <S, T> DictionaryColumn<T> encode(List<S> rows, Function<S, T> extractor) {
+        Map<T, Integer> dictionary = new HashMap<>();
+        List<T> values = new ArrayList<>();
+        int[] codes = new int[rows.size()];
+
+        for(int i = 0; i < rows.size(); i++) {
+            T value = extractor.apply(rows.get(i));
+            Integer code = dictionary.get(value);
+            if(code == null) {
+                code = values.size();
+                dictionary.put(value, code);
+                values.add(value);
+            }
+            codes[i] = code;
+        }
+        return new DictionaryColumn<>(values, codes);
+    }
+}
@@ -0,0 +1,21 @@
+package com.workledger.core.common.invalidation;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Drops in-process state made stale by writes on another node.
+ * Implementations are called on the listener thread and must not block for long.
+ */
+public interface InvalidationHandler {
+
+    /**
+     * Evicts what depends on the given work entries or work dates.
+     */
+    void invalidate(Set<Long> ids, Set<LocalDate> workDates);
+
+    /**
+     * Evicts everything: some invalidations may have been missed.
+     */
+    void invalidateAll();
+}
@@ -0,0 +1,178 @@
+package com.workledger.core.common.invalidation;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Listens for invalidations of other nodes on a dedicated PostgreSQL connection and hands them to the
+ * {@link InvalidationHandler}s.
+ *
+ * NOTIFY is not durable: whatever is sent while this node is not listening is lost. Handlers are therefore
+ * told to drop everything after every (re)connect and whenever a node's sequence has a gap.
+ * The connection does not come from a pool, so listening never takes a connection from request handling.
+ */
+@Slf4j
+public class InvalidationListener {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final ConnectionFactory connectionFactory;
+    private final String nodeId;
+    private final List<InvalidationHandler> handlers;
+    private final InvalidationProperties properties;
+    private final Map<String, Long> lastSequences = new HashMap<>();
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public InvalidationListener(ConnectionFactory connectionFactory,
+                                String nodeId,
+                                List<InvalidationHandler> handlers,
+                                InvalidationProperties properties) {
+        if(!CHANNEL_NAME.matcher(properties.getChannel()).matches()) {
+            throw new IllegalArgumentException("Invalid invalidation channel name: " + properties.getChannel());
+        }
+        this.connectionFactory = connectionFactory;
+        this.nodeId = nodeId;
+        this.handlers = List.copyOf(handlers);
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        thread = Thread.ofPlatform().name("invalidation-listener").daemon().start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if(thread != null) {
+            thread.interrupt();
+            thread.join(properties.getPollTimeout().multipliedBy(2).toMillis());
+        }
+    }
+
+    private void run() {
+        Duration reconnectDelay = properties.getReconnectDelay();
+        while(running) {
+            try(Connection connection = connectionFactory.connect()) {
+                listen(connection);
+                reconnectDelay = properties.getReconnectDelay();
+                receive(connection);
+            } catch (SQLException e) {
+                if(!running) {
+                    break;
+                }
+                log.warn("Invalidation listener lost its connection, reconnecting in {}", reconnectDelay, e);
+                try {
+                    Thread.sleep(reconnectDelay.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                reconnectDelay = min(reconnectDelay.multipliedBy(2), properties.getMaxReconnectDelay());
+            }
+        }
+        log.info("Invalidation listener stopped");
+    }
+
+    private void listen(Connection connection) throws SQLException {
+        connection.setAutoCommit(true);
+        try(Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + properties.getChannel());
+        }
+        log.info("Listening for invalidations on channel {}", properties.getChannel());
+
+        // Anything sent before LISTEN took effect is lost
+        lastSequences.clear();
+        invalidateAll("listener (re)connected");
+    }
+
+    private void receive(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        int pollTimeout = Math.toIntExact(properties.getPollTimeout().toMillis());
+        long lastActivity = System.nanoTime();
+
+        while(running) {
+            PGNotification[] notifications = pgConnection.getNotifications(pollTimeout);
+            if(notifications != null && notifications.length > 0) {
+                for(PGNotification notification : notifications) {
+                    handle(notification.getParameter());
+                }
+                lastActivity = System.nanoTime();
+            } else if(System.nanoTime() - lastActivity > properties.getKeepAliveInterval().toNanos()) {
+                // A dead TCP connection is only noticed when something is sent
+                try(Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                lastActivity = System.nanoTime();
+            }
+        }
+    }
+
+    void handle(String payload) {
+        InvalidationMessage message;
+        try {
+            message = InvalidationMessage.decode(payload);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring invalidation: {}", e.getMessage());
+            return;
+        }
+        if(nodeId.equals(message.nodeId())) {
+            // Evicted locally when the transaction committed
+            return;
+        }
+
+        Long previous = lastSequences.put(message.nodeId(), message.sequence());
+        if(previous != null && message.sequence() != previous + 1) {
+            invalidateAll("missed invalidations " + (previous + 1) + " to " + (message.sequence() - 1)
+                    + " of node " + message.nodeId());
+            return;
+        }
+
+        for(InvalidationHandler handler : handlers) {
+            try {
+                handler.invalidate(message.ids(), message.workDates());
+            } catch (RuntimeException e) {
+                log.error("{} failed to invalidate {}", handler.getClass().getSimpleName(), message, e);
+            }
+        }
+    }
+
+    private void invalidateAll(String reason) {
+        log.info("Dropping all cached state: {}", reason);
+        for(InvalidationHandler handler : handlers) {
+            try {
+                handler.invalidateAll();
+            } catch (RuntimeException e) {
+                log.error("{} failed to invalidate everything", handler.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    /**
+     * Opens the dedicated listening connection.
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+
+        Connection connect() throws SQLException;
+    }
+}
@@ -0,0 +1,61 @@
+package com.workledger.core.common.invalidation;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * One NOTIFY payload: {@code nodeId|sequence|id,id,...|date,date,...}.
+ * Sequences are consecutive per node, so a listener can tell when it missed a message.
+ *
+ * @param nodeId the publishing node, new on every start
+ * @param sequence position in the node's message stream, starting at 1
+ * @param ids work entry ids to evict
+ * @param workDates work dates to evict
+ */
+public record InvalidationMessage(
+        String nodeId,
+        long sequence,
+        Set<Long> ids,
+        Set<LocalDate> workDates
+) {
+
+    /**
+     * Keys of each kind per message: 200 ids and 200 dates stay well below the 8000 byte NOTIFY payload limit
+     */
+    public static final int MAX_KEYS = 200;
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        return nodeId + SEPARATOR + sequence + SEPARATOR
+                + ids.stream().map(String::valueOf).collect(Collectors.joining(",")) + SEPARATOR
+                + workDates.stream().map(LocalDate::toString).collect(Collectors.joining(","));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the payload is malformed
+     */
+    public static InvalidationMessage decode(String payload) {
+        String[] parts = payload.split("\\|", -1);
+        if(parts.length != 4) {
+            throw new IllegalArgumentException("Malformed invalidation payload: " + payload);
+        }
+        try {
+            return new InvalidationMessage(
+                    parts[0],
+                    Long.parseLong(parts[1]),
+                    split(parts[2]).stream().map(Long::valueOf).collect(Collectors.toCollection(LinkedHashSet::new)),
+                    split(parts[3]).stream().map(LocalDate::parse).collect(Collectors.toCollection(LinkedHashSet::new))
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed invalidation payload: " + payload, e);
+        }
+    }
+
+    private static Set<String> split(String keys) {
+        return keys.isEmpty() ? Set.of() : new LinkedHashSet<>(Arrays.asList(keys.split(",")));
+    }
+}
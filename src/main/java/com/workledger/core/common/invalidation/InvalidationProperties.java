@@ -0,0 +1,43 @@
+package com.workledger.core.common.invalidation;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Cross-node cache invalidation over PostgreSQL LISTEN/NOTIFY.
+ */
+@Data
+@ConfigurationProperties(prefix = "workledger.invalidation")
+public class InvalidationProperties {
+
+    private boolean enabled;
+
+    /**
+     * NOTIFY channel shared by all nodes
+     */
+    private String channel = "workledger_invalidation";
+
+    /**
+     * Keys committed within this interval are sent together
+     */
+    private Duration flushInterval = Duration.ofMillis(50);
+
+    /**
+     * How long the listener waits for notifications before checking its connection
+     */
+    private Duration pollTimeout = Duration.ofSeconds(1);
+
+    /**
+     * Idle time after which the listener verifies its connection with a query
+     */
+    private Duration keepAliveInterval = Duration.ofSeconds(30);
+
+    /**
+     * First delay before reconnecting; doubled after every failed attempt up to maxReconnectDelay
+     */
+    private Duration reconnectDelay = Duration.ofSeconds(1);
+
+    private Duration maxReconnectDelay = Duration.ofSeconds(30);
+}
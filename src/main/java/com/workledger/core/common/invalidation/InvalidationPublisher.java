@@ -0,0 +1,138 @@
+package com.workledger.core.common.invalidation;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends invalidated keys to the other nodes with {@code pg_notify}.
+ *
+ * Callers publish after their transaction committed. Keys are collected and sent every flush interval,
+ * so a burst of writes costs a few notifications instead of one per write. Keys that could not be sent
+ * are kept and retried with the next flush.
+ */
+@Slf4j
+public class InvalidationPublisher {
+
+    private final DataSource dataSource;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("invalidation-publisher").daemon().factory());
+
+    private final Object sendLock = new Object();
+
+    private Set<Long> pendingIds = new LinkedHashSet<>();
+    private Set<LocalDate> pendingWorkDates = new LinkedHashSet<>();
+    private long sequence; // guarded by sendLock
+
+    public InvalidationPublisher(DataSource dataSource, InvalidationProperties properties) {
+        this.dataSource = dataSource;
+        this.channel = properties.getChannel();
+        long interval = properties.getFlushInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Queues a work entry and the work dates it affects. Null dates are ignored.
+     */
+    public synchronized void publish(Long id, LocalDate... workDates) {
+        if(id != null) {
+            pendingIds.add(id);
+        }
+        for(LocalDate workDate : workDates) {
+            if(workDate != null) {
+                pendingWorkDates.add(workDate);
+            }
+        }
+    }
+
+    /**
+     * Sends all queued keys. Runs on the publisher thread; public for tests.
+     */
+    public void flush() {
+        synchronized(sendLock) {
+            flushPending();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        flush();
+    }
+
+    private void flushPending() {
+        Set<Long> ids;
+        Set<LocalDate> workDates;
+        synchronized(this) {
+            if(pendingIds.isEmpty() && pendingWorkDates.isEmpty()) {
+                return;
+            }
+            ids = pendingIds;
+            workDates = pendingWorkDates;
+            pendingIds = new LinkedHashSet<>();
+            pendingWorkDates = new LinkedHashSet<>();
+        }
+
+        try(Connection connection = dataSource.getConnection()) {
+            sendAll(connection, ids, workDates);
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Could not publish {} invalidated ids, retrying with the next flush", ids.size(), e);
+            synchronized(this) {
+                pendingIds.addAll(ids);
+                pendingWorkDates.addAll(workDates);
+            }
+        }
+    }
+
+    private void sendAll(Connection connection, Set<Long> ids, Set<LocalDate> workDates) throws SQLException {
+        List<Long> idList = new ArrayList<>(ids);
+        List<LocalDate> dateList = new ArrayList<>(workDates);
+        int messages = Math.max(chunks(idList.size()), chunks(dateList.size()));
+
+        try(PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            long next = sequence;
+            for(int i = 0; i < messages; i++) {
+                InvalidationMessage message = new InvalidationMessage(
+                        nodeId, ++next, chunk(idList, i), chunk(dateList, i));
+                statement.setString(1, channel);
+                statement.setString(2, message.encode());
+                statement.execute();
+            }
+            // Notifications are delivered when the transaction commits
+            if(!connection.getAutoCommit()) {
+                connection.commit();
+            }
+            sequence = next;
+        }
+        log.debug("Published {} ids and {} work dates in {} notifications", ids.size(), workDates.size(), messages);
+    }
+
+    private static int chunks(int size) {
+        return (size + InvalidationMessage.MAX_KEYS - 1) / InvalidationMessage.MAX_KEYS;
+    }
+
+    private static <T> Set<T> chunk(List<T> keys, int index) {
+        int from = Math.min(index * InvalidationMessage.MAX_KEYS, keys.size());
+        int to = Math.min(from + InvalidationMessage.MAX_KEYS, keys.size());
+        return new LinkedHashSet<>(keys.subList(from, to));
+    }
+}
@@ -0,0 +1,54 @@
+package com.workledger.core.common.jdbc;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.search.Search;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Lets background jobs wait until a connection pool has spare capacity, based on the
+ * hikaricp.connections.* gauges Spring Boot registers for every Hikari pool.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConnectionPoolThrottle {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Blocks while fewer than {@code reserved} connections are free.
+     *
+     * @param pool Hikari pool name, or empty for all pools together
+     * @param reserved connections to leave for other work
+     * @param pause time between checks
+     * @return time spent waiting
+     */
+    public Duration awaitCapacity(String pool, int reserved, Duration pause) throws InterruptedException {
+        long start = System.nanoTime();
+        while(freeConnections(pool) <= reserved) {
+            Thread.sleep(pause.toMillis());
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * Free connections: pool maximum minus active. Integer.MAX_VALUE when no pool is registered.
+     */
+    public int freeConnections(String pool) {
+        double max = sum(search("hikaricp.connections.max", pool));
+        double active = sum(search("hikaricp.connections.active", pool));
+        return max > 0 ? (int) (max - active) : Integer.MAX_VALUE;
+    }
+
+    private Search search(String name, String pool) {
+        Search search = meterRegistry.find(name);
+        return pool == null || pool.isEmpty() ? search : search.tag("pool", pool);
+    }
+
+    private static double sum(Search search) {
+        return search.gauges().stream().mapToDouble(Gauge::value).sum();
+    }
+}
@@ -0,0 +1,31 @@
+package com.workledger.core.common.jdbc;
+
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Names service methods in statement metrics, budgets and timeouts by declaring type and signature,
+ * e.g. {@code WorkEntryServiceImpl.calculateTotalHours(Long,LocalDate,LocalDate)}, so equally named
+ * methods of different services and overloads never share a metric or a budget.
+ */
+public final class ServiceMethodKey {
+
+    private static final Map<Method, String> KEYS = new ConcurrentHashMap<>();
+
+    private ServiceMethodKey() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static String of(MethodSignature signature) {
+        return KEYS.computeIfAbsent(signature.getMethod(), method -> signature.getDeclaringType().getSimpleName()
+                + "." + method.getName()
+                + Arrays.stream(method.getParameterTypes())
+                        .map(Class::getSimpleName)
+                        .collect(Collectors.joining(",", "(", ")")));
+    }
+}
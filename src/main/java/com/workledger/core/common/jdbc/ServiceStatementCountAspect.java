@@ -0,0 +1,45 @@
+package com.workledger.core.common.jdbc;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the number of statements each service method executes and reports methods over their budget.
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceStatementCountAspect {
+
+    private final SqlBudgetProperties sqlBudgetProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.workledger.core..service.impl.*.*(..))")
+    public Object countStatements(ProceedingJoinPoint joinPoint) throws Throwable {
+        long before = StatementCounter.current();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            String method = ServiceMethodKey.of((MethodSignature) joinPoint.getSignature());
+            long statements = StatementCounter.current() - before;
+            DistributionSummary.builder("workledger.sql.statements")
+                    .tag("scope", "method")
+                    .tag("method", method)
+                    .register(meterRegistry)
+                    .record(statements);
+
+            Integer budget = sqlBudgetProperties.getMethodBudgets().get(method);
+            if(budget != null && statements > budget) {
+                log.warn("{} executed {} statements (budget {})", method, statements, budget);
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.workledger.core.common.jdbc;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Statement budgets for requests and service methods, and statement timeouts of service methods.
+ */
+@Data
+@ConfigurationProperties(prefix = "workledger.sql")
+public class SqlBudgetProperties {
+
+    /**
+     * Maximum statements per HTTP request before it is reported
+     */
+    private int requestBudget = 10;
+
+    /**
+     * Maximum statements per service method, keyed as described in {@link ServiceMethodKey}
+     */
+    private Map<String, Integer> methodBudgets = new HashMap<>();
+
+    /**
+     * Time the statements of a service method may take in total, keyed as described in {@link ServiceMethodKey}
+     */
+    private Map<String, Duration> methodTimeouts = new HashMap<>();
+}
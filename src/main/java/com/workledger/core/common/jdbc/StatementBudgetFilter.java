@@ -0,0 +1,72 @@
+package com.workledger.core.common.jdbc;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Records the number of statements each request executes and reports requests over budget.
+ * For a {@link java.util.concurrent.Callable} handler the count is completed on the async dispatch, adding the
+ * statements {@link StatementCountingInterceptor} counted on the async thread.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatementBudgetFilter extends OncePerRequestFilter {
+
+    /**
+     * Statements of the dispatches so far, while the request waits for its async result
+     */
+    private static final String DISPATCHED_STATEMENTS_ATTRIBUTE = StatementBudgetFilter.class.getName() + ".statements";
+
+    private final SqlBudgetProperties sqlBudgetProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long before = StatementCounter.current();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long statements = StatementCounter.current() - before + attribute(request, DISPATCHED_STATEMENTS_ATTRIBUTE);
+            if(isAsyncStarted(request)) {
+                // The Callable may already be running; its statements are added once it has completed
+                request.setAttribute(DISPATCHED_STATEMENTS_ATTRIBUTE, statements);
+            } else {
+                record(request, statements + attribute(request, StatementCountingInterceptor.STATEMENTS_ATTRIBUTE));
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, long statements) {
+        DistributionSummary.builder("workledger.sql.statements")
+                .tag("scope", "request")
+                .tag("method", request.getMethod())
+                .register(meterRegistry)
+                .record(statements);
+
+        if(statements > sqlBudgetProperties.getRequestBudget()) {
+            log.warn("Request {} {} executed {} statements (budget {})",
+                    request.getMethod(), request.getRequestURI(), statements, sqlBudgetProperties.getRequestBudget());
+        }
+    }
+
+    private static long attribute(HttpServletRequest request, String name) {
+        return request.getAttribute(name) instanceof Long statements ? statements : 0;
+    }
+}
@@ -0,0 +1,47 @@
+package com.workledger.core.common.jdbc;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Gives every {@link Callable} handler a {@link StatementScope}, and cancels its running statements when the
+ * async request errors (the client disconnected) or times out, so abandoned queries release their connections.
+ * Handlers returning plain values run on the container thread and are only bound by their statement timeouts.
+ */
+public class StatementCancellingInterceptor implements CallableProcessingInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = StatementCancellingInterceptor.class.getName() + ".scope";
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        StatementScope scope = new StatementScope();
+        request.setAttribute(SCOPE_ATTRIBUTE, scope, RequestAttributes.SCOPE_REQUEST);
+        StatementScope.bind(scope);
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        StatementScope.restore(null);
+    }
+
+    @Override
+    public <T> Object handleTimeout(NativeWebRequest request, Callable<T> task) {
+        cancel(request);
+        return RESULT_NONE;
+    }
+
+    @Override
+    public <T> Object handleError(NativeWebRequest request, Callable<T> task, Throwable t) {
+        cancel(request);
+        return RESULT_NONE;
+    }
+
+    private static void cancel(NativeWebRequest request) {
+        if(request.getAttribute(SCOPE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof StatementScope scope) {
+            scope.cancel();
+        }
+    }
+}
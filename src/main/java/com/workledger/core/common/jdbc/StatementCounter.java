@@ -0,0 +1,32 @@
+package com.workledger.core.common.jdbc;
+
+/**
+ * Per-thread count of JDBC statements executed, fed by {@link StatementCountingListener}.
+ * Scopes (a request, a service call, a test) take the difference between two readings,
+ * so they nest without bookkeeping.
+ */
+public class StatementCounter {
+
+    private StatementCounter() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    public static void increment() {
+        COUNT.get()[0]++;
+    }
+
+    public static long current() {
+        return COUNT.get()[0];
+    }
+
+    /**
+     * Runs the action and returns the number of statements it executed on this thread.
+     */
+    public static long count(Runnable action) {
+        long before = current();
+        action.run();
+        return current() - before;
+    }
+}
@@ -0,0 +1,36 @@
+package com.workledger.core.common.jdbc;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Counts the statements a {@link Callable} handler executes on its async thread and adds them to the request,
+ * where {@link StatementBudgetFilter} picks them up on the async dispatch. {@link StatementCounter} is per
+ * thread, so the filter alone would not see them.
+ */
+public class StatementCountingInterceptor implements CallableProcessingInterceptor {
+
+    static final String STATEMENTS_ATTRIBUTE = StatementCountingInterceptor.class.getName() + ".statements";
+
+    private static final String START_ATTRIBUTE = StatementCountingInterceptor.class.getName() + ".start";
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        request.setAttribute(START_ATTRIBUTE, StatementCounter.current(), RequestAttributes.SCOPE_REQUEST);
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        if(request.getAttribute(START_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Long start) {
+            request.removeAttribute(START_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            long statements = StatementCounter.current() - start;
+            if(request.getAttribute(STATEMENTS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Long counted) {
+                statements += counted;
+            }
+            request.setAttribute(STATEMENTS_ATTRIBUTE, statements, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
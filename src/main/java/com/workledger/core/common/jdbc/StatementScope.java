@@ -0,0 +1,118 @@
+package com.workledger.core.common.jdbc;
+
+import org.springframework.dao.QueryTimeoutException;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deadline and running statements of a unit of work, e.g. one HTTP request. Statements executed on the
+ * bound thread get a JDBC query timeout of the remaining time (see {@link StatementTimeoutListener}),
+ * and {@link #cancel()}, callable from any thread, cancels the ones still running.
+ */
+public final class StatementScope {
+
+    private static final ThreadLocal<StatementScope> CURRENT = new ThreadLocal<>();
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final Set<Statement> running = ConcurrentHashMap.newKeySet();
+    private volatile long deadline = NO_DEADLINE;
+    private volatile boolean cancelled;
+
+    /**
+     * @return the scope bound to the current thread, or null
+     */
+    public static StatementScope current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds a scope to the current thread.
+     *
+     * @return the previous scope, to be passed to {@link #restore(StatementScope)}
+     */
+    public static StatementScope bind(StatementScope scope) {
+        StatementScope previous = CURRENT.get();
+        CURRENT.set(scope);
+        return previous;
+    }
+
+    public static void restore(StatementScope previous) {
+        if(previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Moves the deadline to {@code timeout} from now, unless the current deadline is earlier.
+     *
+     * @return the previous deadline, to be passed to {@link #restoreDeadline(long)}
+     */
+    public long narrow(Duration timeout) {
+        long previous = deadline;
+        long candidate = System.nanoTime() + timeout.toNanos();
+        if(previous == NO_DEADLINE || candidate - previous < 0) {
+            deadline = candidate;
+        }
+        return previous;
+    }
+
+    public void restoreDeadline(long previous) {
+        deadline = previous;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Cancels the running statements; statements started afterwards fail immediately.
+     */
+    public void cancel() {
+        cancelled = true;
+        for(Statement statement : running) {
+            try {
+                statement.cancel();
+            } catch(SQLException e) {
+                // The statement already finished or its connection is gone
+            }
+        }
+    }
+
+    /**
+     * Registers a statement about to execute and applies the remaining time as its query timeout.
+     *
+     * @throws QueryTimeoutException if the scope was cancelled or its deadline has passed
+     */
+    void begin(Statement statement) throws SQLException {
+        if(cancelled) {
+            throw new QueryTimeoutException("Statement cancelled, the request was abandoned");
+        }
+        if(deadline != NO_DEADLINE) {
+            long remaining = deadline - System.nanoTime();
+            if(remaining <= 0) {
+                throw new QueryTimeoutException("Statement timeout reached before execution");
+            }
+            // JDBC timeouts are whole seconds
+            int seconds = (int) Math.max(1, (remaining + 999_999_999L) / 1_000_000_000L);
+            int current = statement.getQueryTimeout();
+            if(current == 0 || seconds < current) {
+                statement.setQueryTimeout(seconds);
+            }
+        }
+        running.add(statement);
+        // A cancel racing with registration would miss this statement
+        if(cancelled) {
+            statement.cancel();
+        }
+    }
+
+    void end(Statement statement) {
+        running.remove(statement);
+    }
+}
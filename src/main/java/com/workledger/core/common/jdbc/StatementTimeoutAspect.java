@@ -0,0 +1,54 @@
+package com.workledger.core.common.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Bounds the statements of service methods with a configured timeout
+ * ({@code workledger.sql.method-timeouts[<method key>]}, see {@link ServiceMethodKey}).
+ * Nested calls keep the earliest deadline.
+ * <p>
+ * Ordered after {@link com.workledger.core.common.concurrent.CoalescingAspect}, so only the leader of a coalesced
+ * call starts its timeout, and ahead of the transaction interceptor, so the deadline is set before the transaction runs any statement.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@RequiredArgsConstructor
+public class StatementTimeoutAspect {
+
+    private final SqlBudgetProperties sqlBudgetProperties;
+
+    @Around("execution(public * com.workledger.core..service.impl.*.*(..))")
+    public Object applyTimeout(ProceedingJoinPoint joinPoint) throws Throwable {
+        Duration timeout = sqlBudgetProperties.getMethodTimeouts().get(
+                ServiceMethodKey.of((MethodSignature) joinPoint.getSignature()));
+        if(timeout == null) {
+            return joinPoint.proceed();
+        }
+
+        StatementScope scope = StatementScope.current();
+        StatementScope previous = scope;
+        if(scope == null) {
+            scope = new StatementScope();
+            StatementScope.bind(scope);
+        }
+        long previousDeadline = scope.narrow(timeout);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            scope.restoreDeadline(previousDeadline);
+            if(previous == null) {
+                StatementScope.restore(null);
+            }
+        }
+    }
+}
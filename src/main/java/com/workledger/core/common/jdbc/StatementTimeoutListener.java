@@ -0,0 +1,37 @@
+package com.workledger.core.common.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Applies the {@link StatementScope} of the executing thread: sets the statement's query timeout,
+ * letting the driver cancel it, and tracks it while it runs so the scope can cancel it.
+ */
+public class StatementTimeoutListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        StatementScope scope = StatementScope.current();
+        if(scope == null) {
+            return;
+        }
+        try {
+            scope.begin(execInfo.getStatement());
+        } catch(SQLException e) {
+            throw new DataAccessResourceFailureException("Could not apply statement timeout", e);
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        StatementScope scope = StatementScope.current();
+        if(scope != null) {
+            scope.end(execInfo.getStatement());
+        }
+    }
+}
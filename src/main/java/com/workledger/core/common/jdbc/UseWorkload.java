@@ -0,0 +1,19 @@
+package com.workledger.core.common.jdbc;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Routes the connections of the annotated method, or of every method of the annotated bean, to a workload's pool.
+ * Only takes effect where the connection is acquired, so it belongs on the method that starts the transaction.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface UseWorkload {
+
+    Workload value();
+}
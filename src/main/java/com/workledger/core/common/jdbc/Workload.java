@@ -0,0 +1,30 @@
+package com.workledger.core.common.jdbc;
+
+import java.util.Locale;
+
+/**
+ * Kinds of database work, each served by its own connection pool so one kind cannot starve another.
+ */
+public enum Workload {
+    /**
+     * Interactive CRUD on single entries or small pages
+     */
+    OLTP,
+
+    /**
+     * Aggregates, searches and reports
+     */
+    REPORTING,
+
+    /**
+     * Background jobs and view refreshes
+     */
+    BATCH;
+
+    /**
+     * Hikari pool name, also used as the pool tag on hikaricp.* metrics
+     */
+    public String poolName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
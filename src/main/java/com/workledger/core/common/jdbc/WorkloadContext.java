@@ -0,0 +1,37 @@
+package com.workledger.core.common.jdbc;
+
+/**
+ * Holds the workload of the current thread. Connections are taken from the OLTP pool unless set otherwise.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload != null ? workload : Workload.OLTP;
+    }
+
+    /**
+     * Sets the workload of the current thread.
+     *
+     * @return the previous value, to be passed to {@link #restore(Workload)}
+     */
+    public static Workload set(Workload workload) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    public static void restore(Workload previous) {
+        if(previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
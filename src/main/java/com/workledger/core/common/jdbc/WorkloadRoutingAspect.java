@@ -0,0 +1,43 @@
+package com.workledger.core.common.jdbc;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * Applies {@link UseWorkload}. Ordered ahead of the transaction interceptor,
+ * so the workload is set before the transaction acquires its connection.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WorkloadRoutingAspect {
+
+    @Around("@annotation(com.workledger.core.common.jdbc.UseWorkload) || @within(com.workledger.core.common.jdbc.UseWorkload)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        Workload previous = WorkloadContext.set(workload(joinPoint));
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+
+    private static Workload workload(ProceedingJoinPoint joinPoint) {
+        Class<?> targetClass = AopUtils.getTargetClass(joinPoint.getTarget());
+        Method method = AopUtils.getMostSpecificMethod(((MethodSignature) joinPoint.getSignature()).getMethod(), targetClass);
+        UseWorkload annotation = AnnotatedElementUtils.findMergedAnnotation(method, UseWorkload.class);
+        if(annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(targetClass, UseWorkload.class);
+        }
+        return annotation != null ? annotation.value() : WorkloadContext.current();
+    }
+}
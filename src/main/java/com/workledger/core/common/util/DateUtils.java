@@ -44,19 +44,45 @@ public class DateUtils {
     }
 
     public static LocalDate getStartOfWeek() {
-        return today().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return getStartOfWeek(today());
+    }
+
+    public static LocalDate getStartOfWeek(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
     }
 
     public static LocalDate getEndOfWeek() {
-        return today().with(TemporalAdjusters.nextOrSame(DayOfWeek.FRIDAY));
+        return getEndOfWeek(today());
+    }
+
+    /**
+     * Friday of the week containing the date (the work week ends on Friday).
+     */
+    public static LocalDate getEndOfWeek(LocalDate date) {
+        return getStartOfWeek(date).with(TemporalAdjusters.nextOrSame(DayOfWeek.FRIDAY));
+    }
+
+    /**
+     * Sunday of the week containing the date, so weekend dates fall inside their own week.
+     */
+    public static LocalDate getEndOfCalendarWeek(LocalDate date) {
+        return getStartOfWeek(date).with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
     }
 
     public static LocalDate getStartOfMonth() {
-        return today().with(TemporalAdjusters.firstDayOfMonth());
+        return getStartOfMonth(today());
+    }
+
+    public static LocalDate getStartOfMonth(LocalDate date) {
+        return date.with(TemporalAdjusters.firstDayOfMonth());
     }
 
     public static LocalDate getEndOfMonth() {
-        return today().with(TemporalAdjusters.lastDayOfMonth());
+        return getEndOfMonth(today());
+    }
+
+    public static LocalDate getEndOfMonth(LocalDate date) {
+        return date.with(TemporalAdjusters.lastDayOfMonth());
     }
 
     public static LocalDate getStartOfYear() {
@@ -0,0 +1,29 @@
+package com.workledger.core.common.util;
+
+/**
+ * Utility class for converting between decimal hours and whole minutes.
+ * Work durations are stored and aggregated as integer minutes; the API keeps speaking decimal hours.
+ */
+public class HoursUtils {
+
+    private HoursUtils() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static final int MINUTES_PER_HOUR = 60;
+
+    public static Integer toMinutes(Double hours) {
+        if(hours == null) {
+            return null;
+        }
+        return (int) Math.round(hours * MINUTES_PER_HOUR);
+    }
+
+    public static Double toHours(Integer minutes) {
+        return minutes != null ? toHours(minutes.longValue()) : null;
+    }
+
+    public static double toHours(long minutes) {
+        return (double) minutes / MINUTES_PER_HOUR;
+    }
+}
@@ -28,6 +28,9 @@ public class ValidationUtils {
             "^[a-zA-Z0-9]+$"
     );
 
+    // Absorbs the binary error of decimal hours such as 1.3333333333333333 (80 minutes)
+    private static final double WHOLE_MINUTE_TOLERANCE = 1e-6;
+
     public static void requireNonEmpty(String value, String fieldName) {
         if(value == null || value.trim().isEmpty()) {
             throw new IllegalArgumentException(fieldName + " cannot be null or empty");
@@ -83,6 +86,14 @@ public class ValidationUtils {
         if(hours <= 0) {
             throw new BusinessValidationException("Hours spent must be greater than 0");
         }
+        // Durations are stored as whole minutes; anything finer would be silently rounded
+        double minutes = hours * HoursUtils.MINUTES_PER_HOUR;
+        if(Math.abs(minutes - Math.rint(minutes)) > WHOLE_MINUTE_TOLERANCE) {
+            throw new BusinessValidationException("Hours spent must be a whole number of minutes");
+        }
+        if(HoursUtils.toMinutes(hours) < 1) {
+            throw new BusinessValidationException("Hours spent must be at least one minute");
+        }
     }
 
     public static void validateWorkDate(LocalDate workDate) {
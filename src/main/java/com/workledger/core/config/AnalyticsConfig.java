@@ -0,0 +1,10 @@
+package com.workledger.core.config;
+
+import com.workledger.core.analytics.service.AnalyticsProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AnalyticsProperties.class)
+public class AnalyticsConfig {
+}
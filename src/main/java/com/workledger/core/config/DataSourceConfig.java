@@ -0,0 +1,63 @@
+package com.workledger.core.config;
+
+import com.workledger.core.common.jdbc.Workload;
+import com.workledger.core.common.jdbc.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * One Hikari pool per {@link Workload}, sized and timed out independently through
+ * {@code workledger.datasource.pools.<workload>.*}. All pools share the spring.datasource connection settings.
+ * The primary DataSource routes each connection request to the pool of the current workload.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("workledger.datasource.pools.oltp")
+    public HikariDataSource oltpDataSource(DataSourceProperties properties) {
+        return pool(properties, Workload.OLTP);
+    }
+
+    @Bean
+    @ConfigurationProperties("workledger.datasource.pools.reporting")
+    public HikariDataSource reportingDataSource(DataSourceProperties properties) {
+        return pool(properties, Workload.REPORTING);
+    }
+
+    @Bean
+    @ConfigurationProperties("workledger.datasource.pools.batch")
+    public HikariDataSource batchDataSource(DataSourceProperties properties) {
+        return pool(properties, Workload.BATCH);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("oltpDataSource") DataSource oltp,
+                                 @Qualifier("reportingDataSource") DataSource reporting,
+                                 @Qualifier("batchDataSource") DataSource batch) {
+        return new WorkloadRoutingDataSource(Map.of(
+                Workload.OLTP, oltp,
+                Workload.REPORTING, reporting,
+                Workload.BATCH, batch
+        ));
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, Workload workload) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(workload.poolName());
+        // See spring.jpa.properties.hibernate.connection.provider_disables_autocommit
+        dataSource.setAutoCommit(false);
+        return dataSource;
+    }
+}
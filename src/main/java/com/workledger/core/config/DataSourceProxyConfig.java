@@ -0,0 +1,42 @@
+package com.workledger.core.config;
+
+import com.workledger.core.common.jdbc.SqlBudgetProperties;
+import com.workledger.core.common.jdbc.StatementCountingListener;
+import com.workledger.core.common.jdbc.StatementTimeoutListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps every DataSource in a datasource-proxy so executed statements can be counted and given timeouts.
+ * Routing DataSources are left alone, their targets are already wrapped.
+ */
+@Configuration
+@EnableConfigurationProperties(SqlBudgetProperties.class)
+public class DataSourceProxyConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if(bean instanceof DataSource dataSource
+                        && !(bean instanceof ProxyDataSource)
+                        && !(bean instanceof AbstractRoutingDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new StatementCountingListener())
+                            .listener(new StatementTimeoutListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package com.workledger.core.config;
+
+import com.workledger.core.common.invalidation.InvalidationHandler;
+import com.workledger.core.common.invalidation.InvalidationListener;
+import com.workledger.core.common.invalidation.InvalidationProperties;
+import com.workledger.core.common.invalidation.InvalidationPublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.DriverManager;
+import java.util.List;
+
+/**
+ * Cross-node invalidation over PostgreSQL LISTEN/NOTIFY. Enabled with workledger.invalidation.enabled=true.
+ */
+@Configuration
+@EnableConfigurationProperties(InvalidationProperties.class)
+@ConditionalOnProperty(name = "workledger.invalidation.enabled", havingValue = "true")
+public class InvalidationConfig {
+
+    @Bean
+    public InvalidationPublisher invalidationPublisher(DataSource dataSource, InvalidationProperties properties) {
+        return new InvalidationPublisher(dataSource, properties);
+    }
+
+    @Bean
+    public InvalidationListener invalidationListener(DataSourceProperties dataSourceProperties,
+                                                     InvalidationPublisher invalidationPublisher,
+                                                     List<InvalidationHandler> handlers,
+                                                     InvalidationProperties properties) {
+        return new InvalidationListener(
+                () -> DriverManager.getConnection(
+                        dataSourceProperties.determineUrl(),
+                        dataSourceProperties.determineUsername(),
+                        dataSourceProperties.determinePassword()),
+                invalidationPublisher.getNodeId(),
+                handlers,
+                properties
+        );
+    }
+}
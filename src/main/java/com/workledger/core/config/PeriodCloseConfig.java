@@ -0,0 +1,10 @@
+package com.workledger.core.config;
+
+import com.workledger.core.periodclose.service.PeriodCloseProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PeriodCloseProperties.class)
+public class PeriodCloseConfig {
+}
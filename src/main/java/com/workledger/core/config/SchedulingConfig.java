@@ -0,0 +1,14 @@
+package com.workledger.core.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs. Set workledger.scheduling.enabled=false to run without them.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "workledger.scheduling.enabled", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -1,6 +1,9 @@
 package com.workledger.core.config;
 
+import com.workledger.core.common.jdbc.StatementCancellingInterceptor;
+import com.workledger.core.common.jdbc.StatementCountingInterceptor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -22,4 +25,13 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(true)
                 .maxAge(3600);
     }
+
+    /*
+     * Cancels the statements of Callable handlers whose client went away, and counts their statements
+     * towards the request's budget
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new StatementCancellingInterceptor(), new StatementCountingInterceptor());
+    }
 }
@@ -0,0 +1,87 @@
+package com.workledger.core.history.controller;
+
+import com.workledger.core.common.dto.ApiResponse;
+import com.workledger.core.history.dto.WorkEntryAsOf;
+import com.workledger.core.history.dto.WorkEntryRevision;
+import com.workledger.core.history.service.WorkEntryHistoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Audit reads of work entries. The {@code asOf} variants of the work entry endpoints are served here.
+ */
+@RestController
+@RequestMapping("/api/v1/work-entries")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Work Entry History", description = "Work entry audit history APIs")
+public class WorkEntryHistoryController {
+
+    private static final String AS_OF = "asOf";
+
+    /**
+     * Employee every endpoint is scoped to, as in WorkEntryController.
+     */
+    private static final String EMPLOYEE_HEADER = "X-Employee-Id";
+
+    private final WorkEntryHistoryService workEntryHistoryService;
+
+    @GetMapping("/{id}/history")
+    @Operation(summary = "Get work entry history", description = "Retrieve every recorded version of a work entry, oldest first")
+    public ResponseEntity<ApiResponse<List<WorkEntryRevision>>> getWorkEntryHistory(
+            @Parameter(description = "Employee the entry belongs to")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
+            @Parameter(description = "Work entry ID") @PathVariable Long id
+    ) {
+        log.info("Fetching history of work entry {}", id);
+        List<WorkEntryRevision> revisions = workEntryHistoryService.getRevisions(employeeId, id);
+
+        return ResponseEntity.ok(ApiResponse.success(revisions, String.format("Found %d versions", revisions.size())));
+    }
+
+    @GetMapping(value = "/{id}", params = {AS_OF, "!fields"})
+    @Operation(summary = "Get work entry as of a time", description = "Rebuild a work entry as it was at a point in time")
+    public ResponseEntity<ApiResponse<WorkEntryAsOf>> getWorkEntryAsOf(
+            @Parameter(description = "Employee the entry belongs to")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
+            @Parameter(description = "Work entry ID") @PathVariable Long id,
+            @Parameter(description = "Point in time (yyyy-MM-dd'T'HH:mm:ss)")
+            @RequestParam(AS_OF) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf
+    ) {
+        log.info("Fetching work entry {} as of {}", id, asOf);
+        WorkEntryAsOf workEntry = workEntryHistoryService.getWorkEntryAsOf(employeeId, id, asOf);
+
+        return ResponseEntity.ok(ApiResponse.success(workEntry, "Work entry retrieved successfully"));
+    }
+
+    @GetMapping(value = "/hours/total", params = AS_OF)
+    @Operation(summary = "Calculates total hours as of a time", description = "Calculate total hours within a date range as the entries stood at a point in time")
+    public Callable<ResponseEntity<ApiResponse<Double>>> calculateTotalHoursAsOf(
+            @Parameter(description = "Employee whose entries are returned")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
+            @Parameter(description = "Start date (yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Point in time (yyyy-MM-dd'T'HH:mm:ss)")
+            @RequestParam(AS_OF) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf
+    ) {
+        log.info("Calculating total hours for date range: {} to {} as of {}", startDate, endDate, asOf);
+        return () -> {
+            Double totalHours = workEntryHistoryService.calculateTotalHoursAsOf(employeeId, startDate, endDate, asOf);
+
+            return ResponseEntity.ok(ApiResponse.success(totalHours, String.format("Total hours: %.2f", totalHours)));
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.workledger.core.history.dto;
+
+import com.workledger.core.timesheet.domain.ProgramType;
+import com.workledger.core.timesheet.domain.WorkEntryStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A work entry as it was at a point in time, rebuilt from its history.
+ *
+ * @param version the last version at or before that time
+ * @param changedAt when that version was written
+ * @param deleted whether the entry had been deleted by then
+ */
+public record WorkEntryAsOf(
+        Long id,
+        Long employeeId,
+        LocalDate workDate,
+        ProgramType programType,
+        String programReference,
+        String ticketId,
+        String description,
+        Double hoursSpent,
+        WorkEntryStatus workEntryStatus,
+        int version,
+        LocalDateTime changedAt,
+        boolean deleted
+) {}
@@ -0,0 +1,25 @@
+package com.workledger.core.history.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * One row of a work entry's history.
+ *
+ * @param workEntryId the work entry identifier
+ * @param employeeId owner of the entry
+ * @param version position in the entry's history, starting at 1
+ * @param snapshot whether {@code fields} holds the full state rather than the changed fields only
+ * @param changeType CREATED, UPDATED, SUBMITTED, LOCKED, DELETED, or BASELINE for entries that predate the history
+ * @param changedAt when the change was made
+ * @param fields field values by WorkEntry attribute name
+ */
+public record WorkEntryRevision(
+        Long workEntryId,
+        Long employeeId,
+        int version,
+        boolean snapshot,
+        String changeType,
+        LocalDateTime changedAt,
+        Map<String, Object> fields
+) {}
@@ -0,0 +1,206 @@
+package com.workledger.core.history.repository;
+
+import com.workledger.core.history.dto.WorkEntryRevision;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only access to work_entry_history (see V8 migration). Rows are never updated or deleted.
+ */
+@Repository
+public class WorkEntryHistoryRepository {
+
+    private static final TypeReference<Map<String, Object>> FIELDS_TYPE = new TypeReference<>() {};
+    // getString returns jsonb as its text, so no cast is needed to read the fields
+    private static final String COLUMNS =
+            "h.work_entry_id, h.employee_id, h.version, h.snapshot_version, h.change_type, h.changed_at, h.fields";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JdbcClient jdbcClient;
+    private final JsonMapper jsonMapper;
+    private final RowMapper<WorkEntryRevision> rowMapper;
+
+    public WorkEntryHistoryRepository(DataSource dataSource, JsonMapper jsonMapper) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.jdbcClient = JdbcClient.create(jdbcTemplate);
+        this.jsonMapper = jsonMapper;
+        this.rowMapper = (rs, rowNum) -> new WorkEntryRevision(
+                rs.getLong("work_entry_id"),
+                rs.getLong("employee_id"),
+                rs.getInt("version"),
+                rs.getInt("version") == rs.getInt("snapshot_version"),
+                rs.getString("change_type"),
+                rs.getTimestamp("changed_at").toLocalDateTime(),
+                jsonMapper.readValue(rs.getString("fields"), FIELDS_TYPE)
+        );
+    }
+
+    /**
+     * Locks the entries' rows until the transaction ends, so writers of the same entry read its latest
+     * history one after another. Rows are locked in id order, so two writers cannot deadlock here.
+     */
+    public void lockWorkEntries(Collection<Long> workEntryIds) {
+        jdbcClient.sql("SELECT id FROM work_entries WHERE id IN (:workEntryIds) ORDER BY id FOR UPDATE")
+                .param("workEntryIds", workEntryIds)
+                .query(Long.class)
+                .list();
+    }
+
+    /**
+     * For each of the entries, the rows needed to rebuild its latest state: its latest snapshot
+     * and the deltas after it, ordered by entry then version. Entries without history are skipped.
+     */
+    public List<WorkEntryRevision> findLatestRevisions(Collection<Long> workEntryIds) {
+        return jdbcClient.sql("SELECT " + COLUMNS
+                        + " FROM work_entry_history h"
+                        + " JOIN work_entry_history head ON head.work_entry_id = h.work_entry_id"
+                        + " AND head.version = (SELECT MAX(m.version) FROM work_entry_history m WHERE m.work_entry_id = head.work_entry_id)"
+                        + " WHERE head.work_entry_id IN (:workEntryIds)"
+                        + " AND h.version BETWEEN head.snapshot_version AND head.version"
+                        + " ORDER BY h.work_entry_id, h.version")
+                .param("workEntryIds", workEntryIds)
+                .query(rowMapper)
+                .list();
+    }
+
+    /**
+     * Appends the rows with one JDBC batch.
+     */
+    public void appendAll(List<NewRevision> revisions) {
+        SqlParameterSource[] batch = revisions.stream()
+                .map(revision -> new MapSqlParameterSource()
+                        .addValue("workEntryId", revision.workEntryId())
+                        .addValue("employeeId", revision.employeeId())
+                        .addValue("version", revision.version())
+                        .addValue("snapshotVersion", revision.snapshotVersion())
+                        .addValue("changeType", revision.changeType())
+                        .addValue("changedAt", Timestamp.valueOf(revision.changedAt()))
+                        .addValue("fields", jsonMapper.writeValueAsString(revision.fields())))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO work_entry_history
+                    (work_entry_id, employee_id, version, snapshot_version, change_type, changed_at, fields)
+                VALUES (:workEntryId, :employeeId, :version, :snapshotVersion, :changeType, :changedAt, CAST(:fields AS jsonb))
+                """, batch);
+    }
+
+    /**
+     * The whole history of an employee's entry, oldest first.
+     */
+    public List<WorkEntryRevision> findRevisions(Long employeeId, Long workEntryId) {
+        return jdbcClient.sql("SELECT " + COLUMNS + " FROM work_entry_history h"
+                        + " WHERE h.work_entry_id = :workEntryId AND h.employee_id = :employeeId ORDER BY h.version")
+                .param("workEntryId", workEntryId)
+                .param("employeeId", employeeId)
+                .query(rowMapper)
+                .list();
+    }
+
+    /**
+     * For each matching entry, the rows needed to rebuild it as of the given time: its nearest snapshot
+     * at or before that time and the deltas after it, ordered by entry then version.
+     *
+     * @param employeeId restricts to one employee's entries, or null
+     * @param workEntryId restricts to one entry, or null
+     * @param asOf point in time (inclusive)
+     */
+    public List<WorkEntryRevision> findRevisionsAsOf(Long employeeId, Long workEntryId, LocalDateTime asOf) {
+        StringBuilder sql = new StringBuilder()
+                .append(latestAsOf(employeeId, workEntryId))
+                .append(" SELECT " + COLUMNS)
+                .append(" FROM work_entry_history h")
+                .append(" JOIN latest l ON l.work_entry_id = h.work_entry_id")
+                .append(" AND h.version BETWEEN l.snapshot_version AND l.version")
+                .append(" ORDER BY h.work_entry_id, h.version");
+
+        JdbcClient.StatementSpec statement = jdbcClient.sql(sql.toString())
+                .param("asOf", Timestamp.valueOf(asOf));
+        if(employeeId != null) {
+            statement = statement.param("employeeId", employeeId);
+        }
+        if(workEntryId != null) {
+            statement = statement.param("workEntryId", workEntryId);
+        }
+        return statement.query(rowMapper).list();
+    }
+
+    /**
+     * Like {@link #findRevisionsAsOf} for all of an employee's entries, but only for the entries that
+     * were not deleted as of that time and whose work date then fell within the range. The work date
+     * an entry had is the one in the last row of its run that carries it.
+     *
+     * @param employeeId the owning employee
+     * @param startDate first work date (inclusive)
+     * @param endDate last work date (inclusive)
+     * @param asOf point in time (inclusive)
+     */
+    public List<WorkEntryRevision> findLiveRevisionsAsOf(Long employeeId, LocalDate startDate, LocalDate endDate,
+                                                         LocalDateTime asOf) {
+        String sql = latestAsOf(employeeId, null)
+                + ", dated AS ("
+                + " SELECT DISTINCT ON (h.work_entry_id) h.work_entry_id, CAST(h.fields ->> 'workDate' AS DATE) AS work_date"
+                + " FROM work_entry_history h"
+                + " JOIN latest l ON l.work_entry_id = h.work_entry_id"
+                + " AND h.version BETWEEN l.snapshot_version AND l.version"
+                + " WHERE l.change_type <> 'DELETED'"
+                + " AND h.fields ->> 'workDate' IS NOT NULL"
+                + " ORDER BY h.work_entry_id, h.version DESC)"
+                + " SELECT " + COLUMNS
+                + " FROM work_entry_history h"
+                + " JOIN latest l ON l.work_entry_id = h.work_entry_id"
+                + " AND h.version BETWEEN l.snapshot_version AND l.version"
+                + " JOIN dated d ON d.work_entry_id = h.work_entry_id"
+                + " WHERE d.work_date BETWEEN :startDate AND :endDate"
+                + " ORDER BY h.work_entry_id, h.version";
+
+        return jdbcClient.sql(sql)
+                .param("asOf", Timestamp.valueOf(asOf))
+                .param("employeeId", employeeId)
+                .param("startDate", startDate)
+                .param("endDate", endDate)
+                .query(rowMapper)
+                .list();
+    }
+
+    /**
+     * The {@code latest} CTE: each entry's last version at or before :asOf with the snapshot it applies on.
+     */
+    private static String latestAsOf(Long employeeId, Long workEntryId) {
+        StringBuilder sql = new StringBuilder()
+                .append("WITH latest AS (")
+                .append(" SELECT DISTINCT ON (work_entry_id) work_entry_id, version, snapshot_version, change_type")
+                .append(" FROM work_entry_history")
+                .append(" WHERE changed_at <= :asOf");
+        if(employeeId != null) {
+            sql.append(" AND employee_id = :employeeId");
+        }
+        if(workEntryId != null) {
+            sql.append(" AND work_entry_id = :workEntryId");
+        }
+        return sql.append(" ORDER BY work_entry_id, version DESC)").toString();
+    }
+
+    /**
+     * A row to append.
+     *
+     * @param snapshotVersion version of the snapshot the row applies on top of, its own version for snapshots
+     * @param fields field values by WorkEntry attribute name, only the changed ones for deltas
+     */
+    public record NewRevision(Long workEntryId, Long employeeId, int version, int snapshotVersion,
+                              String changeType, LocalDateTime changedAt, Map<String, Object> fields) {}
+}
@@ -0,0 +1,281 @@
+package com.workledger.core.history.service;
+
+import com.workledger.core.history.dto.WorkEntryRevision;
+import com.workledger.core.history.repository.WorkEntryHistoryRepository;
+import com.workledger.core.history.repository.WorkEntryHistoryRepository.NewRevision;
+import com.workledger.core.timesheet.domain.WorkEntry;
+import com.workledger.core.timesheet.event.WorkEntryChangeType;
+import com.workledger.core.timesheet.event.WorkEntryChangedEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Appends a history row for every work entry write, inside the writing transaction so
+ * history and entry commit or roll back together.
+ * <p>
+ * The entry's values are captured when the change is published and the rows are written just
+ * before commit: one select of the latest state of every changed entry, then one batch insert,
+ * however many entries the transaction changed. A change stores the tracked attributes whose
+ * value differs from that latest state; every {@code snapshot-interval} versions a full snapshot
+ * is stored instead, bounding how many rows an as-of read has to fold. The changed entries' rows are
+ * locked before their latest state is read, so a second writer of the same entry waits for the first
+ * to commit and appends the version after it.
+ */
+@Component
+@Slf4j
+public class WorkEntryHistoryRecorder {
+
+    /**
+     * WorkEntry attributes kept in the history, in snapshot order.
+     */
+    public static final List<String> TRACKED_FIELDS = List.of(
+            "employeeId", "workDate", "programType", "programReference",
+            "ticketId", "description", "minutesSpent", "workEntryStatus"
+    );
+
+    private final WorkEntryHistoryRepository historyRepository;
+    private final int snapshotInterval;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public WorkEntryHistoryRecorder(
+            WorkEntryHistoryRepository historyRepository,
+            @Value("${workledger.history.snapshot-interval:20}") int snapshotInterval
+    ) {
+        if(snapshotInterval < 1) {
+            throw new IllegalArgumentException("workledger.history.snapshot-interval must be positive");
+        }
+        this.historyRepository = historyRepository;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    @EventListener
+    public void onWorkEntryChanged(WorkEntryChangedEvent event) {
+        PendingChange change = capture(event);
+
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(List.of(change));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<PendingChange> pending = (List<PendingChange>) TransactionSynchronizationManager.getResource(this);
+        if(pending == null) {
+            List<PendingChange> changes = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    record(changes);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(WorkEntryHistoryRecorder.this);
+                }
+            });
+            pending = changes;
+        }
+        pending.add(change);
+    }
+
+    /**
+     * The entry's values as of the change. A description that was never loaded was not
+     * changed either and is left out, so capturing does not read it.
+     */
+    private PendingChange capture(WorkEntryChangedEvent event) {
+        LocalDateTime changedAt = LocalDateTime.now();
+        if(event.changeType() == WorkEntryChangeType.DELETED) {
+            return new PendingChange(event.id(), event.changeType(), changedAt, null, Map.of());
+        }
+
+        WorkEntry workEntry = entityManager.find(WorkEntry.class, event.id());
+        Map<String, Object> fields = new LinkedHashMap<>();
+        for(String field : TRACKED_FIELDS) {
+            if(!field.equals("description") || Hibernate.isPropertyInitialized(workEntry, field)) {
+                fields.put(field, value(workEntry, field));
+            }
+        }
+        return new PendingChange(event.id(), event.changeType(), changedAt, workEntry, fields);
+    }
+
+    private void record(List<PendingChange> changes) {
+        if(changes.isEmpty()) {
+            return;
+        }
+
+        // Entries created in this transaction have no history to read
+        Set<Long> existingIds = new LinkedHashSet<>();
+        Set<Long> createdIds = new HashSet<>();
+        for(PendingChange change : changes) {
+            if(change.changeType() == WorkEntryChangeType.CREATED) {
+                createdIds.add(change.workEntryId());
+            }
+            else if(!createdIds.contains(change.workEntryId())) {
+                existingIds.add(change.workEntryId());
+            }
+        }
+
+        Map<Long, EntryState> states = new HashMap<>();
+        if(!existingIds.isEmpty()) {
+            historyRepository.lockWorkEntries(existingIds);
+            states.putAll(fold(historyRepository.findLatestRevisions(existingIds)));
+        }
+
+        List<NewRevision> revisions = new ArrayList<>(changes.size());
+        for(PendingChange change : changes) {
+            NewRevision revision = revision(change, states.get(change.workEntryId()));
+            if(revision != null) {
+                revisions.add(revision);
+                states.put(change.workEntryId(), EntryState.after(states.get(change.workEntryId()), revision));
+            }
+        }
+        changes.clear();
+
+        if(!revisions.isEmpty()) {
+            historyRepository.appendAll(revisions);
+        }
+    }
+
+    private NewRevision revision(PendingChange change, EntryState previous) {
+        String changeType = change.changeType().name();
+
+        if(change.changeType() == WorkEntryChangeType.DELETED) {
+            if(previous == null) {
+                log.warn("No history for deleted work entry {}", change.workEntryId());
+                return null;
+            }
+            // A deleted entry is no longer in the persistence context; its owner comes from the history
+            return new NewRevision(change.workEntryId(), previous.employeeId(), previous.version() + 1,
+                    previous.snapshotVersion(), changeType, change.changedAt(), Map.of());
+        }
+
+        Long employeeId = (Long) change.fields().get("employeeId");
+        if(previous == null) {
+            return new NewRevision(change.workEntryId(), employeeId, 1, 1, changeType, change.changedAt(),
+                    snapshot(change, null));
+        }
+
+        int version = previous.version() + 1;
+        if(version - previous.snapshotVersion() >= snapshotInterval) {
+            return new NewRevision(change.workEntryId(), employeeId, version, version, changeType, change.changedAt(),
+                    snapshot(change, previous));
+        }
+
+        // Written even when nothing differs, so every write has its version
+        Map<String, Object> delta = new LinkedHashMap<>();
+        change.fields().forEach((field, value) -> {
+            if(!sameValue(previous.fields().get(field), value)) {
+                delta.put(field, value);
+            }
+        });
+        return new NewRevision(change.workEntryId(), employeeId, version, previous.snapshotVersion(), changeType,
+                change.changedAt(), delta);
+    }
+
+    /**
+     * Full state of the entry. An unloaded description is taken from the previous state, or read
+     * when there is none.
+     */
+    private static Map<String, Object> snapshot(PendingChange change, EntryState previous) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        for(String field : TRACKED_FIELDS) {
+            if(change.fields().containsKey(field)) {
+                fields.put(field, change.fields().get(field));
+            }
+            else if(previous != null) {
+                fields.put(field, previous.fields().get(field));
+            }
+            else {
+                fields.put(field, value(change.workEntry(), field));
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Latest state of each entry, folded from its latest snapshot and the deltas after it.
+     */
+    private static Map<Long, EntryState> fold(List<WorkEntryRevision> revisions) {
+        Map<Long, EntryState> states = new HashMap<>();
+        for(WorkEntryRevision revision : revisions) {
+            Map<String, Object> fields = new HashMap<>();
+            int snapshotVersion = revision.version();
+            if(!revision.snapshot()) {
+                // Each run starts with its snapshot, so the state so far is known
+                EntryState previous = states.get(revision.workEntryId());
+                fields.putAll(previous.fields());
+                snapshotVersion = previous.snapshotVersion();
+            }
+            fields.putAll(revision.fields());
+            states.put(revision.workEntryId(),
+                    new EntryState(revision.employeeId(), revision.version(), snapshotVersion, fields));
+        }
+        return states;
+    }
+
+    /**
+     * Values read back from JSON are Integers or Longs depending on their size.
+     */
+    private static boolean sameValue(Object stored, Object current) {
+        if(stored instanceof Number storedNumber && current instanceof Number currentNumber) {
+            return storedNumber.longValue() == currentNumber.longValue();
+        }
+        return Objects.equals(stored, current);
+    }
+
+    /**
+     * History stores dates and enums as strings, matching the V8 baseline.
+     */
+    private static Object value(WorkEntry workEntry, String field) {
+        Object value = switch(field) {
+            case "employeeId" -> workEntry.getEmployeeId();
+            case "workDate" -> workEntry.getWorkDate();
+            case "programType" -> workEntry.getProgramType();
+            case "programReference" -> workEntry.getProgramReference();
+            case "ticketId" -> workEntry.getTicketId();
+            case "description" -> workEntry.getDescription();
+            case "minutesSpent" -> workEntry.getMinutesSpent();
+            case "workEntryStatus" -> workEntry.getWorkEntryStatus();
+            default -> throw new IllegalArgumentException("Untracked field: " + field);
+        };
+        return value instanceof Enum<?> || value instanceof LocalDate ? Objects.toString(value) : value;
+    }
+
+    /**
+     * @param workEntry the changed entity, null for deletions
+     * @param fields tracked values after the change, without an unloaded description
+     */
+    private record PendingChange(Long workEntryId, WorkEntryChangeType changeType, LocalDateTime changedAt,
+                                 WorkEntry workEntry, Map<String, Object> fields) {}
+
+    private record EntryState(long employeeId, int version, int snapshotVersion, Map<String, Object> fields) {
+
+        static EntryState after(EntryState previous, NewRevision revision) {
+            boolean snapshot = revision.version() == revision.snapshotVersion();
+            Map<String, Object> fields = previous != null && !snapshot ? new HashMap<>(previous.fields()) : new HashMap<>();
+            fields.putAll(revision.fields());
+            return new EntryState(revision.employeeId(), revision.version(), revision.snapshotVersion(), fields);
+        }
+    }
+}
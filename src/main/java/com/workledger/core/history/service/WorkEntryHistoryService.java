@@ -0,0 +1,39 @@
+package com.workledger.core.history.service;
+
+import com.workledger.core.history.dto.WorkEntryAsOf;
+import com.workledger.core.history.dto.WorkEntryRevision;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service interface for reading the change history of work entries.
+ * Past states are rebuilt from the nearest snapshot plus the deltas after it.
+ */
+public interface WorkEntryHistoryService {
+
+    /**
+     * @param employeeId the owning employee
+     * @param id the work entry identifier
+     * @return every recorded version, oldest first
+     * @throws com.workledger.core.common.exception.ResourceNotFoundException if the employee's entry has no history
+     */
+    List<WorkEntryRevision> getRevisions(Long employeeId, Long id);
+
+    /**
+     * @param employeeId the owning employee
+     * @param id the work entry identifier
+     * @param asOf point in time (inclusive)
+     * @return the entry as it was at that time, flagged when it had been deleted by then
+     * @throws com.workledger.core.common.exception.ResourceNotFoundException if the employee's entry did not exist yet
+     */
+    WorkEntryAsOf getWorkEntryAsOf(Long employeeId, Long id, LocalDateTime asOf);
+
+    /**
+     * Total hours of an employee within a date range, as the entries stood at a point in time.
+     *
+     * @throws com.workledger.core.common.exception.BusinessValidationException if the start date is after the end date
+     */
+    Double calculateTotalHoursAsOf(Long employeeId, LocalDate startDate, LocalDate endDate, LocalDateTime asOf);
+}
@@ -0,0 +1,126 @@
+package com.workledger.core.history.service.impl;
+
+import com.workledger.core.common.concurrent.Coalesce;
+import com.workledger.core.common.exception.BusinessValidationException;
+import com.workledger.core.common.exception.ResourceNotFoundException;
+import com.workledger.core.common.jdbc.UseWorkload;
+import com.workledger.core.common.jdbc.Workload;
+import com.workledger.core.common.util.HoursUtils;
+import com.workledger.core.history.dto.WorkEntryAsOf;
+import com.workledger.core.history.dto.WorkEntryRevision;
+import com.workledger.core.history.repository.WorkEntryHistoryRepository;
+import com.workledger.core.history.service.WorkEntryHistoryService;
+import com.workledger.core.timesheet.domain.ProgramType;
+import com.workledger.core.timesheet.domain.WorkEntryStatus;
+import com.workledger.core.timesheet.event.WorkEntryChangeType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.workledger.core.common.util.ValidationUtils.*;
+
+/**
+ * Implementation of WorkEntryHistoryService interface.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class WorkEntryHistoryServiceImpl implements WorkEntryHistoryService {
+
+    private final WorkEntryHistoryRepository historyRepository;
+
+    @Override
+    public List<WorkEntryRevision> getRevisions(Long employeeId, Long id) {
+        requireNonNull(employeeId, "Employee id");
+        requireNonNull(id, "Work entry id");
+        log.debug("Fetching history of work entry {}", id);
+
+        List<WorkEntryRevision> revisions = historyRepository.findRevisions(employeeId, id);
+        if(revisions.isEmpty()) {
+            throw new ResourceNotFoundException("WorkEntry", "id", id);
+        }
+        return revisions;
+    }
+
+    @Override
+    public WorkEntryAsOf getWorkEntryAsOf(Long employeeId, Long id, LocalDateTime asOf) {
+        requireNonNull(employeeId, "Employee id");
+        requireNonNull(id, "Work entry id");
+        requireNonNull(asOf, "As of");
+        log.debug("Rebuilding work entry {} as of {}", id, asOf);
+
+        List<WorkEntryAsOf> entries = fold(historyRepository.findRevisionsAsOf(employeeId, id, asOf));
+        if(entries.isEmpty()) {
+            throw new ResourceNotFoundException("WorkEntry", "id", id);
+        }
+        return entries.getFirst();
+    }
+
+    @Override
+    @UseWorkload(Workload.REPORTING)
+    @Coalesce
+    public Double calculateTotalHoursAsOf(Long employeeId, LocalDate startDate, LocalDate endDate, LocalDateTime asOf) {
+        requireNonNull(employeeId, "Employee id");
+        requireNonNull(startDate, "Start date");
+        requireNonNull(endDate, "End date");
+        requireNonNull(asOf, "As of");
+        if(startDate.isAfter(endDate)) {
+            throw new BusinessValidationException("Start date cannot be after end date");
+        }
+        log.debug("Calculating total hours of employee {} as of {}", employeeId, asOf);
+
+        // Deleted entries and entries dated outside the range are left out by the query
+        long minutes = fold(historyRepository.findLiveRevisionsAsOf(employeeId, startDate, endDate, asOf)).stream()
+                .mapToLong(entry -> HoursUtils.toMinutes(entry.hoursSpent()))
+                .sum();
+        return HoursUtils.toHours(minutes);
+    }
+
+    /**
+     * Rebuilds each entry from revisions ordered by entry then version, each entry's run starting at a snapshot.
+     */
+    static List<WorkEntryAsOf> fold(List<WorkEntryRevision> revisions) {
+        Map<Long, List<WorkEntryRevision>> byEntry = new LinkedHashMap<>();
+        for(WorkEntryRevision revision : revisions) {
+            byEntry.computeIfAbsent(revision.workEntryId(), key -> new ArrayList<>()).add(revision);
+        }
+
+        List<WorkEntryAsOf> entries = new ArrayList<>(byEntry.size());
+        for(List<WorkEntryRevision> run : byEntry.values()) {
+            Map<String, Object> state = new HashMap<>();
+            for(WorkEntryRevision revision : run) {
+                if(revision.snapshot()) {
+                    state.clear();
+                }
+                state.putAll(revision.fields());
+            }
+
+            WorkEntryRevision last = run.getLast();
+            entries.add(new WorkEntryAsOf(
+                    last.workEntryId(),
+                    last.employeeId(),
+                    state.get("workDate") != null ? LocalDate.parse((String) state.get("workDate")) : null,
+                    state.get("programType") != null ? ProgramType.valueOf((String) state.get("programType")) : null,
+                    (String) state.get("programReference"),
+                    (String) state.get("ticketId"),
+                    (String) state.get("description"),
+                    state.get("minutesSpent") != null ? HoursUtils.toHours(((Number) state.get("minutesSpent")).longValue()) : null,
+                    state.get("workEntryStatus") != null ? WorkEntryStatus.valueOf((String) state.get("workEntryStatus")) : null,
+                    last.version(),
+                    last.changedAt(),
+                    WorkEntryChangeType.DELETED.name().equals(last.changeType())
+            ));
+        }
+        return entries;
+    }
+}
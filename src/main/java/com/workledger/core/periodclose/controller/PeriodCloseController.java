@@ -0,0 +1,52 @@
+package com.workledger.core.periodclose.controller;
+
+import com.workledger.core.common.dto.ApiResponse;
+import com.workledger.core.periodclose.dto.PeriodCloseJobResponse;
+import com.workledger.core.periodclose.dto.StartPeriodCloseRequest;
+import com.workledger.core.periodclose.service.PeriodCloseService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/period-close")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Period Close", description = "Background locking of submitted work entries")
+public class PeriodCloseController {
+
+    private final PeriodCloseService periodCloseService;
+
+    @PostMapping
+    @Operation(summary = "Close a period", description = "Starts a background job locking every SUBMITTED work entry in the date range")
+    public ResponseEntity<ApiResponse<PeriodCloseJobResponse>> startPeriodClose(@Valid @RequestBody StartPeriodCloseRequest request) {
+        log.info("Starting period close for {} to {}", request.startDate(), request.endDate());
+        PeriodCloseJobResponse response = periodCloseService.startPeriodClose(request);
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(response, "Period close started"));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get period close progress", description = "Retrieves the status and progress of a period close job")
+    public ResponseEntity<ApiResponse<PeriodCloseJobResponse>> getPeriodCloseJob(@PathVariable Long id) {
+        log.info("Fetching period close job with id: {}", id);
+        PeriodCloseJobResponse response = periodCloseService.getPeriodCloseJob(id);
+        return ResponseEntity.ok(ApiResponse.success(response, "Period close job fetched successfully"));
+    }
+
+    @PostMapping("/{id}/resume")
+    @Operation(summary = "Resume period close", description = "Restarts a failed or interrupted period close job from its checkpoint")
+    public ResponseEntity<ApiResponse<PeriodCloseJobResponse>> resumePeriodClose(@PathVariable Long id) {
+        log.info("Resuming period close job with id: {}", id);
+        PeriodCloseJobResponse response = periodCloseService.resumePeriodClose(id);
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(response, "Period close resumed"));
+    }
+}
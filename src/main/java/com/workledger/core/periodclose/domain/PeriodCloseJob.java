@@ -0,0 +1,121 @@
+package com.workledger.core.periodclose.domain;
+
+import com.workledger.core.common.exception.InvalidStateException;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Locks every SUBMITTED work entry of a date range, one committed chunk at a time.
+ * The version guards against two nodes advancing the same job.
+ */
+@Data
+@Entity
+@Table(name = "period_close_jobs")
+public class PeriodCloseJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    @Column(nullable = false)
+    private LocalDate endDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PeriodCloseStatus status;
+
+    /**
+     * SUBMITTED entries in the range when the job was created
+     */
+    @Column(nullable = false)
+    private long totalEntries;
+
+    @Column(nullable = false)
+    private long processedEntries;
+
+    /**
+     * Checkpoint: highest work entry id already locked, 0 before the first chunk
+     */
+    @Column(nullable = false)
+    private long lastProcessedId;
+
+    @Column(length = 2000)
+    private String errorMessage;
+
+    @Version
+    private long version;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public static PeriodCloseJob create(LocalDate startDate, LocalDate endDate, long totalEntries) {
+        PeriodCloseJob job = new PeriodCloseJob();
+        job.setStartDate(startDate);
+        job.setEndDate(endDate);
+        job.setStatus(PeriodCloseStatus.PENDING);
+        job.setTotalEntries(totalEntries);
+        return job;
+    }
+
+    public boolean isActive() {
+        return status == PeriodCloseStatus.PENDING || status == PeriodCloseStatus.RUNNING;
+    }
+
+    public void start() {
+        if(status == PeriodCloseStatus.COMPLETED) {
+            throw new InvalidStateException(
+                    "Completed period close jobs cannot be restarted",
+                    status.name(),
+                    "PENDING, RUNNING or FAILED"
+            );
+        }
+        if(startedAt == null) {
+            startedAt = LocalDateTime.now();
+        }
+        status = PeriodCloseStatus.RUNNING;
+        errorMessage = null;
+    }
+
+    /**
+     * Queues a failed job again; it keeps its checkpoint.
+     */
+    public void reopen() {
+        if(status != PeriodCloseStatus.FAILED) {
+            throw new InvalidStateException(
+                    "Only failed period close jobs can be reopened",
+                    status.name(),
+                    PeriodCloseStatus.FAILED.name()
+            );
+        }
+        status = PeriodCloseStatus.PENDING;
+    }
+
+    public void checkpoint(long lastLockedId, int lockedCount) {
+        lastProcessedId = lastLockedId;
+        processedEntries += lockedCount;
+    }
+
+    public void complete() {
+        status = PeriodCloseStatus.COMPLETED;
+        finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String message) {
+        status = PeriodCloseStatus.FAILED;
+        errorMessage = message;
+    }
+}
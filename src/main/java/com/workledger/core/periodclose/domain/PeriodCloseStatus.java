@@ -0,0 +1,8 @@
+package com.workledger.core.periodclose.domain;
+
+public enum PeriodCloseStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
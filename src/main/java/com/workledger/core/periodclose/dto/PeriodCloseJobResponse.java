@@ -0,0 +1,43 @@
+package com.workledger.core.periodclose.dto;
+
+import com.workledger.core.periodclose.domain.PeriodCloseJob;
+import com.workledger.core.periodclose.domain.PeriodCloseStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record PeriodCloseJobResponse(
+        Long id,
+        LocalDate startDate,
+        LocalDate endDate,
+        PeriodCloseStatus status,
+        long totalEntries,
+        long processedEntries,
+        double percentComplete,
+        long lastProcessedId,
+        String errorMessage,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+
+    public static PeriodCloseJobResponse from(PeriodCloseJob job) {
+        double percentComplete = job.getTotalEntries() > 0
+                ? Math.min(100.0, 100.0 * job.getProcessedEntries() / job.getTotalEntries())
+                : 100.0;
+        return new PeriodCloseJobResponse(
+                job.getId(),
+                job.getStartDate(),
+                job.getEndDate(),
+                job.getStatus(),
+                job.getTotalEntries(),
+                job.getProcessedEntries(),
+                job.getStatus() == PeriodCloseStatus.COMPLETED ? 100.0 : percentComplete,
+                job.getLastProcessedId(),
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
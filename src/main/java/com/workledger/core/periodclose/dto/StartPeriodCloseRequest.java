@@ -0,0 +1,13 @@
+package com.workledger.core.periodclose.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+public record StartPeriodCloseRequest(
+        @NotNull(message = "Start date is required")
+        LocalDate startDate,
+
+        @NotNull(message = "End date is required")
+        LocalDate endDate
+) {}
@@ -0,0 +1,17 @@
+package com.workledger.core.periodclose.repository;
+
+import com.workledger.core.periodclose.domain.PeriodCloseJob;
+import com.workledger.core.periodclose.domain.PeriodCloseStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PeriodCloseJobRepository extends JpaRepository<PeriodCloseJob, Long> {
+
+    List<PeriodCloseJob> findByStatusIn(Collection<PeriodCloseStatus> statuses);
+
+    boolean existsByStatusIn(Collection<PeriodCloseStatus> statuses);
+}
@@ -0,0 +1,169 @@
+package com.workledger.core.periodclose.service;
+
+import com.workledger.core.common.exception.ResourceNotFoundException;
+import com.workledger.core.common.jdbc.ConnectionPoolThrottle;
+import com.workledger.core.common.jdbc.Workload;
+import com.workledger.core.common.jdbc.WorkloadContext;
+import com.workledger.core.periodclose.domain.PeriodCloseJob;
+import com.workledger.core.periodclose.domain.PeriodCloseStatus;
+import com.workledger.core.periodclose.repository.PeriodCloseJobRepository;
+import com.workledger.core.timesheet.service.WorkEntryService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs period-close jobs on a single background thread.
+ *
+ * Each chunk is locked and checkpointed in one short transaction, so a crash or shutdown
+ * loses at most the chunk in flight, and the persistence context never grows beyond one chunk.
+ * Chunks run on the batch pool, and before every chunk the runner waits until the watched pool has spare capacity.
+ * Jobs left RUNNING by a previous process are resumed from their checkpoint on startup.
+ */
+@Slf4j
+@Component
+public class PeriodCloseJobRunner {
+
+    private final PeriodCloseJobRepository jobRepository;
+    private final WorkEntryService workEntryService;
+    private final ConnectionPoolThrottle connectionPoolThrottle;
+    private final PeriodCloseProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("period-close-", 0).daemon().factory());
+    private final Set<Long> runningJobs = ConcurrentHashMap.newKeySet();
+
+    public PeriodCloseJobRunner(PeriodCloseJobRepository jobRepository,
+                                WorkEntryService workEntryService,
+                                ConnectionPoolThrottle connectionPoolThrottle,
+                                PeriodCloseProperties properties,
+                                PlatformTransactionManager transactionManager) {
+        this.jobRepository = jobRepository;
+        this.workEntryService = workEntryService;
+        this.connectionPoolThrottle = connectionPoolThrottle;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Queues the job, after the current transaction commits if there is one.
+     */
+    public void submit(Long jobId) {
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    executor.execute(() -> run(jobId));
+                }
+            });
+        } else {
+            executor.execute(() -> run(jobId));
+        }
+    }
+
+    public boolean isRunning(Long jobId) {
+        return runningJobs.contains(jobId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        List<PeriodCloseJob> jobs = jobRepository.findByStatusIn(EnumSet.of(PeriodCloseStatus.PENDING, PeriodCloseStatus.RUNNING));
+        for(PeriodCloseJob job : jobs) {
+            log.info("Resuming period close job {} after id {}", job.getId(), job.getLastProcessedId());
+            submit(job.getId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Interrupted jobs stay RUNNING and resume from their checkpoint on the next start
+        executor.shutdownNow();
+    }
+
+    void run(Long jobId) {
+        if(!runningJobs.add(jobId)) {
+            return;
+        }
+        Workload previousWorkload = WorkloadContext.set(Workload.BATCH);
+        try {
+            transactionTemplate.executeWithoutResult(status -> findJob(jobId).start());
+            log.info("Period close job {} started", jobId);
+
+            boolean hasMore = true;
+            while(hasMore) {
+                Duration waited = connectionPoolThrottle.awaitCapacity(
+                        properties.getWatchedPool(), properties.getReservedConnections(), properties.getThrottlePause());
+                if(waited.toMillis() > 0) {
+                    log.debug("Period close job {} waited {} ms for pool capacity", jobId, waited.toMillis());
+                }
+
+                hasMore = Boolean.TRUE.equals(transactionTemplate.execute(status -> processChunk(jobId)));
+                if(hasMore) {
+                    Thread.sleep(properties.getChunkPause().toMillis());
+                }
+            }
+            log.info("Period close job {} completed", jobId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Period close job {} interrupted, it will resume from its checkpoint", jobId);
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Period close job {} is being advanced by another node, stopping here", jobId);
+        } catch (RuntimeException e) {
+            log.error("Period close job {} failed", jobId, e);
+            markFailed(jobId, e);
+        } finally {
+            WorkloadContext.restore(previousWorkload);
+            runningJobs.remove(jobId);
+        }
+    }
+
+    /**
+     * Locks one chunk and advances the checkpoint in the same transaction.
+     *
+     * @return true if a full chunk was locked and more entries may follow
+     */
+    private boolean processChunk(Long jobId) {
+        PeriodCloseJob job = findJob(jobId);
+        int chunkSize = properties.getChunkSize();
+
+        List<Long> lockedIds = workEntryService.lockSubmittedWorkEntries(
+                job.getStartDate(), job.getEndDate(), job.getLastProcessedId(), chunkSize);
+        if(!lockedIds.isEmpty()) {
+            job.checkpoint(lockedIds.getLast(), lockedIds.size());
+        }
+        if(lockedIds.size() < chunkSize) {
+            job.complete();
+            return false;
+        }
+        return true;
+    }
+
+    private void markFailed(Long jobId, RuntimeException cause) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> findJob(jobId).fail(String.valueOf(cause.getMessage())));
+        } catch (RuntimeException e) {
+            log.error("Could not mark period close job {} as failed", jobId, e);
+        }
+    }
+
+    private PeriodCloseJob findJob(Long jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("PeriodCloseJob", "id", jobId));
+    }
+}
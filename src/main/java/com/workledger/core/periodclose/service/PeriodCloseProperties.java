@@ -0,0 +1,39 @@
+package com.workledger.core.periodclose.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Chunking and throttling of period-close jobs.
+ */
+@Data
+@ConfigurationProperties(prefix = "workledger.period-close")
+public class PeriodCloseProperties {
+
+    /**
+     * Work entries locked per committed transaction
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Connections that must stay free for interactive traffic before a chunk starts
+     */
+    private int reservedConnections = 3;
+
+    /**
+     * Hikari pool to watch for free connections, all pools when empty
+     */
+    private String watchedPool = "";
+
+    /**
+     * Wait before checking the pool again when it is too busy
+     */
+    private Duration throttlePause = Duration.ofMillis(200);
+
+    /**
+     * Pause after every chunk, giving other transactions a turn at the rows and the pool
+     */
+    private Duration chunkPause = Duration.ofMillis(10);
+}
@@ -0,0 +1,39 @@
+package com.workledger.core.periodclose.service;
+
+import com.workledger.core.periodclose.dto.PeriodCloseJobResponse;
+import com.workledger.core.periodclose.dto.StartPeriodCloseRequest;
+
+/**
+ * Service interface for closing periods: locking every SUBMITTED work entry of a date range in the background.
+ */
+public interface PeriodCloseService {
+
+    /**
+     * Creates a period-close job and starts it in the background.
+     *
+     * @param request the date range to close
+     * @return the created job
+     * @throws com.workledger.core.common.exception.BusinessValidationException if the range is invalid or another job is active
+     */
+    PeriodCloseJobResponse startPeriodClose(StartPeriodCloseRequest request);
+
+    /**
+     * Retrieves the progress of a period-close job.
+     *
+     * @param id the job identifier
+     * @return the job status and progress
+     * @throws com.workledger.core.common.exception.ResourceNotFoundException if job not found
+     */
+    PeriodCloseJobResponse getPeriodCloseJob(Long id);
+
+    /**
+     * Restarts a failed or interrupted job from its checkpoint.
+     *
+     * @param id the job identifier
+     * @return the job status and progress
+     * @throws com.workledger.core.common.exception.ResourceNotFoundException if job not found
+     * @throws com.workledger.core.common.exception.InvalidStateException if the job is completed or running on this node
+     * @throws com.workledger.core.common.exception.BusinessValidationException if the job failed and another job is active
+     */
+    PeriodCloseJobResponse resumePeriodClose(Long id);
+}
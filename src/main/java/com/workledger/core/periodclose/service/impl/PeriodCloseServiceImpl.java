@@ -0,0 +1,111 @@
+package com.workledger.core.periodclose.service.impl;
+
+import com.workledger.core.common.exception.BusinessValidationException;
+import com.workledger.core.common.exception.InvalidStateException;
+import com.workledger.core.common.exception.ResourceNotFoundException;
+import com.workledger.core.periodclose.domain.PeriodCloseJob;
+import com.workledger.core.periodclose.domain.PeriodCloseStatus;
+import com.workledger.core.periodclose.dto.PeriodCloseJobResponse;
+import com.workledger.core.periodclose.dto.StartPeriodCloseRequest;
+import com.workledger.core.periodclose.repository.PeriodCloseJobRepository;
+import com.workledger.core.periodclose.service.PeriodCloseJobRunner;
+import com.workledger.core.periodclose.service.PeriodCloseService;
+import com.workledger.core.timesheet.domain.WorkEntryStatus;
+import com.workledger.core.timesheet.repository.WorkEntryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+
+import static com.workledger.core.common.util.ValidationUtils.*;
+
+/**
+ * Implementation of PeriodCloseService interface.
+ * Creates and inspects jobs; the locking itself is done by PeriodCloseJobRunner.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class PeriodCloseServiceImpl implements PeriodCloseService {
+
+    private static final String ACTIVE_JOB_MESSAGE = "Another period close job is still active";
+
+    private final PeriodCloseJobRepository jobRepository;
+    private final WorkEntryRepository workEntryRepository;
+    private final PeriodCloseJobRunner jobRunner;
+
+    @Override
+    public PeriodCloseJobResponse startPeriodClose(StartPeriodCloseRequest request) {
+        requireNonNull(request, "StartPeriodCloseRequest must not be null");
+        log.debug("Starting period close for {} to {}", request.startDate(), request.endDate());
+        if(request.startDate().isAfter(request.endDate())) {
+            throw new BusinessValidationException("Start date cannot be after end date");
+        }
+        if(jobRepository.existsByStatusIn(EnumSet.of(PeriodCloseStatus.PENDING, PeriodCloseStatus.RUNNING))) {
+            throw new BusinessValidationException(ACTIVE_JOB_MESSAGE);
+        }
+
+        long totalEntries = workEntryRepository.countByWorkEntryStatusAndWorkDateBetween(
+                WorkEntryStatus.SUBMITTED, request.startDate(), request.endDate());
+        PeriodCloseJob job = saveActiveJob(PeriodCloseJob.create(request.startDate(), request.endDate(), totalEntries));
+        jobRunner.submit(job.getId());
+
+        log.info("Created period close job {} for {} entries", job.getId(), totalEntries);
+        return PeriodCloseJobResponse.from(job);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PeriodCloseJobResponse getPeriodCloseJob(Long id) {
+        log.debug("Fetching period close job with id: {}", id);
+
+        return PeriodCloseJobResponse.from(findJob(id));
+    }
+
+    @Override
+    public PeriodCloseJobResponse resumePeriodClose(Long id) {
+        log.debug("Resuming period close job with id: {}", id);
+
+        PeriodCloseJob job = findJob(id);
+        if(job.getStatus() == PeriodCloseStatus.COMPLETED || jobRunner.isRunning(id)) {
+            throw new InvalidStateException(
+                    "Only failed or interrupted period close jobs can be resumed",
+                    jobRunner.isRunning(id) ? "RUNNING" : job.getStatus().name(),
+                    "FAILED or interrupted"
+            );
+        }
+        if(job.getStatus() == PeriodCloseStatus.FAILED) {
+            job.reopen();
+            saveActiveJob(job);
+        }
+        jobRunner.submit(id);
+
+        log.info("Resuming period close job {} after id {}", id, job.getLastProcessedId());
+        return PeriodCloseJobResponse.from(job);
+    }
+
+    // Private helper methods
+    /**
+     * Flushes a PENDING job. The existsByStatusIn check above is only a fast path: two requests can
+     * pass it together, and then the unique index on active jobs (V11 migration) rejects the later one.
+     */
+    private PeriodCloseJob saveActiveJob(PeriodCloseJob job) {
+        try {
+            return jobRepository.saveAndFlush(job);
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessValidationException(ACTIVE_JOB_MESSAGE);
+        }
+    }
+
+    private PeriodCloseJob findJob(Long id) {
+        requireNonNull(id, "Period close job id");
+        return jobRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "PeriodCloseJob", "id", id
+                ));
+    }
+}
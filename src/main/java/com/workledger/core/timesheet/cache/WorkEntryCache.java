@@ -0,0 +1,151 @@
+package com.workledger.core.timesheet.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.workledger.core.common.invalidation.InvalidationHandler;
+import com.workledger.core.timesheet.domain.WorkEntryStatus;
+import com.workledger.core.timesheet.dto.WorkEntryResponse;
+import com.workledger.core.timesheet.event.WorkEntryChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of work entries by id.
+ *
+ * LOCKED entries can never change again (see WorkEntry.canModify) and are kept until
+ * evicted by size. DRAFT and SUBMITTED entries are evicted after every committed write
+ * and additionally expire after a short TTL.
+ *
+ * Writes on other nodes arrive through the {@link InvalidationHandler} callbacks.
+ *
+ * Loads run inside Caffeine's per-key computation, and an eviction of a key that is
+ * being loaded waits for the load to finish, so a value read before a commit cannot
+ * be stored after that commit's eviction.
+ */
+@Slf4j
+@Component
+public class WorkEntryCache implements InvalidationHandler {
+
+    public static final String CACHE_NAME = "workEntries";
+
+    private final Cache<Long, WorkEntryResponse> cache;
+
+    public WorkEntryCache(
+            @Value("${workledger.cache.work-entry.maximum-size:10000}") long maximumSize,
+            @Value("${workledger.cache.work-entry.mutable-ttl:5m}") Duration mutableTtl,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new StatusExpiry(mutableTtl))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", CACHE_NAME)
+                .description("Share of lookups served from the cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached entry, loading it on a miss.
+     *
+     * @param id the work entry identifier
+     * @param loader loads the entry from the database, may throw
+     * @return the work entry response
+     */
+    public WorkEntryResponse get(Long id, Function<Long, WorkEntryResponse> loader) {
+        return cache.get(id, loader);
+    }
+
+    /**
+     * Returns the cached entries and loads the others with one bulk call.
+     *
+     * Unlike {@link #get}, a bulk load does not run inside per-key computations, so a
+     * DRAFT or SUBMITTED entry it read could be stored after a concurrent commit's eviction.
+     * Only LOCKED entries from the load are therefore stored.
+     *
+     * @param ids the work entry identifiers
+     * @param loader loads the missing entries, skipping ids that do not exist
+     * @return entries keyed by id, without the ids the loader did not return
+     */
+    public Map<Long, WorkEntryResponse> getAll(Collection<Long> ids,
+                                               Function<List<Long>, Collection<WorkEntryResponse>> loader) {
+        Map<Long, WorkEntryResponse> found = new HashMap<>(cache.getAllPresent(ids));
+        List<Long> missing = ids.stream()
+                .filter(id -> !found.containsKey(id))
+                .toList();
+
+        if(!missing.isEmpty()) {
+            for(WorkEntryResponse response : loader.apply(missing)) {
+                found.put(response.id(), response);
+                if(response.workEntryStatus() == WorkEntryStatus.LOCKED) {
+                    cache.asMap().putIfAbsent(response.id(), response);
+                }
+            }
+        }
+        return found;
+    }
+
+    public void evict(Long id) {
+        cache.invalidate(id);
+    }
+
+    public void evictAll(Collection<Long> ids) {
+        cache.invalidateAll(ids);
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkEntryChanged(WorkEntryChangedEvent event) {
+        log.debug("Evicting work entry {} after {}", event.id(), event.changeType());
+        evict(event.id());
+    }
+
+    @Override
+    public void invalidate(Set<Long> ids, Set<LocalDate> workDates) {
+        evictAll(ids);
+    }
+
+    @Override
+    public void invalidateAll() {
+        clear();
+    }
+
+    private record StatusExpiry(Duration mutableTtl) implements Expiry<Long, WorkEntryResponse> {
+
+        @Override
+        public long expireAfterCreate(Long key, WorkEntryResponse value, long currentTime) {
+            return value.workEntryStatus() == WorkEntryStatus.LOCKED ? Long.MAX_VALUE : mutableTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, WorkEntryResponse value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, WorkEntryResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
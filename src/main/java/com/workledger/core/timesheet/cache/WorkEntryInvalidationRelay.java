@@ -0,0 +1,24 @@
+package com.workledger.core.timesheet.cache;
+
+import com.workledger.core.common.invalidation.InvalidationPublisher;
+import com.workledger.core.timesheet.event.WorkEntryChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Forwards committed work entry changes to the other nodes.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "workledger.invalidation.enabled", havingValue = "true")
+public class WorkEntryInvalidationRelay {
+
+    private final InvalidationPublisher invalidationPublisher;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkEntryChanged(WorkEntryChangedEvent event) {
+        invalidationPublisher.publish(event.id(), event.workDate(), event.previousWorkDate());
+    }
+}
@@ -2,12 +2,22 @@ package com.workledger.core.timesheet.controller;
 
 
 import com.workledger.core.common.dto.ApiResponse;
+import com.workledger.core.common.dto.ColumnarPageResponse;
+import com.workledger.core.common.dto.CursorPage;
 import com.workledger.core.common.dto.PageResponse;
+import com.workledger.core.timesheet.domain.ProgramType;
 import com.workledger.core.timesheet.domain.WorkEntryStatus;
 import com.workledger.core.timesheet.dto.CreateWorkEntryRequest;
+import com.workledger.core.timesheet.dto.PatchWorkEntryRequest;
+import com.workledger.core.timesheet.dto.TimesheetView;
 import com.workledger.core.timesheet.dto.UpdateWorkEntryRequest;
+import com.workledger.core.timesheet.dto.WorkEntryBatchResponse;
+import com.workledger.core.timesheet.dto.WorkEntryFacets;
+import com.workledger.core.timesheet.dto.WorkEntryFilter;
 import com.workledger.core.timesheet.dto.WorkEntryResponse;
+import com.workledger.core.timesheet.dto.WorkEntrySearchHit;
 import com.workledger.core.timesheet.dto.WorkEntrySummary;
+import com.workledger.core.timesheet.dto.WorkEntrySummaryColumns;
 import com.workledger.core.timesheet.service.WorkEntryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -26,6 +36,8 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
 
 @RestController
 @RequestMapping("/api/v1/work-entries")
@@ -34,13 +46,27 @@ import java.util.List;
 @Tag(name = "Work Entries", description = "Work entry management APIs")
 public class WorkEntryController {
 
+    /**
+     * Opt-in switch for the columnar variants of the list endpoints.
+     */
+    private static final String COLUMNAR_FORMAT = "format=columnar";
+
+    /**
+     * Employee every endpoint is scoped to: entries are created for it, and entries of other employees are not found.
+     */
+    private static final String EMPLOYEE_HEADER = "X-Employee-Id";
+
     private final WorkEntryService workEntryService;
 
     @PostMapping
     @Operation(summary = "Create a new work entity", description = "Creates a new work entry with the provided details")
-    public ResponseEntity<ApiResponse<WorkEntryResponse>> createWorkEntry(@Valid @RequestBody CreateWorkEntryRequest request) {
+    public ResponseEntity<ApiResponse<WorkEntryResponse>> createWorkEntry(
+            @Parameter(description = "Employee the entry is created for")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
+            @Valid @RequestBody CreateWorkEntryRequest request
+    ) {
         log.info("Creating new work entry for date: {}", request.workDate());
-        WorkEntryResponse response = workEntryService.createWorkEntry(request);
+        WorkEntryResponse response = workEntryService.createWorkEntry(employeeId, request);
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(ApiResponse.created(response, "Work entry created successfully"));
@@ -48,15 +74,74 @@ public class WorkEntryController {
 
     @PutMapping("/{id}")
     @Operation(summary = "Update a work entry", description = "Updates an existing work entry")
-    public ResponseEntity<ApiResponse<WorkEntryResponse>> updateWorkEntry(@PathVariable Long id, @Valid @RequestBody UpdateWorkEntryRequest request) {
+    public ResponseEntity<ApiResponse<WorkEntryResponse>> updateWorkEntry(
+            @Parameter(description = "Employee the entry belongs to")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
+            @PathVariable Long id,
+            @Valid @RequestBody UpdateWorkEntryRequest request
+    ) {
         log.info("Updating work entry with id: {}", id);
-        WorkEntryResponse response = workEntryService.updateWorkEntry(id, request);
+        WorkEntryResponse response = workEntryService.updateWorkEntry(employeeId, id, request);
         return ResponseEntity.ok(ApiResponse.success(response, "Work entry updated successfully"));
     }
 
+    @PatchMapping("/{id}")
+    @Operation(summary = "Partially update a work entry", description = "Updates only the fields present in the request")
+    public ResponseEntity<ApiResponse<WorkEntryResponse>> patchWorkEntry(
+            @Parameter(description = "Employee the entry belongs to")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
+            @PathVariable Long id,
+            @Valid @RequestBody PatchWorkEntryRequest request
+    ) {
+        log.info("Patching work entry with id: {}", id);
+        WorkEntryResponse response = workEntryService.patchWorkEntry(employeeId, id, request);
+        return ResponseEntity.ok(ApiResponse.success(response, "Work entry updated successfully"));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get a work entry", description = "Retrieves a work entry by its identifier")
+    public ResponseEntity<ApiResponse<WorkEntryResponse>> getWorkEntryById(
+            @Parameter(description = "Employee the entry belongs to")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
+            @PathVariable Long id
+    ) {
+        log.info("Fetching work entry with id: {}", id);
+        WorkEntryResponse response = workEntryService.getWorkEntryById(employeeId, id);
+        return ResponseEntity.ok(ApiResponse.success(response, "Work entry fetched successfully"));
+    }
+
+    @GetMapping("/batch")
+    @Operation(summary = "Get several work entries", description = "Retrieves up to 500 work entries by identifier, reporting the ids that were not found")
+    public ResponseEntity<ApiResponse<WorkEntryBatchResponse>> getWorkEntriesByIds(
+            @Parameter(description = "Employee the entries belong to")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
+            @Parameter(description = "Comma separated work entry ids")
+            @RequestParam List<Long> ids
+    ) {
+        log.info("Fetching {} work entries by id", ids.size());
+        WorkEntryBatchResponse response = workEntryService.getWorkEntriesByIds(employeeId, ids);
+        return ResponseEntity.ok(ApiResponse.success(response, "Work entries fetched successfully"));
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    @Operation(summary = "Get selected fields of a work entry", description = "Retrieves only the requested fields of a work entry")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getWorkEntryFieldsById(
+            @Parameter(description = "Employee the entry belongs to")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
+            @PathVariable Long id,
+            @Parameter(description = "Comma separated WorkEntryResponse fields")
+            @RequestParam List<String> fields
+    ) {
+        log.info("Fetching fields {} of work entry with id: {}", fields, id);
+        Map<String, Object> response = workEntryService.getWorkEntryFieldsById(employeeId, id, fields);
+        return ResponseEntity.ok(ApiResponse.success(response, "Work entry fetched successfully"));
+    }
+
     @GetMapping
     @Operation(summary = "Get all work entries", description = "Retrieves all work entries with pagination")
     public ResponseEntity<ApiResponse<PageResponse<WorkEntrySummary>>> getAllWorkEntries(
+            @Parameter(description = "Employee whose entries are returned")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
             @Parameter(description = "Page number (0-indexed)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size")
@@ -71,15 +156,60 @@ public class WorkEntryController {
 
         log.info("Fetching all work entries - page: {}, size: {}, sort: {} {}", page, size, sortBy, direction);
 
-        Page<WorkEntrySummary> workEntriesPage = workEntryService.getAllWorkEntries(pageable);
+        Page<WorkEntrySummary> workEntriesPage = workEntryService.getAllWorkEntries(employeeId, pageable);
         PageResponse<WorkEntrySummary> pageResponse = PageResponse.from(workEntriesPage);
 
         return ResponseEntity.ok(ApiResponse.success(pageResponse,"Response with pagination"));
     }
 
+    @GetMapping(params = "fields")
+    @Operation(summary = "Get selected fields of all work entries", description = "Retrieves only the requested fields of all work entries with pagination")
+    public ResponseEntity<ApiResponse<PageResponse<Map<String, Object>>>> getAllWorkEntryFields(
+            @Parameter(description = "Employee whose entries are returned")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
+            @Parameter(description = "Comma separated WorkEntryResponse fields")
+            @RequestParam List<String> fields,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "workDate") String sortBy,
+            @RequestParam(defaultValue = "DESC") String direction
+    ) {
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+
+        log.info("Fetching fields {} of all work entries - page: {}, size: {}, sort: {} {}", fields, page, size, sortBy, direction);
+
+        Page<Map<String, Object>> workEntriesPage = workEntryService.getAllWorkEntryFields(employeeId, fields, pageable);
+        PageResponse<Map<String, Object>> pageResponse = PageResponse.from(workEntriesPage);
+
+        return ResponseEntity.ok(ApiResponse.success(pageResponse, "Response with pagination"));
+    }
+
+    @GetMapping(params = {COLUMNAR_FORMAT, "!fields"})
+    @Operation(summary = "Get all work entries (columnar)", description = "Retrieves all work entries with pagination, one array per field")
+    public ResponseEntity<ApiResponse<ColumnarPageResponse<WorkEntrySummaryColumns>>> getAllWorkEntriesColumnar(
+            @Parameter(description = "Employee whose entries are returned")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "workDate") String sortBy,
+            @RequestParam(defaultValue = "DESC") String direction
+    ) {
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+
+        log.info("Fetching all work entries (columnar) - page: {}, size: {}, sort: {} {}", page, size, sortBy, direction);
+
+        Page<WorkEntrySummary> workEntriesPage = workEntryService.getAllWorkEntries(employeeId, pageable);
+        return ResponseEntity.ok(ApiResponse.success(
+                ColumnarPageResponse.from(workEntriesPage, WorkEntrySummaryColumns::from), "Columnar response with pagination"));
+    }
+
     @GetMapping("/date-range")
     @Operation(summary = "Get work entries by date range", description = "Retrieves work entries within a specified date range")
-    public ResponseEntity<ApiResponse<PageResponse<WorkEntrySummary>>> getWorkEntriesByDateRange(
+    public Callable<ResponseEntity<ApiResponse<PageResponse<WorkEntrySummary>>>> getWorkEntriesByDateRange(
+            @Parameter(description = "Employee whose entries are returned")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
             @Parameter(description = "Start date (yyyy-MM-dd)")
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @Parameter(description = "End date (yyyy-MM-dd)")
@@ -91,27 +221,82 @@ public class WorkEntryController {
 
         log.info("Fetching work entries for date range: {} to {}", startDate, endDate);
 
-        Page<WorkEntrySummary> workEntriesPage = workEntryService.getWorkEntriesByDateRange(startDate, endDate, pageable);
-        PageResponse<WorkEntrySummary> pageResponse = PageResponse.from(workEntriesPage);
+        return () -> {
+            Page<WorkEntrySummary> workEntriesPage = workEntryService.getWorkEntriesByDateRange(employeeId, startDate, endDate, pageable);
+            PageResponse<WorkEntrySummary> pageResponse = PageResponse.from(workEntriesPage);
 
-        return ResponseEntity.ok(ApiResponse.success(pageResponse,"Response with pagination"));
+            return ResponseEntity.ok(ApiResponse.success(pageResponse,"Response with pagination"));
+        };
+    }
+
+    @GetMapping(value = "/date-range", params = COLUMNAR_FORMAT)
+    @Operation(summary = "Get work entries by date range (columnar)", description = "Retrieves work entries within a specified date range, one array per field")
+    public Callable<ResponseEntity<ApiResponse<ColumnarPageResponse<WorkEntrySummaryColumns>>>> getWorkEntriesByDateRangeColumnar(
+            @Parameter(description = "Employee whose entries are returned")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "workDate"));
+
+        log.info("Fetching work entries (columnar) for date range: {} to {}", startDate, endDate);
+
+        return () -> {
+            Page<WorkEntrySummary> workEntriesPage = workEntryService.getWorkEntriesByDateRange(employeeId, startDate, endDate, pageable);
+            return ResponseEntity.ok(ApiResponse.success(
+                    ColumnarPageResponse.from(workEntriesPage, WorkEntrySummaryColumns::from), "Columnar response with pagination"));
+        };
     }
 
     @GetMapping("/date/{date}")
     @Operation(summary = "Get work entries by specified date", description = "Retrieves all work entries for a specific date")
     public ResponseEntity<ApiResponse<List<WorkEntrySummary>>> getWorkEntriesByDate(
+            @Parameter(description = "Employee whose entries are returned")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
             @Parameter(description = "Work date (yyyy-MM-dd)")
             @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
     ) {
         log.info("Fetching work entries for date: {}", date);
-        List<WorkEntrySummary> workEntries = workEntryService.getWorkEntriesByDate(date);
+        List<WorkEntrySummary> workEntries = workEntryService.getWorkEntriesByDate(employeeId, date);
 
         return ResponseEntity.ok(ApiResponse.success(workEntries,"Response in a list"));
     }
 
+    @GetMapping("/week/{date}")
+    @Operation(summary = "Get week timesheet", description = "Retrieves the Monday to Sunday week containing the date, grouped per day with subtotals")
+    public ResponseEntity<ApiResponse<TimesheetView>> getWeekTimesheet(
+            @Parameter(description = "Employee whose entries are returned")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
+            @Parameter(description = "Any date within the week (yyyy-MM-dd)")
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        log.info("Fetching week timesheet for date: {}", date);
+        TimesheetView timesheet = workEntryService.getWeekTimesheet(employeeId, date);
+
+        return ResponseEntity.ok(ApiResponse.success(timesheet, "Week timesheet fetched successfully"));
+    }
+
+    @GetMapping("/month/{date}")
+    @Operation(summary = "Get month timesheet", description = "Retrieves the calendar month containing the date, grouped per day with subtotals")
+    public ResponseEntity<ApiResponse<TimesheetView>> getMonthTimesheet(
+            @Parameter(description = "Employee whose entries are returned")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
+            @Parameter(description = "Any date within the month (yyyy-MM-dd)")
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        log.info("Fetching month timesheet for date: {}", date);
+        TimesheetView timesheet = workEntryService.getMonthTimesheet(employeeId, date);
+
+        return ResponseEntity.ok(ApiResponse.success(timesheet, "Month timesheet fetched successfully"));
+    }
+
     @GetMapping("/status/{status}")
     @Operation(summary = "Get work entries by status", description = "Retrieves work entries filtered by status")
     public ResponseEntity<ApiResponse<PageResponse<WorkEntrySummary>>> getWorkEntriesByStatus(
+            @Parameter(description = "Employee whose entries are returned")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
             @Parameter(description = "Work entry status")
             @PathVariable WorkEntryStatus status,
             @RequestParam(defaultValue = "0") int page,
@@ -121,47 +306,155 @@ public class WorkEntryController {
 
         log.info("Fetching work entries with status: {}", status);
 
-        Page<WorkEntrySummary> workEntriesPage = workEntryService.getWorkEntriesByStatus(status, pageable);
+        Page<WorkEntrySummary> workEntriesPage = workEntryService.getWorkEntriesByStatus(employeeId, status, pageable);
+        PageResponse<WorkEntrySummary> pageResponse = PageResponse.from(workEntriesPage);
+
+        return ResponseEntity.ok(ApiResponse.success(pageResponse, "Response with pagination"));
+    }
+
+    @GetMapping(value = "/status/{status}", params = COLUMNAR_FORMAT)
+    @Operation(summary = "Get work entries by status (columnar)", description = "Retrieves work entries filtered by status, one array per field")
+    public ResponseEntity<ApiResponse<ColumnarPageResponse<WorkEntrySummaryColumns>>> getWorkEntriesByStatusColumnar(
+            @Parameter(description = "Employee whose entries are returned")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
+            @PathVariable WorkEntryStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC,"workDate"));
+
+        log.info("Fetching work entries (columnar) with status: {}", status);
+
+        Page<WorkEntrySummary> workEntriesPage = workEntryService.getWorkEntriesByStatus(employeeId, status, pageable);
+        return ResponseEntity.ok(ApiResponse.success(
+                ColumnarPageResponse.from(workEntriesPage, WorkEntrySummaryColumns::from), "Columnar response with pagination"));
+    }
+
+    @GetMapping("/filter")
+    @Operation(summary = "Filter work entries", description = "Retrieves work entries matching any combination of status, program, ticket and date range")
+    public ResponseEntity<ApiResponse<PageResponse<WorkEntrySummary>>> filterWorkEntries(
+            @Parameter(description = "Employee whose entries are returned")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
+            @RequestParam(required = false) WorkEntryStatus status,
+            @RequestParam(required = false) ProgramType programType,
+            @RequestParam(required = false) String programReference,
+            @RequestParam(required = false) String ticketId,
+            @Parameter(description = "Start date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "workDate"));
+        WorkEntryFilter filter = new WorkEntryFilter(employeeId, startDate, endDate, status, programType, programReference, ticketId);
+
+        log.info("Filtering work entries with: {}", filter);
+
+        Page<WorkEntrySummary> workEntriesPage = workEntryService.filterWorkEntries(filter, pageable);
         PageResponse<WorkEntrySummary> pageResponse = PageResponse.from(workEntriesPage);
 
         return ResponseEntity.ok(ApiResponse.success(pageResponse, "Response with pagination"));
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "Search work entries", description = "Full-text search over descriptions, ranked and paged with a cursor")
+    public ResponseEntity<ApiResponse<CursorPage<WorkEntrySearchHit>>> searchWorkEntries(
+            @Parameter(description = "Employee whose entries are returned")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
+            @Parameter(description = "Search text, e.g. migration -rollback")
+            @RequestParam String q,
+            @Parameter(description = "Start date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) WorkEntryStatus status,
+            @RequestParam(required = false) ProgramType programType,
+            @RequestParam(required = false) String programReference,
+            @RequestParam(required = false) String ticketId,
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        log.info("Searching work entries for: {}", q);
+
+        WorkEntryFilter filter = new WorkEntryFilter(employeeId, startDate, endDate, status, programType, programReference, ticketId);
+        CursorPage<WorkEntrySearchHit> hits = workEntryService.searchWorkEntries(q, filter, cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success(hits, "Response with cursor pagination"));
+    }
+
+    @GetMapping("/facets")
+    @Operation(summary = "Get work entry facets", description = "Entry counts and hours per status, program type and top program references for a date range, in one query")
+    public Callable<ResponseEntity<ApiResponse<WorkEntryFacets>>> getWorkEntryFacets(
+            @Parameter(description = "Employee whose entries are counted")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
+            @Parameter(description = "Start date (yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (yyyy-MM-dd)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Number of program references to return, the most used first")
+            @RequestParam(defaultValue = "10") int topReferences
+    ) {
+        log.info("Fetching work entry facets for date range: {} to {}", startDate, endDate);
+        return () -> {
+            WorkEntryFacets facets = workEntryService.getWorkEntryFacets(employeeId, startDate, endDate, topReferences);
+
+            return ResponseEntity.ok(ApiResponse.success(facets, "Work entry facets fetched successfully"));
+        };
+    }
+
     @PatchMapping("/{id}/submit")
     @Operation(summary = "Submit work entry", description = "Submits a draft work entry for approval")
-    public ResponseEntity<ApiResponse<WorkEntryResponse>> submitWorkEntry(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<WorkEntryResponse>> submitWorkEntry(
+            @Parameter(description = "Employee the entry belongs to")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
+            @PathVariable Long id
+    ) {
         log.info("Submitting work entry with id: {}", id);
-        WorkEntryResponse response = workEntryService.submitWorkEntry(id);
+        WorkEntryResponse response = workEntryService.submitWorkEntry(employeeId, id);
         return ResponseEntity.ok(ApiResponse.success(response, "Work entry submit successfully"));
     }
 
     @PatchMapping("/{id}/lock")
     @Operation(summary = "Lock work entry", description = "Locks a submitted work entry")
-    public ResponseEntity<ApiResponse<WorkEntryResponse>> lockWorkEntry(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<WorkEntryResponse>> lockWorkEntry(
+            @Parameter(description = "Employee the entry belongs to")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
+            @PathVariable Long id
+    ) {
         log.info("Locking work entry with id: {}", id);
-        WorkEntryResponse response = workEntryService.lockWorkEntry(id);
+        WorkEntryResponse response = workEntryService.lockWorkEntry(employeeId, id);
         return ResponseEntity.ok(ApiResponse.success(response, "Work entry locked successfully"));
     }
 
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete work entry", description = "Deletes a work entry")
-    public ResponseEntity<ApiResponse<Void>> deleteWorkEntry(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<Void>> deleteWorkEntry(
+            @Parameter(description = "Employee the entry belongs to")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
+            @PathVariable Long id
+    ) {
         log.info("Deleting work entry with id: {}", id);
-        workEntryService.deleteWorkEntry(id);
+        workEntryService.deleteWorkEntry(employeeId, id);
         return ResponseEntity.ok(ApiResponse.noContent("Work entry deleted successfully"));
     }
 
     @GetMapping("/hours/total")
     @Operation(summary = "Calculates total hours", description = "Calculate total hours spent within a date range")
-    public ResponseEntity<ApiResponse<Double>> calculateTotalHours(
+    public Callable<ResponseEntity<ApiResponse<Double>>> calculateTotalHours(
+            @Parameter(description = "Employee whose entries are returned")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
             @Parameter(description = "Start date (yyyy-MM-dd)")
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @Parameter(description = "End date (yyyy-MM-dd)")
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
     ) {
         log.info("Calculating total hours for date range: {} to {}", startDate, endDate);
-        Double totalHours = workEntryService.calculateTotalHours(startDate, endDate);
+        return () -> {
+            Double totalHours = workEntryService.calculateTotalHours(employeeId, startDate, endDate);
 
-        return ResponseEntity.ok(ApiResponse.success(totalHours, String.format("Total hours: %.2f", totalHours)));
+            return ResponseEntity.ok(ApiResponse.success(totalHours, String.format("Total hours: %.2f", totalHours)));
+        };
     }
 }
@@ -0,0 +1,46 @@
+package com.workledger.core.timesheet.controller;
+
+import com.workledger.core.common.dto.ApiResponse;
+import com.workledger.core.timesheet.dto.WorkEntryChanges;
+import com.workledger.core.timesheet.service.WorkEntrySyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/work-entries")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Work Entry Sync", description = "Delta sync of work entries for offline clients")
+public class WorkEntrySyncController {
+
+    /**
+     * Employee whose entries are synced, as in WorkEntryController.
+     */
+    private static final String EMPLOYEE_HEADER = "X-Employee-Id";
+
+    private final WorkEntrySyncService workEntrySyncService;
+
+    @GetMapping("/changes")
+    @Operation(summary = "Get work entry changes", description = "Work entries created, updated or deleted since the cursor of the previous sync, with the cursor to continue from")
+    public ResponseEntity<ApiResponse<WorkEntryChanges>> getChanges(
+            @Parameter(description = "Employee whose entries are synced")
+            @RequestHeader(EMPLOYEE_HEADER) Long employeeId,
+            @Parameter(description = "Cursor returned by the previous sync, omitted for a full sync")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+        log.info("Fetching work entry changes of employee {}", employeeId);
+        WorkEntryChanges changes = workEntrySyncService.getChanges(employeeId, cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success(changes, String.format("Found %d changes", changes.changes().size())));
+    }
+}
@@ -1,20 +1,36 @@
 package com.workledger.core.timesheet.domain;
 
 import com.workledger.core.common.exception.InvalidStateException;
+import com.workledger.core.common.util.HoursUtils;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+/**
+ * UPDATE statements list only the columns that changed (dirty tracking comes from bytecode enhancement).
+ */
 @Data
 @Entity
+@DynamicUpdate
 @Table(name = "work_entries")
 public class WorkEntry {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /**
+     * Owner of the entry and the partition key of work_entries (see V5 migration).
+     */
+    @Column(nullable = false, updatable = false)
+    private Long employeeId;
+
     @Column(nullable = false)
     private LocalDate workDate;
 
@@ -27,11 +43,22 @@ public class WorkEntry {
 
     private String ticketId;
 
+    /**
+     * Loaded on first access only (requires bytecode enhancement, see build.gradle.kts).
+     * Excluded from equals/hashCode/toString so they never trigger the extra select.
+     */
+    @Basic(fetch = FetchType.LAZY)
     @Column(length = 2000)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private String description;
 
+    /**
+     * Work duration in whole minutes, exposed to the API as decimal hours.
+     */
+    @JdbcTypeCode(SqlTypes.SMALLINT)
     @Column(nullable = false)
-    private Double hoursSpent;
+    private Integer minutesSpent;
 
     @Enumerated(EnumType.STRING)
     private WorkEntryStatus workEntryStatus;
@@ -53,6 +80,14 @@ public class WorkEntry {
         updatedAt = LocalDateTime.now();
     }
 
+    public Double getHoursSpent() {
+        return HoursUtils.toHours(minutesSpent);
+    }
+
+    public void setHoursSpent(Double hoursSpent) {
+        this.minutesSpent = HoursUtils.toMinutes(hoursSpent);
+    }
+
     public void canModify() {
         if(this.workEntryStatus == WorkEntryStatus.LOCKED) {
             throw new InvalidStateException(
@@ -0,0 +1,14 @@
+package com.workledger.core.timesheet.dto;
+
+/**
+ * Entry count and hours of one facet value.
+ *
+ * @param value the facet value, null for entries without one
+ * @param entryCount matching entries
+ * @param totalHours summed hours
+ */
+public record FacetCount(
+        String value,
+        long entryCount,
+        Double totalHours
+) {}
@@ -0,0 +1,28 @@
+package com.workledger.core.timesheet.dto;
+
+import com.workledger.core.timesheet.domain.ProgramType;
+import jakarta.validation.constraints.*;
+
+import java.time.LocalDate;
+
+/**
+ * Partial update of a work entry. Null components are left unchanged,
+ * so a field cannot be cleared through a patch.
+ */
+public record PatchWorkEntryRequest(
+        LocalDate workDate,
+
+        ProgramType programType,
+
+        @Size(min = 1, message = "Program reference cannot be blank")
+        String programReference,
+
+        String ticketId,
+
+        @Size(max = 2000, message = "Description cannot exceed 2000 characters")
+        String description,
+
+        @Positive(message = "Hours spent must be positive")
+        @DecimalMax(value = "9.0", message = "Hours spent cannot exceed 9 hours")
+        Double hoursSpent
+) {}
@@ -0,0 +1,13 @@
+package com.workledger.core.timesheet.dto;
+
+import com.workledger.core.timesheet.domain.ProgramType;
+
+/**
+ * Hours booked against one program within a timesheet view.
+ */
+public record ProgramSubtotal(
+        ProgramType programType,
+        String programReference,
+        Double totalHours,
+        long entryCount
+) {}
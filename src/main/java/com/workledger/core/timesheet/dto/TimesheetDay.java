@@ -0,0 +1,13 @@
+package com.workledger.core.timesheet.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * One day of a timesheet view with its entries and hour subtotal.
+ */
+public record TimesheetDay(
+        LocalDate workDate,
+        Double totalHours,
+        List<WorkEntrySummary> entries
+) {}
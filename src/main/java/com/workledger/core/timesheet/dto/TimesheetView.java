@@ -0,0 +1,17 @@
+package com.workledger.core.timesheet.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Work entries of a week or month grouped per day, with per-day and per-program subtotals.
+ * Every day of the period is present, including days without entries.
+ */
+public record TimesheetView(
+        Long employeeId,
+        LocalDate startDate,
+        LocalDate endDate,
+        Double totalHours,
+        List<TimesheetDay> days,
+        List<ProgramSubtotal> programs
+) {}
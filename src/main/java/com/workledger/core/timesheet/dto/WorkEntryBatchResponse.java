@@ -0,0 +1,11 @@
+package com.workledger.core.timesheet.dto;
+
+import java.util.List;
+
+/**
+ * Result of a multi-get: found entries in the requested order, plus the ids that do not exist.
+ */
+public record WorkEntryBatchResponse(
+        List<WorkEntryResponse> entries,
+        List<Long> missingIds
+) {}
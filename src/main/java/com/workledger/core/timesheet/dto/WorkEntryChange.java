@@ -0,0 +1,14 @@
+package com.workledger.core.timesheet.dto;
+
+/**
+ * A work entry created or updated, or deleted, since a sync cursor.
+ *
+ * @param id the work entry identifier
+ * @param deleted whether the entry was deleted; the client drops it
+ * @param entry the current state, null when deleted
+ */
+public record WorkEntryChange(
+        Long id,
+        boolean deleted,
+        WorkEntryResponse entry
+) {}
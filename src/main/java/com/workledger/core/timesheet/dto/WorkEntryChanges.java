@@ -0,0 +1,18 @@
+package com.workledger.core.timesheet.dto;
+
+import java.util.List;
+
+/**
+ * One page of a delta sync.
+ *
+ * @param changes changes in commit order, each entry at most once with its latest state
+ * @param cursor cursor to pass on the next sync, also when there are no changes
+ * @param hasMore whether more changes can be fetched right away with {@code cursor}
+ * @param resetRequired the cursor predates purged tombstones: the client drops its copy and syncs without a cursor
+ */
+public record WorkEntryChanges(
+        List<WorkEntryChange> changes,
+        String cursor,
+        boolean hasMore,
+        boolean resetRequired
+) {}
@@ -0,0 +1,23 @@
+package com.workledger.core.timesheet.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Counts and hours per facet value for the filter sidebar, computed in one query.
+ *
+ * @param startDate first day (inclusive)
+ * @param endDate last day (inclusive)
+ * @param total all entries in the range
+ * @param statuses per work entry status
+ * @param programTypes per program type
+ * @param programReferences the most used program references
+ */
+public record WorkEntryFacets(
+        LocalDate startDate,
+        LocalDate endDate,
+        FacetCount total,
+        List<FacetCount> statuses,
+        List<FacetCount> programTypes,
+        List<FacetCount> programReferences
+) {}
@@ -0,0 +1,83 @@
+package com.workledger.core.timesheet.dto;
+
+import com.workledger.core.common.exception.BusinessValidationException;
+import com.workledger.core.common.util.HoursUtils;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldset support for {@link WorkEntryResponse}.
+ * Resolves a client supplied {@code fields=} list against the response DTO.
+ */
+public final class WorkEntryFields {
+
+    private WorkEntryFields() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    private static final String HOURS_SPENT = "hoursSpent";
+    private static final String MINUTES_SPENT = "minutesSpent";
+
+    /**
+     * All selectable fields, in WorkEntryResponse declaration order
+     */
+    public static final List<String> ALL = Arrays.stream(WorkEntryResponse.class.getRecordComponents())
+            .map(RecordComponent::getName)
+            .toList();
+
+    /**
+     * Maps a WorkEntryResponse field to the WorkEntry attribute it is read from.
+     * hoursSpent is stored as minutesSpent.
+     *
+     * @param field a WorkEntryResponse field name
+     * @return the entity attribute name
+     */
+    public static String attribute(String field) {
+        return HOURS_SPENT.equals(field) ? MINUTES_SPENT : field;
+    }
+
+    /**
+     * Converts a value read through {@link #attribute(String)} back to the API representation.
+     */
+    public static Object toApiValue(String field, Object value) {
+        return HOURS_SPENT.equals(field) ? HoursUtils.toHours((Integer) value) : value;
+    }
+
+    /**
+     * Validates the requested fields and returns them in declaration order without duplicates.
+     *
+     * @param requested field names supplied by the client
+     * @return the selected fields
+     * @throws BusinessValidationException if a field is unknown or nothing was requested
+     */
+    public static List<String> resolve(Collection<String> requested) {
+        if(requested == null || requested.isEmpty()) {
+            throw new BusinessValidationException("At least one field must be requested");
+        }
+
+        Set<String> names = requested.stream()
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+
+        List<String> unknown = names.stream()
+                .filter(name -> !ALL.contains(name))
+                .sorted()
+                .map(name -> "Unknown field: " + name)
+                .toList();
+        if(!unknown.isEmpty()) {
+            throw new BusinessValidationException(unknown);
+        }
+
+        List<String> selected = ALL.stream().filter(names::contains).toList();
+        if(selected.isEmpty()) {
+            throw new BusinessValidationException("At least one field must be requested");
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,20 @@
+package com.workledger.core.timesheet.dto;
+
+import com.workledger.core.timesheet.domain.ProgramType;
+import com.workledger.core.timesheet.domain.WorkEntryStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Optional filters shared by the work entry search and filter endpoints.
+ * A null component means the filter is not applied, except employeeId which is always required.
+ */
+public record WorkEntryFilter(
+        Long employeeId,
+        LocalDate startDate,
+        LocalDate endDate,
+        WorkEntryStatus workEntryStatus,
+        ProgramType programType,
+        String programReference,
+        String ticketId
+) {}
@@ -8,6 +8,7 @@ import java.time.LocalDateTime;
 
 public record WorkEntryResponse(
         Long id,
+        Long employeeId,
         LocalDate workDate,
         ProgramType programType,
         String programReference,
@@ -0,0 +1,50 @@
+package com.workledger.core.timesheet.dto;
+
+import com.workledger.core.common.exception.BusinessValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position in a ranked description search: the rank and id of the last row returned.
+ */
+public record WorkEntrySearchCursor(
+        double rank,
+        long id
+) {
+
+    public static WorkEntrySearchCursor of(WorkEntrySearchHit hit) {
+        return new WorkEntrySearchCursor(hit.rank(), hit.id());
+    }
+
+    public String encode() {
+        String raw = rank + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously returned to the client.
+     *
+     * @param cursor the opaque cursor, may be null for the first page
+     * @return the decoded cursor or null
+     * @throws BusinessValidationException if the cursor is malformed
+     */
+    public static WorkEntrySearchCursor decode(String cursor) {
+        if(cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(':');
+            double rank = Double.parseDouble(raw.substring(0, separator));
+            long id = Long.parseLong(raw.substring(separator + 1));
+            // Ranks are finite and never negative; anything else was not issued by us
+            if(!Double.isFinite(rank) || rank < 0 || id <= 0) {
+                throw new BusinessValidationException("Invalid cursor");
+            }
+            return new WorkEntrySearchCursor(rank, id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BusinessValidationException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.workledger.core.timesheet.dto;
+
+import com.workledger.core.timesheet.domain.ProgramType;
+import com.workledger.core.timesheet.domain.WorkEntryStatus;
+
+import java.time.LocalDate;
+
+public record WorkEntrySearchHit(
+        Long id,
+        LocalDate workDate,
+        ProgramType programType,
+        String programReference,
+        String ticketId,
+        Double hoursSpent,
+        WorkEntryStatus workEntryStatus,
+        Double rank,
+        String snippet
+) {}
@@ -7,6 +7,7 @@ import java.time.LocalDate;
 
 public record WorkEntrySummary(
         Long id,
+        Long employeeId,
         LocalDate workDate,
         ProgramType programType,
         String programReference,
@@ -0,0 +1,35 @@
+package com.workledger.core.timesheet.dto;
+
+import com.workledger.core.common.dto.DictionaryColumn;
+import com.workledger.core.timesheet.domain.ProgramType;
+import com.workledger.core.timesheet.domain.WorkEntryStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Columnar form of a list of {@link WorkEntrySummary}.
+ * Row i is made of the i-th element of every column.
+ */
+public record WorkEntrySummaryColumns(
+        List<Long> id,
+        DictionaryColumn<Long> employeeId,
+        List<LocalDate> workDate,
+        DictionaryColumn<ProgramType> programType,
+        DictionaryColumn<String> programReference,
+        List<Double> hoursSpent,
+        DictionaryColumn<WorkEntryStatus> workEntryStatus
+) {
+
+    public static WorkEntrySummaryColumns from(List<WorkEntrySummary> summaries) {
+        return new WorkEntrySummaryColumns(
+                summaries.stream().map(WorkEntrySummary::id).toList(),
+                DictionaryColumn.encode(summaries, WorkEntrySummary::employeeId),
+                summaries.stream().map(WorkEntrySummary::workDate).toList(),
+                DictionaryColumn.encode(summaries, WorkEntrySummary::programType),
+                DictionaryColumn.encode(summaries, WorkEntrySummary::programReference),
+                summaries.stream().map(WorkEntrySummary::hoursSpent).toList(),
+                DictionaryColumn.encode(summaries, WorkEntrySummary::workEntryStatus)
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package com.workledger.core.timesheet.dto;
+
+import com.workledger.core.common.exception.BusinessValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in the change stream of an employee's work entries: the change transaction id and
+ * entry id of the last change returned (see V9 migration).
+ */
+public record WorkEntrySyncCursor(
+        long changeXid,
+        long id
+) {
+
+    public static final WorkEntrySyncCursor START = new WorkEntrySyncCursor(0, 0);
+
+    public String encode() {
+        String raw = changeXid + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously returned to the client.
+     *
+     * @param cursor the opaque cursor, may be null for a full sync
+     * @return the decoded cursor, or {@link #START}
+     * @throws BusinessValidationException if the cursor is malformed
+     */
+    public static WorkEntrySyncCursor decode(String cursor) {
+        if(cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(':');
+            return new WorkEntrySyncCursor(
+                    Long.parseLong(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BusinessValidationException("Invalid cursor");
+        }
+    }
+}
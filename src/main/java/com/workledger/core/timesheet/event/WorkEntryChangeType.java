@@ -0,0 +1,9 @@
+package com.workledger.core.timesheet.event;
+
+public enum WorkEntryChangeType {
+    CREATED,
+    UPDATED,
+    SUBMITTED,
+    LOCKED,
+    DELETED
+}
@@ -0,0 +1,40 @@
+package com.workledger.core.timesheet.event;
+
+import com.workledger.core.timesheet.domain.WorkEntry;
+import com.workledger.core.timesheet.domain.WorkEntryStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Published by WorkEntryService for every write.
+ * Listeners that must only see committed state use {@code @TransactionalEventListener}.
+ *
+ * @param id the work entry identifier
+ * @param changeType what happened to the entry
+ * @param workEntryStatus status after the change
+ * @param workDate work date after the change
+ * @param previousWorkDate work date before the change, null when unchanged or new
+ */
+public record WorkEntryChangedEvent(
+        Long id,
+        WorkEntryChangeType changeType,
+        WorkEntryStatus workEntryStatus,
+        LocalDate workDate,
+        LocalDate previousWorkDate
+) {
+
+    public static WorkEntryChangedEvent of(WorkEntry workEntry, WorkEntryChangeType changeType) {
+        return new WorkEntryChangedEvent(
+                workEntry.getId(), changeType, workEntry.getWorkEntryStatus(), workEntry.getWorkDate(), null);
+    }
+
+    public static WorkEntryChangedEvent updated(WorkEntry workEntry, LocalDate previousWorkDate) {
+        return new WorkEntryChangedEvent(
+                workEntry.getId(),
+                WorkEntryChangeType.UPDATED,
+                workEntry.getWorkEntryStatus(),
+                workEntry.getWorkDate(),
+                previousWorkDate != null && !previousWorkDate.equals(workEntry.getWorkDate()) ? previousWorkDate : null
+        );
+    }
+}
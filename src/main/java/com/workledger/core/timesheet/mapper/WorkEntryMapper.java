@@ -2,6 +2,7 @@ package com.workledger.core.timesheet.mapper;
 
 import com.workledger.core.timesheet.domain.WorkEntry;
 import com.workledger.core.timesheet.dto.CreateWorkEntryRequest;
+import com.workledger.core.timesheet.dto.PatchWorkEntryRequest;
 import com.workledger.core.timesheet.dto.UpdateWorkEntryRequest;
 import com.workledger.core.timesheet.dto.WorkEntryResponse;
 import com.workledger.core.timesheet.dto.WorkEntrySummary;
@@ -21,12 +22,14 @@ import java.util.List;
 public interface WorkEntryMapper {
 
     /**
-     * Maps CreateWorkEntryRequest to WorkEntry Entity
+     * Maps CreateWorkEntryRequest to WorkEntry Entity.
+     * The owner is not part of the request and is set by the caller
      *
      * @param request the creation request DTO
      * @return new WorkEntry entity
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "employeeId", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(source = "workEntryStatus", target = "workEntryStatus", defaultValue = "DRAFT")
@@ -40,6 +43,17 @@ public interface WorkEntryMapper {
      */
     WorkEntryResponse toResponse(WorkEntry workEntry);
 
+    /**
+     * Maps WorkEntry entity to WorkEntryResponse DTO with a description read separately,
+     * so the entity's lazy description is never loaded
+     *
+     * @param workEntry the entity
+     * @param description the description to return
+     * @return response DTO with all fields
+     */
+    @Mapping(target = "description", source = "description")
+    WorkEntryResponse toResponse(WorkEntry workEntry, String description);
+
     /**
      * Maps WorkEntry entity to WorkEntrySummary DTO
      * Contains only essential fields for list views
@@ -57,12 +71,28 @@ public interface WorkEntryMapper {
      * @param workEntry the existing entity to update
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "employeeId", ignore = true)
     @Mapping(target = "workEntryStatus",  ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateEntityFromRequest(UpdateWorkEntryRequest request, @MappingTarget WorkEntry workEntry);
 
+    /**
+     * Applies a partial update to an existing WorkEntry entity.
+     * Null fields are skipped, so untouched attributes stay clean for the dynamic UPDATE
+     *
+     * @param request the patch request DTO
+     * @param workEntry the existing entity to update
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "employeeId", ignore = true)
+    @Mapping(target = "workEntryStatus",  ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    void patchEntityFromRequest(PatchWorkEntryRequest request, @MappingTarget WorkEntry workEntry);
+
     /**
      * Maps a list of WorkEntry entities to WorkEntryResponse DTOs
      *
@@ -0,0 +1,165 @@
+package com.workledger.core.timesheet.repository;
+
+import com.workledger.core.common.util.HoursUtils;
+import com.workledger.core.timesheet.domain.ProgramType;
+import com.workledger.core.timesheet.domain.WorkEntryStatus;
+import com.workledger.core.timesheet.dto.WorkEntryChange;
+import com.workledger.core.timesheet.dto.WorkEntryResponse;
+import com.workledger.core.timesheet.dto.WorkEntrySyncCursor;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reads the change stream of work entries and purges its tombstones (PostgreSQL only, see V9 migration).
+ * Transaction ids travel as text, JDBC has no xid8 type.
+ */
+@Repository
+public class WorkEntryChangeRepository {
+
+    private final JdbcClient jdbcClient;
+
+    public WorkEntryChangeRepository(DataSource dataSource) {
+        this.jdbcClient = JdbcClient.create(dataSource);
+    }
+
+    /**
+     * Oldest transaction still running. Every change stamped below it is committed (or rolled back) for good.
+     * A transaction left open keeps it, and so every client's sync, from moving past its xid.
+     */
+    public long findHorizon() {
+        return jdbcClient.sql("SELECT pg_snapshot_xmin(pg_current_snapshot())::text")
+                .query(String.class)
+                .optional()
+                .map(Long::parseLong)
+                .orElseThrow();
+    }
+
+    /**
+     * How long the oldest transaction of this database that holds an xid or a snapshot has been open,
+     * i.e. how long the horizon has been held back; zero when no other transaction is open.
+     */
+    public Duration findHorizonAge() {
+        return jdbcClient.sql("""
+                        SELECT coalesce(extract(epoch FROM max(clock_timestamp() - xact_start)), 0)
+                        FROM pg_stat_activity
+                        WHERE datname = current_database()
+                          AND pid <> pg_backend_pid()
+                          AND (backend_xid IS NOT NULL OR backend_xmin IS NOT NULL)
+                        """)
+                .query(Double.class)
+                .optional()
+                .map(seconds -> Duration.ofMillis(Math.round(seconds * 1000)))
+                .orElse(Duration.ZERO);
+    }
+
+    /**
+     * Highest deleted_xid of the tombstones purged so far.
+     */
+    public long findPurgedThrough() {
+        return jdbcClient.sql("SELECT purged_through::text FROM work_entry_sync_horizon")
+                .query(String.class)
+                .optional()
+                .map(Long::parseLong)
+                .orElse(0L);
+    }
+
+    /**
+     * Changes of an employee's entries after the cursor and below the horizon, in (change xid, id) order.
+     */
+    public List<ChangedRow> findChanges(Long employeeId, WorkEntrySyncCursor after, long horizon, int limit) {
+        return jdbcClient.sql("""
+                        SELECT * FROM (
+                            SELECT w.id, w.change_xid, false AS deleted, w.employee_id, w.work_date, w.program_type,
+                                   w.program_reference, w.ticket_id, w.description, w.minutes_spent,
+                                   w.work_entry_status, w.created_at, w.updated_at
+                            FROM work_entries w
+                            WHERE w.employee_id = :employeeId
+                              AND w.change_xid < CAST(:horizon AS xid8)
+                              AND (w.change_xid, w.id) > (CAST(:afterXid AS xid8), :afterId)
+                            UNION ALL
+                            SELECT t.work_entry_id, t.deleted_xid, true, t.employee_id, NULL, NULL,
+                                   NULL, NULL, NULL, NULL,
+                                   NULL, NULL, NULL
+                            FROM work_entry_tombstones t
+                            WHERE t.employee_id = :employeeId
+                              AND t.deleted_xid < CAST(:horizon AS xid8)
+                              AND (t.deleted_xid, t.work_entry_id) > (CAST(:afterXid AS xid8), :afterId)
+                        ) changes
+                        ORDER BY change_xid, id
+                        LIMIT :limit
+                        """)
+                .param("employeeId", employeeId)
+                .param("horizon", Long.toString(horizon))
+                .param("afterXid", Long.toString(after.changeXid()))
+                .param("afterId", after.id())
+                .param("limit", limit)
+                .query((rs, rowNum) -> {
+                    long id = rs.getLong("id");
+                    long changeXid = Long.parseLong(rs.getString("change_xid"));
+                    if(rs.getBoolean("deleted")) {
+                        return new ChangedRow(changeXid, new WorkEntryChange(id, true, null));
+                    }
+                    WorkEntryResponse entry = new WorkEntryResponse(
+                            id,
+                            rs.getLong("employee_id"),
+                            rs.getDate("work_date").toLocalDate(),
+                            ProgramType.valueOf(rs.getString("program_type")),
+                            rs.getString("program_reference"),
+                            rs.getString("ticket_id"),
+                            rs.getString("description"),
+                            HoursUtils.toHours(rs.getLong("minutes_spent")),
+                            rs.getString("work_entry_status") != null
+                                    ? WorkEntryStatus.valueOf(rs.getString("work_entry_status")) : null,
+                            rs.getTimestamp("created_at").toLocalDateTime(),
+                            rs.getTimestamp("updated_at").toLocalDateTime()
+                    );
+                    return new ChangedRow(changeXid, new WorkEntryChange(id, false, entry));
+                })
+                .list();
+    }
+
+    /**
+     * Deletes up to {@code limit} tombstones older than the cutoff and raises the purge horizon past them.
+     *
+     * @return the number of tombstones deleted
+     */
+    public int purgeTombstones(LocalDateTime cutoff, int limit) {
+        return jdbcClient.sql("""
+                        WITH purged AS (
+                            DELETE FROM work_entry_tombstones
+                            WHERE id IN (
+                                SELECT id FROM work_entry_tombstones
+                                WHERE deleted_at < :cutoff
+                                ORDER BY id
+                                LIMIT :limit
+                            )
+                            RETURNING deleted_xid
+                        ),
+                        highest AS (
+                            SELECT deleted_xid FROM purged ORDER BY deleted_xid DESC LIMIT 1
+                        ),
+                        horizon AS (
+                            UPDATE work_entry_sync_horizon
+                            SET purged_through = greatest(purged_through, (SELECT deleted_xid FROM highest))
+                            WHERE EXISTS (SELECT 1 FROM highest)
+                        )
+                        SELECT count(*) FROM purged
+                        """)
+                .param("cutoff", Timestamp.valueOf(cutoff))
+                .param("limit", limit)
+                .query(Integer.class)
+                .single();
+    }
+
+    /**
+     * @param changeXid transaction id the change is stamped with
+     * @param change the change
+     */
+    public record ChangedRow(long changeXid, WorkEntryChange change) {}
+}
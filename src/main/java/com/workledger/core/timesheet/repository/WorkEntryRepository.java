@@ -1,42 +1,113 @@
 package com.workledger.core.timesheet.repository;
 
+import com.workledger.core.common.util.HoursUtils;
 import com.workledger.core.timesheet.domain.WorkEntry;
 import com.workledger.core.timesheet.domain.WorkEntryStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * Every by-id, list, date and total query is scoped to one employee, matching the
+ * (employee_id, ...) indexes and the employee_id hash partitioning of work_entries.
+ * Batch jobs are the only callers that work across employees.
+ */
 @Repository
-public interface WorkEntryRepository extends JpaRepository<WorkEntry, Long> {
+public interface WorkEntryRepository extends JpaRepository<WorkEntry, Long>,
+        JpaSpecificationExecutor<WorkEntry>, WorkEntryRepositoryCustom {
 
-    Page<WorkEntry> findByWorkDateBetween(
+    /**
+     * Loads an employee's entry about to be written with its lazy description in the same select,
+     * so building the response after the write needs no second statement.
+     */
+    @Query("""
+            SELECT new com.workledger.core.timesheet.repository.WorkEntryWithDescription(w, w.description)
+            FROM WorkEntry w
+            WHERE w.id = :id
+            AND w.employeeId = :employeeId
+            """)
+    Optional<WorkEntryWithDescription> findWithDescriptionByIdAndEmployeeId(
+            @Param("id") Long id,
+            @Param("employeeId") Long employeeId
+    );
+
+    Optional<WorkEntry> findByIdAndEmployeeId(
+            Long id,
+            Long employeeId
+    );
+
+    Page<WorkEntry> findByEmployeeId(
+            Long employeeId,
+            Pageable pageable
+    );
+
+    Page<WorkEntry> findByEmployeeIdAndWorkDateBetween(
+            Long employeeId,
             LocalDate startDate,
             LocalDate endDate,
             Pageable pageable
     );
 
-    Page<WorkEntry> findByWorkEntryStatus(
+    List<WorkEntry> findByEmployeeIdAndWorkDateBetweenOrderByWorkDateAscIdAsc(
+            Long employeeId,
+            LocalDate startDate,
+            LocalDate endDate
+    );
+
+    Page<WorkEntry> findByEmployeeIdAndWorkEntryStatus(
+            Long employeeId,
             WorkEntryStatus workEntryStatus,
             Pageable pageable
     );
 
-    List<WorkEntry> findByWorkDate(
+    List<WorkEntry> findByEmployeeIdAndWorkDate(
+            Long employeeId,
             LocalDate workDate
     );
 
+    /**
+     * Next chunk of entries in a status across all employees, in id order (used by batch jobs).
+     */
+    List<WorkEntry> findByWorkEntryStatusAndWorkDateBetweenAndIdGreaterThanOrderByIdAsc(
+            WorkEntryStatus workEntryStatus,
+            LocalDate startDate,
+            LocalDate endDate,
+            Long afterId,
+            Limit limit
+    );
+
+    long countByWorkEntryStatusAndWorkDateBetween(
+            WorkEntryStatus workEntryStatus,
+            LocalDate startDate,
+            LocalDate endDate
+    );
+
     @Query("""
-            SELECT SUM(w.hoursSpent)
+            SELECT SUM(w.minutesSpent)
             FROM WorkEntry w
-            WHERE w.workDate BETWEEN :startDate AND :endDate
+            WHERE w.employeeId = :employeeId
+            AND w.workDate BETWEEN :startDate AND :endDate
             """)
-    Double sumHoursByDateRange(
+    Long sumMinutesByDateRange(
+            @Param("employeeId") Long employeeId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
     );
+
+    /**
+     * Decimal hour view of {@link #sumMinutesByDateRange}, exact because the sum is taken over integers.
+     */
+    default Double sumHoursByDateRange(Long employeeId, LocalDate startDate, LocalDate endDate) {
+        Long totalMinutes = sumMinutesByDateRange(employeeId, startDate, endDate);
+        return totalMinutes != null ? HoursUtils.toHours(totalMinutes) : null;
+    }
 }
@@ -0,0 +1,74 @@
+package com.workledger.core.timesheet.repository;
+
+import com.workledger.core.timesheet.dto.WorkEntryFacets;
+import com.workledger.core.timesheet.dto.WorkEntryFilter;
+import com.workledger.core.timesheet.dto.WorkEntryResponse;
+import com.workledger.core.timesheet.dto.WorkEntrySearchCursor;
+import com.workledger.core.timesheet.dto.WorkEntrySearchHit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Hand-written queries for WorkEntry that cannot be expressed as derived queries.
+ */
+public interface WorkEntryRepositoryCustom {
+
+    /**
+     * Loads only the given fields of a single work entry of an employee.
+     *
+     * @param employeeId the owning employee
+     * @param id the work entry identifier
+     * @param fields validated field names
+     * @return field values keyed by field name, in the requested order
+     */
+    Optional<Map<String, Object>> findFieldsById(Long employeeId, Long id, List<String> fields);
+
+    /**
+     * Loads only the given fields of an employee's work entries with pagination support.
+     *
+     * @param employeeId the owning employee
+     * @param fields validated field names
+     * @param pageable pagination information
+     * @return paginated field values keyed by field name
+     */
+    Page<Map<String, Object>> findAllFields(Long employeeId, List<String> fields, Pageable pageable);
+
+    /**
+     * Loads an employee's work entries with the given ids, description included, in one IN query.
+     * Ids without a matching entry of the employee are skipped.
+     *
+     * @param employeeId the owning employee
+     * @param ids work entry identifiers, without duplicates
+     * @return the found entries in no particular order
+     */
+    List<WorkEntryResponse> findResponsesByIds(Long employeeId, Collection<Long> ids);
+
+    /**
+     * Full-text search over descriptions, ranked by relevance (PostgreSQL only).
+     *
+     * @param query web search style query, e.g. {@code migration -rollback}
+     * @param filter employee and additional filters, null components are ignored
+     * @param after keyset position of the last row of the previous page, null for the first page
+     * @param limit maximum number of rows to return
+     * @return hits ordered by rank then id, both descending
+     */
+    List<WorkEntrySearchHit> searchByDescription(String query, WorkEntryFilter filter, WorkEntrySearchCursor after, int limit);
+
+    /**
+     * Counts and sums an employee's entries per status, program type and program reference
+     * in a single GROUPING SETS query (PostgreSQL only).
+     *
+     * @param employeeId the owning employee
+     * @param startDate first day (inclusive)
+     * @param endDate last day (inclusive)
+     * @param topReferences maximum number of program references returned, the most used first
+     * @return facet counts, each facet ordered by entry count descending
+     */
+    WorkEntryFacets findFacets(Long employeeId, LocalDate startDate, LocalDate endDate, int topReferences);
+}
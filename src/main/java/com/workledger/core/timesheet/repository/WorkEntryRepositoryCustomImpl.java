@@ -0,0 +1,306 @@
+package com.workledger.core.timesheet.repository;
+
+import com.workledger.core.common.util.HoursUtils;
+import com.workledger.core.timesheet.domain.ProgramType;
+import com.workledger.core.timesheet.domain.WorkEntry;
+import com.workledger.core.timesheet.domain.WorkEntryStatus;
+import com.workledger.core.timesheet.dto.FacetCount;
+import com.workledger.core.timesheet.dto.WorkEntryFacets;
+import com.workledger.core.timesheet.dto.WorkEntryFields;
+import com.workledger.core.timesheet.dto.WorkEntryFilter;
+import com.workledger.core.timesheet.dto.WorkEntryResponse;
+import com.workledger.core.timesheet.dto.WorkEntrySearchCursor;
+import com.workledger.core.timesheet.dto.WorkEntrySearchHit;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Criteria based implementation of {@link WorkEntryRepositoryCustom}.
+ * Field restricted queries select only the requested columns as a tuple,
+ * so unrequested columns are never read from the database.
+ * PostgreSQL specific queries are written as native SQL.
+ */
+public class WorkEntryRepositoryCustomImpl implements WorkEntryRepositoryCustom {
+
+    private static final String TS_QUERY = "websearch_to_tsquery('english', :query)";
+    private static final int GROUPED_BY_STATUS = 0b011;
+    private static final int GROUPED_BY_PROGRAM_TYPE = 0b101;
+    private static final int GROUPED_BY_PROGRAM_REFERENCE = 0b110;
+    private static final String HEADLINE_OPTIONS = "StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=20, MinWords=5";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcClient jdbcClient;
+
+    public WorkEntryRepositoryCustomImpl(DataSource dataSource) {
+        this.jdbcClient = JdbcClient.create(dataSource);
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findFieldsById(Long employeeId, Long id, List<String> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<WorkEntry> root = query.from(WorkEntry.class);
+
+        query.multiselect(selections(root, fields))
+                .where(cb.equal(root.get("id"), id),
+                        cb.equal(root.get("employeeId"), employeeId));
+
+        return entityManager.createQuery(query)
+                .getResultStream()
+                .findFirst()
+                .map(tuple -> toMap(tuple, fields));
+    }
+
+    @Override
+    public Page<Map<String, Object>> findAllFields(Long employeeId, List<String> fields, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<WorkEntry> root = query.from(WorkEntry.class);
+
+        query.multiselect(selections(root, fields))
+                .where(cb.equal(root.get("employeeId"), employeeId))
+                .orderBy(orders(root, cb, pageable.getSort()));
+
+        List<Map<String, Object>> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultStream()
+                .map(tuple -> toMap(tuple, fields))
+                .toList();
+
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<WorkEntry> countRoot = countQuery.from(WorkEntry.class);
+        countQuery.select(cb.count(countRoot))
+                .where(cb.equal(countRoot.get("employeeId"), employeeId));
+        Long total = entityManager.createQuery(countQuery).getSingleResult();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    public List<WorkEntryResponse> findResponsesByIds(Long employeeId, Collection<Long> ids) {
+        // Selecting the columns rather than the entity reads the lazy description in the same query.
+        // Callers bound the ids (WorkEntryService.MAX_BATCH_IDS), far below the driver's bind parameter limit.
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<WorkEntry> root = query.from(WorkEntry.class);
+        query.multiselect(selections(root, WorkEntryFields.ALL))
+                .where(cb.equal(root.get("employeeId"), employeeId),
+                        root.get("id").in(ids));
+
+        // A list rather than a stream: outside a transaction the shared EntityManager
+        // is only closed when a returned stream is closed
+        return entityManager.createQuery(query)
+                .getResultList()
+                .stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Override
+    public List<WorkEntrySearchHit> searchByDescription(String query, WorkEntryFilter filter, WorkEntrySearchCursor after, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("query", query);
+        params.put("limit", limit);
+
+        // Only the page itself is joined back for ts_headline, which is the expensive part.
+        StringBuilder sql = new StringBuilder()
+                .append("WITH matches AS (")
+                .append(" SELECT w.id, ts_rank_cd(w.description_tsv, q.query)::float8 AS rank")
+                .append(" FROM work_entries w, " + TS_QUERY + " q")
+                .append(" WHERE w.description_tsv @@ q.query")
+                .append(filterClause(filter, params))
+                .append("), page AS (")
+                .append(" SELECT id, rank FROM matches");
+        if(after != null) {
+            sql.append(" WHERE (rank, id) < (:afterRank, :afterId)");
+            params.put("afterRank", after.rank());
+            params.put("afterId", after.id());
+        }
+        sql.append(" ORDER BY rank DESC, id DESC LIMIT :limit)")
+                .append(" SELECT w.id, w.work_date, w.program_type, w.program_reference, w.ticket_id,")
+                .append(" w.minutes_spent, w.work_entry_status, p.rank,")
+                .append(" ts_headline('english', coalesce(w.description, ''), " + TS_QUERY + ", :headlineOptions) AS snippet")
+                .append(" FROM page p JOIN work_entries w ON w.id = p.id")
+                .append(" ORDER BY p.rank DESC, p.id DESC");
+        params.put("headlineOptions", HEADLINE_OPTIONS);
+
+        return jdbcClient.sql(sql.toString())
+                .params(params)
+                .query((rs, rowNum) -> new WorkEntrySearchHit(
+                        rs.getLong("id"),
+                        rs.getObject("work_date", LocalDate.class),
+                        ProgramType.valueOf(rs.getString("program_type")),
+                        rs.getString("program_reference"),
+                        rs.getString("ticket_id"),
+                        HoursUtils.toHours(rs.getInt("minutes_spent")),
+                        rs.getString("work_entry_status") != null
+                                ? WorkEntryStatus.valueOf(rs.getString("work_entry_status"))
+                                : null,
+                        rs.getDouble("rank"),
+                        rs.getString("snippet")
+                ))
+                .list();
+    }
+
+    @Override
+    public WorkEntryFacets findFacets(Long employeeId, LocalDate startDate, LocalDate endDate, int topReferences) {
+        // GROUPING(...) has one bit per column, set when the row is not grouped by that column.
+        // Facet rows are ranked within their grouping set so the reference limit is applied by the database;
+        // values are compared bytewise (COLLATE "C"), the way Java compares strings.
+        String sql = """
+                SELECT work_entry_status, program_type, program_reference, grouping_set, entry_count, minutes_spent
+                FROM (
+                    SELECT f.*,
+                           ROW_NUMBER() OVER (PARTITION BY f.grouping_set
+                                              ORDER BY f.entry_count DESC, f.facet_value COLLATE "C") AS facet_rank
+                    FROM (
+                        SELECT w.work_entry_status, w.program_type, w.program_reference,
+                               GROUPING(w.work_entry_status, w.program_type, w.program_reference) AS grouping_set,
+                               coalesce(w.work_entry_status, w.program_type, w.program_reference) AS facet_value,
+                               count(*) AS entry_count,
+                               coalesce(sum(w.minutes_spent), 0) AS minutes_spent
+                        FROM work_entries w
+                        WHERE w.employee_id = :employeeId
+                          AND w.work_date BETWEEN :startDate AND :endDate
+                        GROUP BY GROUPING SETS ((w.work_entry_status), (w.program_type), (w.program_reference), ())
+                    ) f
+                ) ranked
+                WHERE grouping_set <> :groupedByProgramReference OR facet_rank <= :topReferences
+                ORDER BY grouping_set, facet_rank
+                """;
+
+        FacetCount total = new FacetCount(null, 0, 0.0);
+        List<FacetCount> statuses = new ArrayList<>();
+        List<FacetCount> programTypes = new ArrayList<>();
+        List<FacetCount> programReferences = new ArrayList<>();
+
+        List<Map<String, Object>> rows = jdbcClient.sql(sql)
+                .param("employeeId", employeeId)
+                .param("startDate", startDate)
+                .param("endDate", endDate)
+                .param("groupedByProgramReference", GROUPED_BY_PROGRAM_REFERENCE)
+                .param("topReferences", topReferences)
+                .query()
+                .listOfRows();
+        // Rows arrive in facet order, the most used first
+        for(Map<String, Object> row : rows) {
+            long entryCount = ((Number) row.get("entry_count")).longValue();
+            Double totalHours = HoursUtils.toHours(((Number) row.get("minutes_spent")).longValue());
+            switch(((Number) row.get("grouping_set")).intValue()) {
+                case GROUPED_BY_STATUS -> statuses.add(
+                        new FacetCount((String) row.get("work_entry_status"), entryCount, totalHours));
+                case GROUPED_BY_PROGRAM_TYPE -> programTypes.add(
+                        new FacetCount((String) row.get("program_type"), entryCount, totalHours));
+                case GROUPED_BY_PROGRAM_REFERENCE -> programReferences.add(
+                        new FacetCount((String) row.get("program_reference"), entryCount, totalHours));
+                default -> total = new FacetCount(null, entryCount, totalHours);
+            }
+        }
+
+        return new WorkEntryFacets(startDate, endDate, total, statuses, programTypes, programReferences);
+    }
+
+    /**
+     * Appends a condition for every non-null filter component and binds its parameter.
+     */
+    static String filterClause(WorkEntryFilter filter, Map<String, Object> params) {
+        if(filter == null) {
+            return "";
+        }
+
+        StringBuilder clause = new StringBuilder();
+        if(filter.employeeId() != null) {
+            clause.append(" AND w.employee_id = :employeeId");
+            params.put("employeeId", filter.employeeId());
+        }
+        if(filter.startDate() != null) {
+            clause.append(" AND w.work_date >= :startDate");
+            params.put("startDate", filter.startDate());
+        }
+        if(filter.endDate() != null) {
+            clause.append(" AND w.work_date <= :endDate");
+            params.put("endDate", filter.endDate());
+        }
+        if(filter.workEntryStatus() != null) {
+            clause.append(" AND w.work_entry_status = :workEntryStatus");
+            params.put("workEntryStatus", filter.workEntryStatus().name());
+        }
+        if(filter.programType() != null) {
+            clause.append(" AND w.program_type = :programType");
+            params.put("programType", filter.programType().name());
+        }
+        if(filter.programReference() != null) {
+            clause.append(" AND w.program_reference = :programReference");
+            params.put("programReference", filter.programReference());
+        }
+        if(filter.ticketId() != null) {
+            clause.append(" AND w.ticket_id = :ticketId");
+            params.put("ticketId", filter.ticketId());
+        }
+        return clause.toString();
+    }
+
+    // Private helper methods
+    private List<Selection<?>> selections(Root<WorkEntry> root, List<String> fields) {
+        return fields.stream()
+                .<Selection<?>>map(field -> root.get(WorkEntryFields.attribute(field)).alias(field))
+                .toList();
+    }
+
+    private List<Order> orders(Root<WorkEntry> root, CriteriaBuilder cb, Sort sort) {
+        return sort.stream()
+                .map(order -> order.isAscending()
+                        ? cb.asc(root.get(WorkEntryFields.attribute(order.getProperty())))
+                        : cb.desc(root.get(WorkEntryFields.attribute(order.getProperty()))))
+                .toList();
+    }
+
+    private WorkEntryResponse toResponse(Tuple tuple) {
+        return new WorkEntryResponse(
+                tuple.get("id", Long.class),
+                tuple.get("employeeId", Long.class),
+                tuple.get("workDate", LocalDate.class),
+                tuple.get("programType", ProgramType.class),
+                tuple.get("programReference", String.class),
+                tuple.get("ticketId", String.class),
+                tuple.get("description", String.class),
+                HoursUtils.toHours(tuple.get("hoursSpent", Integer.class)),
+                tuple.get("workEntryStatus", WorkEntryStatus.class),
+                tuple.get("createdAt", LocalDateTime.class),
+                tuple.get("updatedAt", LocalDateTime.class)
+        );
+    }
+
+    private Map<String, Object> toMap(Tuple tuple, List<String> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for(String field : fields) {
+            values.put(field, WorkEntryFields.toApiValue(field, tuple.get(field)));
+        }
+        return values;
+    }
+}
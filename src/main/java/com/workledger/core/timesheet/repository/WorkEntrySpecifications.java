@@ -0,0 +1,56 @@
+package com.workledger.core.timesheet.repository;
+
+import com.workledger.core.timesheet.domain.WorkEntry;
+import com.workledger.core.timesheet.dto.WorkEntryFilter;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JPA Specifications for dynamic WorkEntry queries.
+ *
+ * Equality predicates come first and the work date range last, mirroring the
+ * composite indexes in V5__work_entry_employee_partitioning.sql: each index starts
+ * with employee_id, follows with one filterable column and ends in work_date. Any
+ * combination of filters can therefore be answered by an index scan (or a bitmap
+ * AND of several) within the employee's partition.
+ */
+public final class WorkEntrySpecifications {
+
+    private WorkEntrySpecifications() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static Specification<WorkEntry> matching(WorkEntryFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if(filter.employeeId() != null) {
+                predicates.add(cb.equal(root.get("employeeId"), filter.employeeId()));
+            }
+
+            if(filter.ticketId() != null) {
+                predicates.add(cb.equal(root.get("ticketId"), filter.ticketId()));
+            }
+            if(filter.programReference() != null) {
+                predicates.add(cb.equal(root.get("programReference"), filter.programReference()));
+            }
+            if(filter.programType() != null) {
+                predicates.add(cb.equal(root.get("programType"), filter.programType()));
+            }
+            if(filter.workEntryStatus() != null) {
+                predicates.add(cb.equal(root.get("workEntryStatus"), filter.workEntryStatus()));
+            }
+            if(filter.startDate() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("workDate"), filter.startDate()));
+            }
+            if(filter.endDate() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("workDate"), filter.endDate()));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.workledger.core.timesheet.repository;
+
+import com.workledger.core.timesheet.domain.WorkEntry;
+import org.hibernate.Hibernate;
+
+/**
+ * A managed WorkEntry read together with its lazily fetched description in one select.
+ *
+ * @param workEntry the managed entity, its description attribute still unloaded
+ * @param description the description column as read with the entity
+ */
+public record WorkEntryWithDescription(
+        WorkEntry workEntry,
+        String description
+) {
+
+    /**
+     * Returns the entity's description once it was set or loaded, otherwise the one read with it,
+     * without triggering the lazy load.
+     */
+    public String currentDescription() {
+        return Hibernate.isPropertyInitialized(workEntry, "description") ? workEntry.getDescription() : description;
+    }
+}
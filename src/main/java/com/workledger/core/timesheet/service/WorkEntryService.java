@@ -1,15 +1,23 @@
 package com.workledger.core.timesheet.service;
 
+import com.workledger.core.common.dto.CursorPage;
 import com.workledger.core.timesheet.domain.WorkEntryStatus;
 import com.workledger.core.timesheet.dto.CreateWorkEntryRequest;
+import com.workledger.core.timesheet.dto.PatchWorkEntryRequest;
+import com.workledger.core.timesheet.dto.TimesheetView;
 import com.workledger.core.timesheet.dto.UpdateWorkEntryRequest;
+import com.workledger.core.timesheet.dto.WorkEntryBatchResponse;
+import com.workledger.core.timesheet.dto.WorkEntryFacets;
+import com.workledger.core.timesheet.dto.WorkEntryFilter;
 import com.workledger.core.timesheet.dto.WorkEntryResponse;
+import com.workledger.core.timesheet.dto.WorkEntrySearchHit;
 import com.workledger.core.timesheet.dto.WorkEntrySummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -18,104 +26,233 @@ import java.util.List;
  */
 public interface WorkEntryService {
 
+    /**
+     * Maximum number of ids accepted by {@link #getWorkEntriesByIds(Long, List)}
+     */
+    int MAX_BATCH_IDS = 500;
+
+    /**
+     * Maximum number of program references returned by {@link #getWorkEntryFacets}
+     */
+    int MAX_FACET_REFERENCES = 50;
+
     /**
      * Creates a new work entry.
      *
+     * @param employeeId the owning employee
      * @param request the create work entry request
      * @return created work entry response
      * @throws IllegalArgumentException if the request contains invalid data
      */
-    WorkEntryResponse createWorkEntry(CreateWorkEntryRequest request);
+    WorkEntryResponse createWorkEntry(Long employeeId, CreateWorkEntryRequest request);
 
     /**
      * Update existing work entry.
      *
+     * @param employeeId the owning employee
      * @param id the work entry identifier
      * @param request the work entry update request
-     * @throws com.workledger.core.common.exception.ResourceNotFoundException if work entry not found
+     * @throws com.workledger.core.common.exception.ResourceNotFoundException if the employee has no such work entry
+     *
+     */
+    WorkEntryResponse updateWorkEntry(Long employeeId, Long id, UpdateWorkEntryRequest request);
+
+    /**
+     * Applies only the non-null fields of the request to an existing work entry.
      *
+     * @param employeeId the owning employee
+     * @param id the work entry identifier
+     * @param request the fields to change
+     * @return the updated work entry response
+     * @throws com.workledger.core.common.exception.ResourceNotFoundException if the employee has no such work entry
+     * @throws com.workledger.core.common.exception.BusinessValidationException if no field is given or a given field is invalid
      */
-    WorkEntryResponse updateWorkEntry(Long id, UpdateWorkEntryRequest request);
+    WorkEntryResponse patchWorkEntry(Long employeeId, Long id, PatchWorkEntryRequest request);
 
     /**
      * Retrieves a work entry by its identifier.
      *
+     * @param employeeId the owning employee
      * @param id the work entry identifier
      * @return the work entry response
-     * @throws com.workledger.core.common.exception.ResourceNotFoundException if work entry not found
+     * @throws com.workledger.core.common.exception.ResourceNotFoundException if the employee has no such work entry
      */
-    WorkEntryResponse getWorkEntryById(Long id);
+    WorkEntryResponse getWorkEntryById(Long employeeId, Long id);
+
+    /**
+     * Retrieves several work entries by identifier at once.
+     *
+     * @param employeeId the owning employee
+     * @param ids the work entry identifiers, at most {@value #MAX_BATCH_IDS}
+     * @return the found entries in the requested order and the ids the employee has no entry for
+     * @throws com.workledger.core.common.exception.BusinessValidationException if no or too many ids are given
+     */
+    WorkEntryBatchResponse getWorkEntriesByIds(Long employeeId, List<Long> ids);
+
+    /**
+     * Retrieves only the requested fields of a work entry.
+     *
+     * @param employeeId the owning employee
+     * @param id the work entry identifier
+     * @param fields the WorkEntryResponse fields to return
+     * @return field values keyed by field name
+     * @throws com.workledger.core.common.exception.ResourceNotFoundException if the employee has no such work entry
+     * @throws com.workledger.core.common.exception.BusinessValidationException if a field is unknown
+     */
+    Map<String, Object> getWorkEntryFieldsById(Long employeeId, Long id, List<String> fields);
 
     /**
      * Retrieves all work entries with pagination support.
      *
+     * @param employeeId the owning employee
      * @param pageable pagination information
      * @return paginated work entry summaries
      */
-    Page<WorkEntrySummary> getAllWorkEntries(Pageable pageable);
+    Page<WorkEntrySummary> getAllWorkEntries(Long employeeId, Pageable pageable);
+
+    /**
+     * Retrieves only the requested fields of all work entries with pagination support.
+     *
+     * @param employeeId the owning employee
+     * @param fields the WorkEntryResponse fields to return
+     * @param pageable pagination information
+     * @return paginated field values keyed by field name
+     * @throws com.workledger.core.common.exception.BusinessValidationException if a field is unknown
+     */
+    Page<Map<String, Object>> getAllWorkEntryFields(Long employeeId, List<String> fields, Pageable pageable);
 
     /**
      * Retrieves work entries filtered by date range.
      *
+     * @param employeeId the owning employee
      * @param startDate (inclusive)
      * @param endDate (inclusive)
      * @param pageable pagination information
      * @return paginated work entry summaries within the date range
      */
-    Page<WorkEntrySummary> getWorkEntriesByDateRange(LocalDate startDate, LocalDate endDate, Pageable pageable);
+    Page<WorkEntrySummary> getWorkEntriesByDateRange(Long employeeId, LocalDate startDate, LocalDate endDate, Pageable pageable);
 
     /**
      * Retrieves work entries filtered by status.
      *
+     * @param employeeId the owning employee
      * @param workEntryStatus the work entry status
      * @param pageable pagination information
      * @return paginated work entry summaries with the specified status
      */
-    Page<WorkEntrySummary> getWorkEntriesByStatus(WorkEntryStatus workEntryStatus, Pageable pageable);
+    Page<WorkEntrySummary> getWorkEntriesByStatus(Long employeeId, WorkEntryStatus workEntryStatus, Pageable pageable);
 
     /**
      * Retrieves work entries for a specific date.
      *
+     * @param employeeId the owning employee
      * @param workDate the work date
      * @return list of work entry summaries for the specified date
      */
-    List<WorkEntrySummary> getWorkEntriesByDate(LocalDate workDate);
+    List<WorkEntrySummary> getWorkEntriesByDate(Long employeeId, LocalDate workDate);
+
+    /**
+     * Retrieves the week (Monday to Sunday) containing the anchor date, weekend entries included.
+     *
+     * @param employeeId the owning employee
+     * @param anchorDate any date within the week
+     * @return entries grouped per day with per-day and per-program subtotals
+     */
+    TimesheetView getWeekTimesheet(Long employeeId, LocalDate anchorDate);
+
+    /**
+     * Retrieves the calendar month containing the anchor date.
+     *
+     * @param employeeId the owning employee
+     * @param anchorDate any date within the month
+     * @return entries grouped per day with per-day and per-program subtotals
+     */
+    TimesheetView getMonthTimesheet(Long employeeId, LocalDate anchorDate);
+
+    /**
+     * Retrieves work entries matching every non-null component of the filter.
+     *
+     * @param filter employee (required), status, program, ticket and date range filters
+     * @param pageable pagination information
+     * @return paginated work entry summaries matching the filter
+     */
+    Page<WorkEntrySummary> filterWorkEntries(WorkEntryFilter filter, Pageable pageable);
+
+    /**
+     * Searches work entry descriptions, ranked by relevance.
+     *
+     * @param query the search text
+     * @param filter employee (required) and optional date, status and program filters
+     * @param cursor cursor returned with the previous page, null for the first page
+     * @param size page size
+     * @return a page of hits with highlighted snippets
+     * @throws com.workledger.core.common.exception.BusinessValidationException if the query or cursor is invalid
+     */
+    CursorPage<WorkEntrySearchHit> searchWorkEntries(String query, WorkEntryFilter filter, String cursor, int size);
 
     /**
      * Submits a draft work entry for approval.
      *
+     * @param employeeId the owning employee
      * @param id the work entry identifier
      * @return the updated work entry response with SUBMITTED status
-     * @throws com.workledger.core.common.exception.ResourceNotFoundException if work entry not found
+     * @throws com.workledger.core.common.exception.ResourceNotFoundException if the employee has no such work entry
      * @throws IllegalStateException if work entry is ot in DRAFT status
      */
-    WorkEntryResponse submitWorkEntry(Long id);
+    WorkEntryResponse submitWorkEntry(Long employeeId, Long id);
 
     /**
      * Locks a submitted work entry to prevent further modification.
      *
+     * @param employeeId the owning employee
      * @param id the work entry identifier
      * @return the updated work entry response with LOCKED status
-     * @throws com.workledger.core.common.exception.ResourceNotFoundException if work entry not found
+     * @throws com.workledger.core.common.exception.ResourceNotFoundException if the employee has no such work entry
      * @throws IllegalStateException if work entry is not in SUBMITTED status
      */
-    WorkEntryResponse lockWorkEntry(Long id);
+    WorkEntryResponse lockWorkEntry(Long employeeId, Long id);
+
+    /**
+     * Locks the next chunk of SUBMITTED work entries in a date range, across all employees.
+     * Runs in the caller's transaction, so a batch job can commit its checkpoint with the chunk.
+     *
+     * @param startDate (inclusive)
+     * @param endDate (inclusive)
+     * @param afterId only entries with a greater id are locked
+     * @param limit maximum number of entries to lock
+     * @return ids of the locked entries in ascending order
+     */
+    List<Long> lockSubmittedWorkEntries(LocalDate startDate, LocalDate endDate, long afterId, int limit);
 
     /**
      * Deletes a work entry.
      *
+     * @param employeeId the owning employee
      * @param id the work entry identifier
-     * @throws com.workledger.core.common.exception.ResourceNotFoundException if work entry not found
+     * @throws com.workledger.core.common.exception.ResourceNotFoundException if the employee has no such work entry
      * @throws IllegalStateException if work entry is locked
      */
-    void deleteWorkEntry(Long id);
+    void deleteWorkEntry(Long employeeId, Long id);
 
     /**
-     * Calculates total hours spent within a date range.
+     * Calculates total hours spent by an employee within a date range.
      *
+     * @param employeeId the owning employee
      * @param statDate (inclusive)
      * @param endDate (inclusive)
      * @return total hours spent
      */
-    Double calculateTotalHours(LocalDate statDate, LocalDate endDate);
+    Double calculateTotalHours(Long employeeId, LocalDate statDate, LocalDate endDate);
+
+    /**
+     * Counts an employee's entries and hours per status, program type and program reference, in one query.
+     *
+     * @param employeeId the owning employee
+     * @param startDate (inclusive)
+     * @param endDate (inclusive)
+     * @param topReferences number of program references to return, at most {@value #MAX_FACET_REFERENCES}
+     * @return facet counts for the date range
+     * @throws com.workledger.core.common.exception.BusinessValidationException if the range or topReferences is invalid
+     */
+    WorkEntryFacets getWorkEntryFacets(Long employeeId, LocalDate startDate, LocalDate endDate, int topReferences);
 }
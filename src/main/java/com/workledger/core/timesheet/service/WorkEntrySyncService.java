@@ -0,0 +1,28 @@
+package com.workledger.core.timesheet.service;
+
+import com.workledger.core.timesheet.dto.WorkEntryChanges;
+
+/**
+ * Service interface for delta sync of work entries to offline clients.
+ */
+public interface WorkEntrySyncService {
+
+    /**
+     * Returns the work entries of an employee created, updated or deleted after the cursor.
+     * Without a cursor every current entry is returned, as for a first sync.
+     *
+     * @param employeeId owner of the entries
+     * @param cursor cursor from the previous sync, or null
+     * @param size maximum number of changes
+     * @return the changes and the cursor to continue from
+     * @throws com.workledger.core.common.exception.BusinessValidationException if the cursor is malformed or size is out of range
+     */
+    WorkEntryChanges getChanges(Long employeeId, String cursor, int size);
+
+    /**
+     * Deletes tombstones past their retention, in batches.
+     *
+     * @return the number of tombstones deleted
+     */
+    int purgeTombstones();
+}
@@ -1,25 +1,55 @@
 package com.workledger.core.timesheet.service.impl;
 
+import com.workledger.core.common.concurrent.Coalesce;
+import com.workledger.core.common.dto.CursorPage;
 import com.workledger.core.common.exception.BusinessValidationException;
 import com.workledger.core.common.exception.ResourceNotFoundException;
+import com.workledger.core.common.jdbc.UseWorkload;
+import com.workledger.core.common.jdbc.Workload;
+import com.workledger.core.common.util.DateUtils;
+import com.workledger.core.common.util.HoursUtils;
+import com.workledger.core.timesheet.cache.WorkEntryCache;
 import com.workledger.core.timesheet.domain.WorkEntry;
 import com.workledger.core.timesheet.domain.WorkEntryStatus;
 import com.workledger.core.timesheet.dto.CreateWorkEntryRequest;
+import com.workledger.core.timesheet.dto.PatchWorkEntryRequest;
+import com.workledger.core.timesheet.dto.ProgramSubtotal;
+import com.workledger.core.timesheet.dto.TimesheetDay;
+import com.workledger.core.timesheet.dto.TimesheetView;
 import com.workledger.core.timesheet.dto.UpdateWorkEntryRequest;
+import com.workledger.core.timesheet.dto.WorkEntryBatchResponse;
+import com.workledger.core.timesheet.dto.WorkEntryFacets;
+import com.workledger.core.timesheet.dto.WorkEntryFields;
+import com.workledger.core.timesheet.dto.WorkEntryFilter;
 import com.workledger.core.timesheet.dto.WorkEntryResponse;
+import com.workledger.core.timesheet.dto.WorkEntrySearchCursor;
+import com.workledger.core.timesheet.dto.WorkEntrySearchHit;
 import com.workledger.core.timesheet.dto.WorkEntrySummary;
+import com.workledger.core.timesheet.event.WorkEntryChangeType;
+import com.workledger.core.timesheet.event.WorkEntryChangedEvent;
 import com.workledger.core.timesheet.mapper.WorkEntryMapper;
 import com.workledger.core.timesheet.repository.WorkEntryRepository;
+import com.workledger.core.timesheet.repository.WorkEntrySpecifications;
+import com.workledger.core.timesheet.repository.WorkEntryWithDescription;
 import com.workledger.core.timesheet.service.WorkEntryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import static com.workledger.core.common.util.ValidationUtils.*;
@@ -36,156 +66,452 @@ public class WorkEntryServiceImpl implements WorkEntryService {
 
     private final WorkEntryRepository workEntryRepository;
     private final WorkEntryMapper workEntryMapper;
+    private final WorkEntryCache workEntryCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
-    public WorkEntryResponse createWorkEntry(CreateWorkEntryRequest request) {
+    public WorkEntryResponse createWorkEntry(Long employeeId, CreateWorkEntryRequest request) {
+        requireNonNull(employeeId, "Employee id");
         requireNonNull(request, "CreateWorkEntryRequest must not be null");
         log.debug("Creating work entry: {}", request);
         validateWorkEntryRequest(request.workDate(), request.hoursSpent());
 
         WorkEntry workEntry = workEntryMapper.toEntity(request);
+        workEntry.setEmployeeId(employeeId);
         // default status
         if(workEntry.getWorkEntryStatus() == null) {
             workEntry.setWorkEntryStatus(WorkEntryStatus.DRAFT);
         }
 
         WorkEntry savedEntry = workEntryRepository.save(workEntry);
+        eventPublisher.publishEvent(WorkEntryChangedEvent.of(savedEntry, WorkEntryChangeType.CREATED));
 
         log.info("Successfully created work entry with id: {}", savedEntry.getId());
         return workEntryMapper.toResponse(savedEntry);
     }
 
     @Override
-    public WorkEntryResponse updateWorkEntry(Long id, UpdateWorkEntryRequest request) {
+    public WorkEntryResponse updateWorkEntry(Long employeeId, Long id, UpdateWorkEntryRequest request) {
         requireNonNull(request, "UpdateWorkEntryRequest must not be null");
         log.debug("Updating work entry with id: {}", id);
         validateWorkEntryRequest(request.workDate(), request.hoursSpent());
 
-        WorkEntry workEntry = findWorkEntryById(id);
+        WorkEntryWithDescription loaded = findWorkEntryForWrite(employeeId, id);
+        WorkEntry workEntry = loaded.workEntry();
         workEntry.canModify();
+        LocalDate previousWorkDate = workEntry.getWorkDate();
 
         workEntryMapper.updateEntityFromRequest(request, workEntry);
         WorkEntry updatedEntry = workEntryRepository.save(workEntry);
+        eventPublisher.publishEvent(WorkEntryChangedEvent.updated(updatedEntry, previousWorkDate));
 
         log.info("Successfully updated work entry with id: {}", id);
-        return workEntryMapper.toResponse(updatedEntry);
+        return workEntryMapper.toResponse(updatedEntry, loaded.currentDescription());
+    }
+
+    @Override
+    public WorkEntryResponse patchWorkEntry(Long employeeId, Long id, PatchWorkEntryRequest request) {
+        requireNonNull(request, "PatchWorkEntryRequest must not be null");
+        log.debug("Patching work entry with id: {}", id);
+        validatePatchRequest(request);
+
+        WorkEntryWithDescription loaded = findWorkEntryForWrite(employeeId, id);
+        WorkEntry workEntry = loaded.workEntry();
+        workEntry.canModify();
+        LocalDate previousWorkDate = workEntry.getWorkDate();
+
+        workEntryMapper.patchEntityFromRequest(request, workEntry);
+        WorkEntry patchedEntry = workEntryRepository.save(workEntry);
+        eventPublisher.publishEvent(WorkEntryChangedEvent.updated(patchedEntry, previousWorkDate));
+
+        log.info("Successfully patched work entry with id: {}", id);
+        return workEntryMapper.toResponse(patchedEntry, loaded.currentDescription());
+    }
+
+    /**
+     * Runs without a transaction of its own: a read-only transaction takes a connection
+     * as soon as it begins, which cache hits must not. A miss reads the entry, description
+     * included, with one column query.
+     *
+     * The cache is shared by all employees, so a hit is only served to the entry's owner.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public WorkEntryResponse getWorkEntryById(Long employeeId, Long id) {
+        log.debug("Fetching work entry with id: {} of employee {}", id, employeeId);
+        requireNonNull(employeeId, "Employee id");
+        requireNonNull(id, "Work entry id");
+
+        WorkEntryResponse response = workEntryCache.get(id, key -> workEntryRepository.findResponsesByIds(employeeId, List.of(key)).stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "WorkEntry", "id", key
+                )));
+        if(!employeeId.equals(response.employeeId())) {
+            throw new ResourceNotFoundException("WorkEntry", "id", id);
+        }
+        return response;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public WorkEntryBatchResponse getWorkEntriesByIds(Long employeeId, List<Long> ids) {
+        log.debug("Fetching {} work entries of employee {} by id", ids != null ? ids.size() : 0, employeeId);
+        requireNonNull(employeeId, "Employee id");
+        requireNonEmpty(ids, "Work entry ids");
+        if(ids.size() > MAX_BATCH_IDS) {
+            throw new BusinessValidationException("At most " + MAX_BATCH_IDS + " ids can be requested at once");
+        }
+        if(ids.contains(null)) {
+            throw new BusinessValidationException("Work entry ids must not contain null");
+        }
+
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        Map<Long, WorkEntryResponse> found = workEntryCache.getAll(distinctIds,
+                missing -> workEntryRepository.findResponsesByIds(employeeId, missing));
+        // Cache hits may belong to other employees, which are reported as missing
+        found.values().removeIf(response -> !employeeId.equals(response.employeeId()));
+
+        List<WorkEntryResponse> entries = distinctIds.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+        List<Long> missingIds = distinctIds.stream()
+                .filter(id -> !found.containsKey(id))
+                .toList();
+
+        return new WorkEntryBatchResponse(entries, missingIds);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public WorkEntryResponse getWorkEntryById(Long id) {
-        log.debug("Fetching work entry with id: {}", id);
+    public Map<String, Object> getWorkEntryFieldsById(Long employeeId, Long id, List<String> fields) {
+        log.debug("Fetching fields {} of work entry with id: {} of employee {}", fields, id, employeeId);
+        requireNonNull(employeeId, "Employee id");
+        requireNonNull(id, "Work entry id");
 
-        WorkEntry workEntry = findWorkEntryById(id);
-        return workEntryMapper.toResponse(workEntry);
+        return workEntryRepository.findFieldsById(employeeId, id, WorkEntryFields.resolve(fields))
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "WorkEntry", "id", id
+                ));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<WorkEntrySummary> getAllWorkEntries(Pageable pageable) {
-        log.debug("Fetching all work entries with pagination: {}", pageable);
+    @Coalesce
+    public Page<WorkEntrySummary> getAllWorkEntries(Long employeeId, Pageable pageable) {
+        log.debug("Fetching all work entries of employee {} with pagination: {}", employeeId, pageable);
+        requireNonNull(employeeId, "Employee id");
         validatePaginationParams(pageable.getPageNumber(), pageable.getPageSize());
 
-        Page<WorkEntry> workEntries = workEntryRepository.findAll(pageable);
+        Page<WorkEntry> workEntries = workEntryRepository.findByEmployeeId(employeeId, withEntitySort(pageable));
         return workEntries.map(workEntryMapper::toSummary);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<WorkEntrySummary> getWorkEntriesByDateRange(LocalDate startDate, LocalDate endDate, Pageable pageable) {
-        log.debug("Fetching work entries between {} and {}", startDate, endDate);
+    public Page<Map<String, Object>> getAllWorkEntryFields(Long employeeId, List<String> fields, Pageable pageable) {
+        log.debug("Fetching fields {} of all work entries of employee {} with pagination: {}", fields, employeeId, pageable);
+        requireNonNull(employeeId, "Employee id");
+        validatePaginationParams(pageable.getPageNumber(), pageable.getPageSize());
+
+        return workEntryRepository.findAllFields(employeeId, WorkEntryFields.resolve(fields), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Coalesce
+    public Page<WorkEntrySummary> getWorkEntriesByDateRange(Long employeeId, LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        log.debug("Fetching work entries of employee {} between {} and {}", employeeId, startDate, endDate);
+        requireNonNull(employeeId, "Employee id");
         validatePaginationParams(pageable.getPageNumber(), pageable.getPageSize());
         if(startDate.isAfter(endDate)) {
             throw new BusinessValidationException("Start date cannot be after end date");
         }
 
-        Page<WorkEntry> workEntries = workEntryRepository.findByWorkDateBetween(startDate, endDate, pageable);
+        Page<WorkEntry> workEntries = workEntryRepository.findByEmployeeIdAndWorkDateBetween(employeeId, startDate, endDate, pageable);
         return workEntries.map(workEntryMapper::toSummary);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<WorkEntrySummary> getWorkEntriesByStatus(WorkEntryStatus workEntryStatus, Pageable pageable) {
-        log.debug("Fetching work entries with status: {}", workEntryStatus);
+    @Coalesce
+    public Page<WorkEntrySummary> getWorkEntriesByStatus(Long employeeId, WorkEntryStatus workEntryStatus, Pageable pageable) {
+        log.debug("Fetching work entries of employee {} with status: {}", employeeId, workEntryStatus);
+        requireNonNull(employeeId, "Employee id");
         validatePaginationParams(pageable.getPageNumber(), pageable.getPageSize());
 
-        Page<WorkEntry> workEntries = workEntryRepository.findByWorkEntryStatus(workEntryStatus, pageable);
+        Page<WorkEntry> workEntries = workEntryRepository.findByEmployeeIdAndWorkEntryStatus(employeeId, workEntryStatus, pageable);
         return workEntries.map(workEntryMapper::toSummary);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<WorkEntrySummary> getWorkEntriesByDate(LocalDate workDate) {
-        log.debug("Fetching work entries for date: {}", workDate);
+    @Coalesce
+    public List<WorkEntrySummary> getWorkEntriesByDate(Long employeeId, LocalDate workDate) {
+        log.debug("Fetching work entries of employee {} for date: {}", employeeId, workDate);
+        requireNonNull(employeeId, "Employee id");
         requireNonNull(workDate, "Work Date");
 
-        List<WorkEntry> workEntries = workEntryRepository.findByWorkDate(workDate);
+        List<WorkEntry> workEntries = workEntryRepository.findByEmployeeIdAndWorkDate(employeeId, workDate);
         return workEntries.stream()
                 .map(workEntryMapper::toSummary)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public WorkEntryResponse submitWorkEntry(Long id) {
+    @Transactional(readOnly = true)
+    @Coalesce
+    public TimesheetView getWeekTimesheet(Long employeeId, LocalDate anchorDate) {
+        log.debug("Fetching week timesheet of employee {} for: {}", employeeId, anchorDate);
+        requireNonNull(employeeId, "Employee id");
+        requireNonNull(anchorDate, "Anchor date");
+
+        return buildTimesheet(employeeId, DateUtils.getStartOfWeek(anchorDate), DateUtils.getEndOfCalendarWeek(anchorDate));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Coalesce
+    public TimesheetView getMonthTimesheet(Long employeeId, LocalDate anchorDate) {
+        log.debug("Fetching month timesheet of employee {} for: {}", employeeId, anchorDate);
+        requireNonNull(employeeId, "Employee id");
+        requireNonNull(anchorDate, "Anchor date");
+
+        return buildTimesheet(employeeId, DateUtils.getStartOfMonth(anchorDate), DateUtils.getEndOfMonth(anchorDate));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Coalesce
+    public Page<WorkEntrySummary> filterWorkEntries(WorkEntryFilter filter, Pageable pageable) {
+        log.debug("Filtering work entries with: {}", filter);
+        requireNonNull(filter, "Work entry filter");
+        validatePaginationParams(pageable.getPageNumber(), pageable.getPageSize());
+        validateFilter(filter);
+
+        Page<WorkEntry> workEntries = workEntryRepository.findAll(WorkEntrySpecifications.matching(filter), pageable);
+        return workEntries.map(workEntryMapper::toSummary);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @UseWorkload(Workload.REPORTING)
+    @Coalesce
+    public CursorPage<WorkEntrySearchHit> searchWorkEntries(String query, WorkEntryFilter filter, String cursor, int size) {
+        log.debug("Searching work entries for '{}' with filter: {}", query, filter);
+        requireNonEmpty(query, "Search query");
+        validatePaginationParams(0, size);
+        validateFilter(filter);
+
+        List<WorkEntrySearchHit> hits = workEntryRepository.searchByDescription(
+                query.trim(), filter, WorkEntrySearchCursor.decode(cursor), size + 1);
+        return CursorPage.of(hits, size, hit -> WorkEntrySearchCursor.of(hit).encode());
+    }
+
+    @Override
+    public WorkEntryResponse submitWorkEntry(Long employeeId, Long id) {
         log.debug("Submitting work entry for id: {}", id);
 
-        WorkEntry workEntry = findWorkEntryById(id);
+        WorkEntryWithDescription loaded = findWorkEntryForWrite(employeeId, id);
+        WorkEntry workEntry = loaded.workEntry();
 
         workEntry.submit();
 
         WorkEntry updatedEntry = workEntryRepository.save(workEntry);
+        eventPublisher.publishEvent(WorkEntryChangedEvent.of(updatedEntry, WorkEntryChangeType.SUBMITTED));
 
         log.info("Successfully submitted work entry with id: {}", id);
-        return workEntryMapper.toResponse(updatedEntry);
+        return workEntryMapper.toResponse(updatedEntry, loaded.currentDescription());
     }
 
     @Override
-    public WorkEntryResponse lockWorkEntry(Long id) {
+    public WorkEntryResponse lockWorkEntry(Long employeeId, Long id) {
         log.debug("Locking work entry with id: {}", id);
 
-        WorkEntry workEntry = findWorkEntryById(id);
-
-        workEntry.lock();
-        WorkEntry updatedEntry = workEntryRepository.save(workEntry);
+        WorkEntryWithDescription loaded = findWorkEntryForWrite(employeeId, id);
+        WorkEntry updatedEntry = lock(loaded.workEntry());
 
         log.info("Successfully locked work entry with id: {}", id);
-        return workEntryMapper.toResponse(updatedEntry);
+        return workEntryMapper.toResponse(updatedEntry, loaded.currentDescription());
+    }
+
+    @Override
+    @UseWorkload(Workload.BATCH)
+    public List<Long> lockSubmittedWorkEntries(LocalDate startDate, LocalDate endDate, long afterId, int limit) {
+        log.debug("Locking up to {} submitted work entries between {} and {} after id {}", limit, startDate, endDate, afterId);
+
+        List<WorkEntry> workEntries = workEntryRepository.findByWorkEntryStatusAndWorkDateBetweenAndIdGreaterThanOrderByIdAsc(
+                WorkEntryStatus.SUBMITTED, startDate, endDate, afterId, Limit.of(limit));
+
+        // Dirty entities are flushed as one JDBC batch of UPDATEs at commit, and their history
+        // rows as one batch insert just before it
+        return workEntries.stream()
+                .map(this::lock)
+                .map(WorkEntry::getId)
+                .toList();
     }
 
     @Override
-    public void deleteWorkEntry(Long id) {
+    public void deleteWorkEntry(Long employeeId, Long id) {
         log.debug("Deleting work entry with id: {}", id);
 
-        WorkEntry workEntry = findWorkEntryById(id);
+        WorkEntry workEntry = findWorkEntryById(employeeId, id);
 
         workEntry.canModify();
 
         workEntryRepository.delete(workEntry);
+        eventPublisher.publishEvent(WorkEntryChangedEvent.of(workEntry, WorkEntryChangeType.DELETED));
 
         log.info("Successfully deleted work entry with id: {}", id);
     }
 
     @Override
-    public Double calculateTotalHours(LocalDate statDate, LocalDate endDate) {
-        log.debug("Calculating total hours");
+    @UseWorkload(Workload.REPORTING)
+    @Coalesce
+    public Double calculateTotalHours(Long employeeId, LocalDate statDate, LocalDate endDate) {
+        log.debug("Calculating total hours of employee {}", employeeId);
+        requireNonNull(employeeId, "Employee id");
 
         if(statDate.isAfter(endDate)) {
             throw new BusinessValidationException("Start date cannot be after end date");
         }
 
-        Double totalHours = workEntryRepository.sumHoursByDateRange(statDate, endDate);
-        return totalHours != null ? totalHours : 0.0;
+        Long totalMinutes = workEntryRepository.sumMinutesByDateRange(employeeId, statDate, endDate);
+        return totalMinutes != null ? HoursUtils.toHours(totalMinutes) : 0.0;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Coalesce
+    public WorkEntryFacets getWorkEntryFacets(Long employeeId, LocalDate startDate, LocalDate endDate, int topReferences) {
+        log.debug("Fetching work entry facets of employee {} for {} to {}", employeeId, startDate, endDate);
+        requireNonNull(employeeId, "Employee id");
+        requireNonNull(startDate, "Start date");
+        requireNonNull(endDate, "End date");
+
+        if(startDate.isAfter(endDate)) {
+            throw new BusinessValidationException("Start date cannot be after end date");
+        }
+        validateRange(topReferences, "Top references", 1, MAX_FACET_REFERENCES);
+
+        return workEntryRepository.findFacets(employeeId, startDate, endDate, topReferences);
     }
 
     // Private helper methods
-    private WorkEntry findWorkEntryById(Long id) {
+    /**
+     * The one lock transition for single and bulk locking: state check, save and the LOCKED
+     * event that history, cache eviction and the analytics store listen to.
+     */
+    private WorkEntry lock(WorkEntry workEntry) {
+        workEntry.lock();
+        WorkEntry lockedEntry = workEntryRepository.save(workEntry);
+        eventPublisher.publishEvent(WorkEntryChangedEvent.of(lockedEntry, WorkEntryChangeType.LOCKED));
+        return lockedEntry;
+    }
+
+    /**
+     * Entries of other employees are reported as not found, so ids cannot be probed.
+     */
+    private WorkEntry findWorkEntryById(Long employeeId, Long id) {
+        requireNonNull(employeeId, "Employee id");
+        requireNonNull(id, "Work entry id");
+        return workEntryRepository.findByIdAndEmployeeId(id, employeeId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "WorkEntry", "id", id
+                ));
+    }
+
+    /**
+     * Loads an employee's entry for a write that returns a response, with its description in the same select.
+     */
+    private WorkEntryWithDescription findWorkEntryForWrite(Long employeeId, Long id) {
+        requireNonNull(employeeId, "Employee id");
         requireNonNull(id, "Work entry id");
-        return workEntryRepository.findById(id)
+        return workEntryRepository.findWithDescriptionByIdAndEmployeeId(id, employeeId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "WorkEntry", "id", id
                 ));
     }
 
+    /**
+     * Loads the whole period with one range query and groups it in memory.
+     * Subtotals are summed in minutes and converted once, so they add up exactly.
+     */
+    private TimesheetView buildTimesheet(Long employeeId, LocalDate startDate, LocalDate endDate) {
+        List<WorkEntry> workEntries = workEntryRepository.findByEmployeeIdAndWorkDateBetweenOrderByWorkDateAscIdAsc(
+                employeeId, startDate, endDate);
+
+        Map<LocalDate, List<WorkEntry>> entriesByDate = workEntries.stream()
+                .collect(Collectors.groupingBy(WorkEntry::getWorkDate));
+        List<TimesheetDay> days = startDate.datesUntil(endDate.plusDays(1))
+                .map(date -> {
+                    List<WorkEntry> dayEntries = entriesByDate.getOrDefault(date, List.of());
+                    return new TimesheetDay(date, totalHours(dayEntries), workEntryMapper.toSummaryList(dayEntries));
+                })
+                .toList();
+
+        Map<List<Object>, List<WorkEntry>> entriesByProgram = workEntries.stream()
+                .collect(Collectors.groupingBy(
+                        entry -> List.of(entry.getProgramType(), entry.getProgramReference()),
+                        LinkedHashMap::new,
+                        Collectors.toList()
+                ));
+        List<ProgramSubtotal> programs = entriesByProgram.values().stream()
+                .map(programEntries -> new ProgramSubtotal(
+                        programEntries.getFirst().getProgramType(),
+                        programEntries.getFirst().getProgramReference(),
+                        totalHours(programEntries),
+                        programEntries.size()
+                ))
+                .sorted(Comparator.comparing(ProgramSubtotal::totalHours).reversed())
+                .toList();
+
+        return new TimesheetView(employeeId, startDate, endDate, totalHours(workEntries), days, programs);
+    }
+
+    private static Double totalHours(List<WorkEntry> workEntries) {
+        return HoursUtils.toHours(workEntries.stream().mapToLong(WorkEntry::getMinutesSpent).sum());
+    }
+
+    /**
+     * Rewrites sort properties given in API field names to entity attributes.
+     */
+    private Pageable withEntitySort(Pageable pageable) {
+        Sort sort = Sort.by(pageable.getSort().stream()
+                .map(order -> order.withProperty(WorkEntryFields.attribute(order.getProperty())))
+                .toList());
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+
+    private void validateFilter(WorkEntryFilter filter) {
+        requireNonNull(filter, "Work entry filter");
+        requireNonNull(filter.employeeId(), "Employee id");
+        if(filter.startDate() != null && filter.endDate() != null
+                && filter.startDate().isAfter(filter.endDate())) {
+            throw new BusinessValidationException("Start date cannot be after end date");
+        }
+    }
+
+    /**
+     * Validates only the fields present in the patch.
+     */
+    private void validatePatchRequest(PatchWorkEntryRequest request) {
+        requireAtLeastOneNonNull("At least one field must be provided",
+                request.workDate(), request.programType(), request.programReference(),
+                request.ticketId(), request.description(), request.hoursSpent());
+
+        if(request.workDate() != null) {
+            validateWorkDate(request.workDate());
+        }
+        if(request.hoursSpent() != null) {
+            validateHoursSpent(request.hoursSpent());
+        }
+        if(request.programReference() != null && request.programReference().isBlank()) {
+            throw new BusinessValidationException("Program reference cannot be blank");
+        }
+    }
+
     private void validateWorkEntryRequest(LocalDate workDate, Double hoursSpent) {
         validateWorkDate(workDate);
         validateHoursSpent(hoursSpent);
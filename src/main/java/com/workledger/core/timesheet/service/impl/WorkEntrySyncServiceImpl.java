@@ -0,0 +1,107 @@
+package com.workledger.core.timesheet.service.impl;
+
+import com.workledger.core.common.jdbc.UseWorkload;
+import com.workledger.core.common.jdbc.Workload;
+import com.workledger.core.timesheet.dto.WorkEntryChanges;
+import com.workledger.core.timesheet.dto.WorkEntrySyncCursor;
+import com.workledger.core.timesheet.repository.WorkEntryChangeRepository;
+import com.workledger.core.timesheet.repository.WorkEntryChangeRepository.ChangedRow;
+import com.workledger.core.timesheet.service.WorkEntrySyncService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.workledger.core.common.util.ValidationUtils.*;
+
+/**
+ * Implementation of WorkEntrySyncService interface.
+ * Exports {@code workledger.sync.horizon.age}, how long the oldest open transaction has held back the horizon.
+ */
+@Service
+@Slf4j
+public class WorkEntrySyncServiceImpl implements WorkEntrySyncService {
+
+    private final WorkEntryChangeRepository changeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration tombstoneRetention;
+    private final int purgeBatchSize;
+
+    public WorkEntrySyncServiceImpl(
+            WorkEntryChangeRepository changeRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${workledger.sync.tombstone-retention:30d}") Duration tombstoneRetention,
+            @Value("${workledger.sync.purge-batch-size:1000}") int purgeBatchSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.changeRepository = changeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tombstoneRetention = tombstoneRetention;
+        this.purgeBatchSize = purgeBatchSize;
+
+        Gauge.builder("workledger.sync.horizon.age", changeRepository, repository -> repository.findHorizonAge().toMillis())
+                .baseUnit("milliseconds")
+                .description("Age of the oldest open transaction holding back the delta sync horizon")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs on one snapshot, so the purge check, the horizon and the changes below it are read consistently.
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public WorkEntryChanges getChanges(Long employeeId, String cursor, int size) {
+        requireNonNull(employeeId, "Employee id");
+        validatePaginationParams(0, size);
+        WorkEntrySyncCursor after = WorkEntrySyncCursor.decode(cursor);
+        log.debug("Fetching changes of employee {} after {}", employeeId, after);
+
+        if(after != WorkEntrySyncCursor.START && after.changeXid() <= changeRepository.findPurgedThrough()) {
+            return new WorkEntryChanges(List.of(), null, false, true);
+        }
+
+        // Read first: the changes query then sees every transaction below it
+        long horizon = changeRepository.findHorizon();
+        List<ChangedRow> rows = changeRepository.findChanges(employeeId, after, horizon, size + 1);
+
+        boolean hasMore = rows.size() > size;
+        List<ChangedRow> page = hasMore ? rows.subList(0, size) : rows;
+        // Once caught up, continue from the horizon: later changes are all stamped at or above it
+        WorkEntrySyncCursor next = hasMore
+                ? new WorkEntrySyncCursor(page.getLast().changeXid(), page.getLast().change().id())
+                : new WorkEntrySyncCursor(Math.max(horizon, after.changeXid()), 0);
+
+        return new WorkEntryChanges(page.stream().map(ChangedRow::change).toList(), next.encode(), hasMore, false);
+    }
+
+    @Override
+    @UseWorkload(Workload.BATCH)
+    @Scheduled(
+            initialDelayString = "${workledger.sync.purge-interval:1h}",
+            fixedDelayString = "${workledger.sync.purge-interval:1h}"
+    )
+    public int purgeTombstones() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(tombstoneRetention);
+        int total = 0;
+        int purged;
+        do {
+            purged = transactionTemplate.execute(status -> changeRepository.purgeTombstones(cutoff, purgeBatchSize));
+            total += purged;
+        } while(purged == purgeBatchSize);
+
+        if(total > 0) {
+            log.info("Purged {} work entry tombstones deleted before {}", total, cutoff);
+        }
+        return total;
+    }
+}
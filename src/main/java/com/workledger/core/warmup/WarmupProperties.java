@@ -0,0 +1,31 @@
+package com.workledger.core.warmup;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Warm-up run before the node reports ready.
+ */
+@Data
+@ConfigurationProperties(prefix = "workledger.warmup")
+public class WarmupProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Time the whole warm-up may take; readiness is reported when it is spent, finished or not
+     */
+    private Duration budget = Duration.ofSeconds(30);
+
+    /**
+     * Times each read query is run, with varying arguments, so Hibernate's plan cache and the JIT see each query path more than once
+     */
+    private int queryRepetitions = 5;
+
+    /**
+     * Synthetic entries pushed through mapping and JSON serialization, enough for the JIT to compile those paths
+     */
+    private int serializationIterations = 20_000;
+}
@@ -0,0 +1,231 @@
+package com.workledger.core.warmup;
+
+import com.workledger.core.billing.service.BillingSummaryService;
+import com.workledger.core.common.dto.ApiResponse;
+import com.workledger.core.common.dto.PageResponse;
+import com.workledger.core.timesheet.domain.ProgramType;
+import com.workledger.core.timesheet.domain.WorkEntry;
+import com.workledger.core.timesheet.domain.WorkEntryStatus;
+import com.workledger.core.timesheet.dto.WorkEntryFilter;
+import com.workledger.core.timesheet.mapper.WorkEntryMapper;
+import com.workledger.core.timesheet.service.WorkEntryService;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Warms the node up before it takes traffic: fills the connection pools, runs the read and aggregate queries,
+ * pushes synthetic entries through mapping and JSON serialization and reads the current month's billing summary.
+ * <p>
+ * Spring Boot reports readiness ({@code ReadinessState.ACCEPTING_TRAFFIC}) only after application runners
+ * return, so the readiness probe stays down while this runs. The warm-up never fails startup: it stops
+ * when the budget is spent and a failing step is logged and skipped.
+ */
+@Slf4j
+@Component
+public class WarmupRunner implements ApplicationRunner {
+
+    /**
+     * Owns no entries, so the warm-up reads plan and run the real queries over empty results.
+     */
+    static final Long SYNTHETIC_EMPLOYEE_ID = -1L;
+
+    /**
+     * No entry has it, ids are generated positive, so the by-ids lookup runs its query and finds nothing.
+     */
+    static final Long MISSING_WORK_ENTRY_ID = -1L;
+
+    private final WarmupProperties properties;
+    private final List<HikariDataSource> pools;
+    private final WorkEntryService workEntryService;
+    private final BillingSummaryService billingSummaryService;
+    private final WorkEntryMapper workEntryMapper;
+    private final JsonMapper jsonMapper;
+
+    public WarmupRunner(WarmupProperties properties,
+                        List<DataSource> dataSources,
+                        WorkEntryService workEntryService,
+                        BillingSummaryService billingSummaryService,
+                        WorkEntryMapper workEntryMapper,
+                        JsonMapper jsonMapper) {
+        this.properties = properties;
+        this.pools = dataSources.stream()
+                .filter(dataSource -> !(dataSource instanceof AbstractRoutingDataSource))
+                .map(WarmupRunner::hikariPool)
+                .filter(Objects::nonNull)
+                .toList();
+        this.workEntryService = workEntryService;
+        this.billingSummaryService = billingSummaryService;
+        this.workEntryMapper = workEntryMapper;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if(!properties.isEnabled()) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        long deadline = started + properties.getBudget().toNanos();
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "warmup"));
+        Future<?> warmup = executor.submit(() -> warmUp(deadline));
+        try {
+            warmup.get(properties.getBudget().toNanos(), TimeUnit.NANOSECONDS);
+            log.info("Warm-up finished in {} ms", Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch(TimeoutException e) {
+            warmup.cancel(true);
+            log.warn("Warm-up stopped after its budget of {}", properties.getBudget());
+        } catch(ExecutionException e) {
+            log.warn("Warm-up failed", e.getCause());
+        } catch(InterruptedException e) {
+            warmup.cancel(true);
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    void warmUp(long deadline) {
+        step("connection pools", deadline, this::fillPools);
+        step("read queries", deadline, () -> runQueries(deadline));
+        step("serialization", deadline, () -> serialize(deadline));
+        step("current month billing summary", deadline, this::readCurrentMonth);
+    }
+
+    private void step(String name, long deadline, Runnable step) {
+        if(expired(deadline)) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            step.run();
+            log.debug("Warm-up of {} took {} ms", name, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch(RuntimeException e) {
+            log.warn("Warm-up of {} failed: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * Opens each pool's minimum idle connections (at least one) at once instead of waiting for Hikari to add them.
+     */
+    private void fillPools() {
+        for(HikariDataSource pool : pools) {
+            int target = Math.max(1, pool.getMinimumIdle());
+            List<Connection> connections = new ArrayList<>(target);
+            try {
+                for(int i = 0; i < target; i++) {
+                    connections.add(pool.getConnection());
+                }
+            } catch(SQLException e) {
+                log.warn("Could not fill pool {}: {}", pool.getPoolName(), e.getMessage());
+            } finally {
+                connections.forEach(WarmupRunner::closeQuietly);
+            }
+        }
+    }
+
+    /**
+     * Goes through the services rather than WorkEntryRepository, so the transaction, workload routing
+     * and query plan caches are warmed together with the statements. Arguments vary per repetition,
+     * otherwise @Coalesce would answer the repeats from the first run.
+     */
+    private void runQueries(long deadline) {
+        LocalDate today = LocalDate.now();
+        LocalDate monthStart = today.withDayOfMonth(1);
+        WorkEntryFilter filter = new WorkEntryFilter(
+                SYNTHETIC_EMPLOYEE_ID, monthStart, today, WorkEntryStatus.SUBMITTED, ProgramType.INTERNAL, null, null);
+
+        for(int i = 0; i < properties.getQueryRepetitions() && !expired(deadline); i++) {
+            PageRequest page = PageRequest.of(0, 20 + i);
+            workEntryService.getAllWorkEntries(SYNTHETIC_EMPLOYEE_ID, page);
+            workEntryService.getWorkEntriesByDateRange(SYNTHETIC_EMPLOYEE_ID, monthStart, today, page);
+            workEntryService.getWorkEntriesByStatus(SYNTHETIC_EMPLOYEE_ID, WorkEntryStatus.DRAFT, page);
+            workEntryService.getWorkEntriesByDate(SYNTHETIC_EMPLOYEE_ID, today.minusDays(i));
+            workEntryService.getWeekTimesheet(SYNTHETIC_EMPLOYEE_ID, today.minusWeeks(i));
+            workEntryService.filterWorkEntries(filter, page);
+            workEntryService.searchWorkEntries("warmup", filter, null, 20 + i);
+            workEntryService.getWorkEntriesByIds(SYNTHETIC_EMPLOYEE_ID, List.of(MISSING_WORK_ENTRY_ID));
+            workEntryService.getMonthTimesheet(SYNTHETIC_EMPLOYEE_ID, today.minusMonths(i));
+            workEntryService.calculateTotalHours(SYNTHETIC_EMPLOYEE_ID, monthStart, today.minusDays(i));
+            workEntryService.getWorkEntryFacets(SYNTHETIC_EMPLOYEE_ID, monthStart, today.minusDays(i), 10);
+        }
+    }
+
+    private void serialize(long deadline) {
+        for(int i = 0; i < properties.getSerializationIterations() && !expired(deadline); i++) {
+            WorkEntry workEntry = syntheticEntry(i);
+            jsonMapper.writeValueAsBytes(ApiResponse.success(workEntryMapper.toResponse(workEntry), "warmup"));
+            jsonMapper.writeValueAsBytes(ApiResponse.success(
+                    PageResponse.from(new PageImpl<>(List.of(workEntryMapper.toSummary(workEntry)))), "warmup"));
+        }
+    }
+
+    /**
+     * The billing summary is the one aggregate not scoped to an employee, so unlike the synthetic reads
+     * it runs over the real rows of the month most requests ask for.
+     */
+    private void readCurrentMonth() {
+        YearMonth month = YearMonth.now();
+        billingSummaryService.getMonthlySummary(month, month, null, null);
+    }
+
+    private static WorkEntry syntheticEntry(int i) {
+        WorkEntry workEntry = new WorkEntry();
+        workEntry.setId((long) i);
+        workEntry.setEmployeeId(SYNTHETIC_EMPLOYEE_ID);
+        workEntry.setWorkDate(LocalDate.now().minusDays(i % 28));
+        workEntry.setProgramType(ProgramType.values()[i % ProgramType.values().length]);
+        workEntry.setProgramReference("WARMUP");
+        workEntry.setTicketId("WARMUP-" + i);
+        workEntry.setDescription("Warm-up entry");
+        workEntry.setMinutesSpent(1 + i % 480);
+        workEntry.setWorkEntryStatus(WorkEntryStatus.values()[i % WorkEntryStatus.values().length]);
+        return workEntry;
+    }
+
+    /**
+     * The pools are wrapped by datasource-proxy (see DataSourceProxyConfig).
+     */
+    private static HikariDataSource hikariPool(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch(SQLException e) {
+            return null;
+        }
+    }
+
+    private static boolean expired(long deadline) {
+        return System.nanoTime() - deadline >= 0 || Thread.currentThread().isInterrupted();
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch(SQLException e) {
+            log.debug("Could not return warm-up connection: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+-- V5 gave rows that predate the owner dimension employee 0, which no employee uses: since every
+-- by-id and list endpoint is scoped to the caller's employee, those rows are unreachable until
+-- they are assigned to their real owners. The owners are not known to this schema, so they are
+-- loaded by an operator and applied with the procedure below (see docs/employee-ownership-backfill.md).
+CREATE TABLE work_entry_owner_backfill (
+    work_entry_id BIGINT PRIMARY KEY,
+    employee_id   BIGINT NOT NULL CHECK (employee_id > 0)
+);
+
+-- Moves the loaded rows in batches, committing after each one, and can be rerun at any time:
+-- only rows still owned by employee 0 are touched. A moved row changes partition and is stamped
+-- as changed for delta sync. History is append-only, so each moved entry gets a new snapshot under
+-- its owner rather than having its earlier versions rewritten.
+CREATE PROCEDURE assign_work_entry_owners(batch_size INTEGER DEFAULT 1000)
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    moved INTEGER;
+BEGIN
+    LOOP
+        WITH batch AS (
+            SELECT b.work_entry_id, b.employee_id
+            FROM work_entry_owner_backfill b
+            JOIN work_entries w ON w.id = b.work_entry_id AND w.employee_id = 0
+            ORDER BY b.work_entry_id
+            LIMIT batch_size
+        ), reassigned AS (
+            UPDATE work_entries w
+            SET employee_id = batch.employee_id
+            FROM batch
+            WHERE w.employee_id = 0
+              AND w.id = batch.work_entry_id
+            RETURNING w.*
+        )
+        INSERT INTO work_entry_history (work_entry_id, employee_id, version, snapshot_version, change_type, changed_at, fields)
+        SELECT r.id, r.employee_id, h.version + 1, h.version + 1, 'REASSIGNED', localtimestamp,
+               jsonb_build_object(
+                       'employeeId', r.employee_id,
+                       'workDate', r.work_date,
+                       'programType', r.program_type,
+                       'programReference', r.program_reference,
+                       'ticketId', r.ticket_id,
+                       'description', r.description,
+                       'minutesSpent', r.minutes_spent,
+                       'workEntryStatus', r.work_entry_status
+               )
+        FROM reassigned r
+        CROSS JOIN LATERAL (
+            SELECT coalesce(max(version), 0) AS version
+            FROM work_entry_history
+            WHERE work_entry_id = r.id
+        ) h;
+
+        GET DIAGNOSTICS moved = ROW_COUNT;
+        EXIT WHEN moved = 0;
+        RAISE NOTICE 'Assigned % work entries to their owners', moved;
+        COMMIT;
+    END LOOP;
+END;
+$$;
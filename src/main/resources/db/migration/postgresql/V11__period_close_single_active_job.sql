@@ -0,0 +1,4 @@
+-- At most one period-close job may be PENDING or RUNNING. The service checks this before creating
+-- a job, but two concurrent requests can both pass the check; this index makes the later insert fail.
+CREATE UNIQUE INDEX uq_period_close_jobs_active ON period_close_jobs ((true))
+    WHERE status IN ('PENDING', 'RUNNING');
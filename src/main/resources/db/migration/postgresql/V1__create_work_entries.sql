@@ -0,0 +1,14 @@
+-- Baseline schema, matching what Hibernate generated for WorkEntry.
+-- Existing databases are baselined at version 1 and skip this script.
+CREATE TABLE IF NOT EXISTS work_entries (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    work_date         DATE             NOT NULL,
+    program_type      VARCHAR(255)     NOT NULL,
+    program_reference VARCHAR(255)     NOT NULL,
+    ticket_id         VARCHAR(255),
+    description       VARCHAR(2000),
+    hours_spent       DOUBLE PRECISION NOT NULL,
+    work_entry_status VARCHAR(255),
+    created_at        TIMESTAMP(6)     NOT NULL,
+    updated_at        TIMESTAMP(6)     NOT NULL
+);
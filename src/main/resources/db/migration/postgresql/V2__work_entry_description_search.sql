@@ -0,0 +1,8 @@
+-- Full-text search over work entry descriptions.
+-- The generated column is maintained by PostgreSQL on every insert and update.
+ALTER TABLE work_entries
+    ADD COLUMN IF NOT EXISTS description_tsv TSVECTOR
+        GENERATED ALWAYS AS (to_tsvector('english', coalesce(description, ''))) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_work_entries_description_tsv
+    ON work_entries USING GIN (description_tsv);
@@ -0,0 +1,18 @@
+-- Indexes backing WorkEntrySpecifications.
+-- Every filterable column leads one index that ends in work_date, so equality
+-- filters combined with a date range (and the default work_date sort) stay on an index.
+CREATE INDEX IF NOT EXISTS idx_work_entries_work_date
+    ON work_entries (work_date);
+
+CREATE INDEX IF NOT EXISTS idx_work_entries_status_work_date
+    ON work_entries (work_entry_status, work_date);
+
+CREATE INDEX IF NOT EXISTS idx_work_entries_program_type_work_date
+    ON work_entries (program_type, work_date);
+
+CREATE INDEX IF NOT EXISTS idx_work_entries_program_reference_work_date
+    ON work_entries (program_reference, work_date);
+
+CREATE INDEX IF NOT EXISTS idx_work_entries_ticket_id
+    ON work_entries (ticket_id)
+    WHERE ticket_id IS NOT NULL;
@@ -0,0 +1,13 @@
+-- Store work duration as whole minutes instead of floating point hours.
+-- SUM over an integer column is exact and the row gets 6 bytes narrower.
+ALTER TABLE work_entries ADD COLUMN IF NOT EXISTS minutes_spent SMALLINT;
+
+UPDATE work_entries
+SET minutes_spent = round(hours_spent * 60)
+WHERE minutes_spent IS NULL;
+
+ALTER TABLE work_entries ALTER COLUMN minutes_spent SET NOT NULL;
+ALTER TABLE work_entries
+    ADD CONSTRAINT chk_work_entries_minutes_spent CHECK (minutes_spent BETWEEN 1 AND 1440);
+
+ALTER TABLE work_entries DROP COLUMN hours_spent;
@@ -0,0 +1,69 @@
+-- Owner dimension: every work entry belongs to one employee and every timesheet
+-- query is scoped by employee_id. Rows that predate this migration get employee 0.
+--
+-- PostgreSQL cannot partition an existing table in place, so the table is rebuilt
+-- hash partitioned by employee_id. One employee's rows always live in the same
+-- partition, which keeps "my timesheet" lookups on one small partition and lets
+-- partitions be moved to separate nodes later without rekeying.
+ALTER TABLE work_entries RENAME TO work_entries_unpartitioned;
+ALTER INDEX work_entries_pkey RENAME TO work_entries_unpartitioned_pkey;
+
+CREATE TABLE work_entries (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    employee_id       BIGINT        NOT NULL,
+    work_date         DATE          NOT NULL,
+    program_type      VARCHAR(255)  NOT NULL,
+    program_reference VARCHAR(255)  NOT NULL,
+    ticket_id         VARCHAR(255),
+    description       VARCHAR(2000),
+    description_tsv   TSVECTOR
+        GENERATED ALWAYS AS (to_tsvector('english', coalesce(description, ''))) STORED,
+    minutes_spent     SMALLINT      NOT NULL
+        CONSTRAINT chk_work_entries_minutes_spent CHECK (minutes_spent BETWEEN 1 AND 1440),
+    work_entry_status VARCHAR(255),
+    created_at        TIMESTAMP(6)  NOT NULL,
+    updated_at        TIMESTAMP(6)  NOT NULL,
+    -- A unique constraint on a partitioned table must include the partition key
+    CONSTRAINT work_entries_pkey PRIMARY KEY (id, employee_id)
+) PARTITION BY HASH (employee_id);
+
+CREATE TABLE work_entries_p0 PARTITION OF work_entries FOR VALUES WITH (MODULUS 8, REMAINDER 0);
+CREATE TABLE work_entries_p1 PARTITION OF work_entries FOR VALUES WITH (MODULUS 8, REMAINDER 1);
+CREATE TABLE work_entries_p2 PARTITION OF work_entries FOR VALUES WITH (MODULUS 8, REMAINDER 2);
+CREATE TABLE work_entries_p3 PARTITION OF work_entries FOR VALUES WITH (MODULUS 8, REMAINDER 3);
+CREATE TABLE work_entries_p4 PARTITION OF work_entries FOR VALUES WITH (MODULUS 8, REMAINDER 4);
+CREATE TABLE work_entries_p5 PARTITION OF work_entries FOR VALUES WITH (MODULUS 8, REMAINDER 5);
+CREATE TABLE work_entries_p6 PARTITION OF work_entries FOR VALUES WITH (MODULUS 8, REMAINDER 6);
+CREATE TABLE work_entries_p7 PARTITION OF work_entries FOR VALUES WITH (MODULUS 8, REMAINDER 7);
+
+INSERT INTO work_entries (id, employee_id, work_date, program_type, program_reference, ticket_id,
+                          description, minutes_spent, work_entry_status, created_at, updated_at)
+SELECT id, 0, work_date, program_type, program_reference, ticket_id,
+       description, minutes_spent, work_entry_status, created_at, updated_at
+FROM work_entries_unpartitioned;
+
+DROP TABLE work_entries_unpartitioned;
+
+SELECT setval(pg_get_serial_sequence('work_entries', 'id'), coalesce(max(id), 0) + 1, false)
+FROM work_entries;
+
+-- Replaces the V3 indexes: every scoped query leads with employee_id,
+-- and each filterable column is followed by work_date for range scans and sorting.
+CREATE INDEX idx_work_entries_employee_work_date
+    ON work_entries (employee_id, work_date);
+
+CREATE INDEX idx_work_entries_employee_status_work_date
+    ON work_entries (employee_id, work_entry_status, work_date);
+
+CREATE INDEX idx_work_entries_employee_program_type_work_date
+    ON work_entries (employee_id, program_type, work_date);
+
+CREATE INDEX idx_work_entries_employee_program_reference_work_date
+    ON work_entries (employee_id, program_reference, work_date);
+
+CREATE INDEX idx_work_entries_employee_ticket_id
+    ON work_entries (employee_id, ticket_id)
+    WHERE ticket_id IS NOT NULL;
+
+CREATE INDEX idx_work_entries_description_tsv
+    ON work_entries USING GIN (description_tsv);
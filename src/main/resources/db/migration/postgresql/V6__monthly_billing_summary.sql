@@ -0,0 +1,24 @@
+-- Pre-aggregated monthly hours per program and status for billing reads.
+-- Refreshed with REFRESH MATERIALIZED VIEW CONCURRENTLY by BillingSummaryRefresher,
+-- which needs the unique index below and never blocks readers.
+CREATE MATERIALIZED VIEW monthly_billing_summary AS
+SELECT program_type,
+       program_reference,
+       date_trunc('month', work_date)::date   AS billing_month,
+       coalesce(work_entry_status, 'DRAFT')    AS work_entry_status,
+       sum(minutes_spent)::bigint              AS minutes_spent,
+       count(*)                                AS entry_count
+FROM work_entries
+GROUP BY program_type, program_reference, date_trunc('month', work_date), coalesce(work_entry_status, 'DRAFT');
+
+CREATE UNIQUE INDEX uq_monthly_billing_summary
+    ON monthly_billing_summary (billing_month, program_type, program_reference, work_entry_status);
+
+-- When each materialized view was last refreshed, so readers can report staleness.
+CREATE TABLE materialized_view_refresh (
+    view_name    VARCHAR(63) PRIMARY KEY,
+    refreshed_at TIMESTAMPTZ NOT NULL
+);
+
+INSERT INTO materialized_view_refresh (view_name, refreshed_at)
+VALUES ('monthly_billing_summary', now());
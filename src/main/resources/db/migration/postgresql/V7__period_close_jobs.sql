@@ -0,0 +1,18 @@
+-- Background period-close jobs. last_processed_id is the checkpoint a restarted job resumes from;
+-- it is advanced in the same transaction that locks each chunk.
+CREATE TABLE period_close_jobs (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    start_date        DATE         NOT NULL,
+    end_date          DATE         NOT NULL,
+    status            VARCHAR(20)  NOT NULL,
+    total_entries     BIGINT       NOT NULL,
+    processed_entries BIGINT       NOT NULL,
+    last_processed_id BIGINT       NOT NULL,
+    error_message     VARCHAR(2000),
+    version           BIGINT       NOT NULL,
+    created_at        TIMESTAMP(6) NOT NULL,
+    started_at        TIMESTAMP(6),
+    finished_at       TIMESTAMP(6)
+);
+
+CREATE INDEX idx_period_close_jobs_status ON period_close_jobs (status);
@@ -0,0 +1,49 @@
+-- Append-only change history of work entries. A change stores only the fields it changed;
+-- the first version and every snapshot-interval-th version store the full state, so an entry
+-- is rebuilt as of any time from its nearest snapshot instead of its whole history.
+CREATE TABLE work_entry_history (
+    id               BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    work_entry_id    BIGINT       NOT NULL,
+    employee_id      BIGINT       NOT NULL,
+    version          INTEGER      NOT NULL,
+    -- version of the full snapshot this row applies on top of (its own version for snapshots)
+    snapshot_version INTEGER      NOT NULL,
+    change_type      VARCHAR(20)  NOT NULL,
+    changed_at       TIMESTAMP(6) NOT NULL,
+    fields           JSONB        NOT NULL,
+    CONSTRAINT uk_work_entry_history_version UNIQUE (work_entry_id, version)
+);
+
+CREATE INDEX idx_work_entry_history_employee_changed_at
+    ON work_entry_history (employee_id, changed_at);
+
+CREATE FUNCTION reject_work_entry_history_change() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    RAISE EXCEPTION 'work_entry_history is append-only';
+END;
+$$;
+
+CREATE TRIGGER trg_work_entry_history_append_only
+    BEFORE UPDATE OR DELETE ON work_entry_history
+    FOR EACH ROW EXECUTE FUNCTION reject_work_entry_history_change();
+
+CREATE TRIGGER trg_work_entry_history_no_truncate
+    BEFORE TRUNCATE ON work_entry_history
+    FOR EACH STATEMENT EXECUTE FUNCTION reject_work_entry_history_change();
+
+-- History starts here: existing entries get a baseline snapshot of their current state
+INSERT INTO work_entry_history (work_entry_id, employee_id, version, snapshot_version, change_type, changed_at, fields)
+SELECT id, employee_id, 1, 1, 'BASELINE', updated_at,
+       jsonb_build_object(
+               'employeeId', employee_id,
+               'workDate', work_date,
+               'programType', program_type,
+               'programReference', program_reference,
+               'ticketId', ticket_id,
+               'description', description,
+               'minutesSpent', minutes_spent,
+               'workEntryStatus', work_entry_status
+       )
+FROM work_entries;
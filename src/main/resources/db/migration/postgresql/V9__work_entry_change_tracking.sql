@@ -0,0 +1,59 @@
+-- Change tracking for delta sync. Every insert and update stamps the row with the id of the
+-- writing transaction; deletes leave a tombstone stamped the same way.
+--
+-- Sync reads only rows stamped below the xmin of its snapshot: those transactions have all
+-- finished, so no row can later appear below a cursor already handed out, whatever the commit
+-- order. A timestamp or sequence column cannot give that guarantee.
+ALTER TABLE work_entries
+    ADD COLUMN change_xid XID8 NOT NULL DEFAULT pg_current_xact_id();
+
+CREATE INDEX idx_work_entries_employee_change_xid
+    ON work_entries (employee_id, change_xid, id);
+
+CREATE FUNCTION stamp_work_entry_change() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    NEW.change_xid := pg_current_xact_id();
+    RETURN NEW;
+END;
+$$;
+
+CREATE TRIGGER trg_work_entries_change_xid
+    BEFORE UPDATE ON work_entries
+    FOR EACH ROW EXECUTE FUNCTION stamp_work_entry_change();
+
+CREATE TABLE work_entry_tombstones (
+    id            BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    work_entry_id BIGINT       NOT NULL,
+    employee_id   BIGINT       NOT NULL,
+    deleted_xid   XID8         NOT NULL DEFAULT pg_current_xact_id(),
+    deleted_at    TIMESTAMP(6) NOT NULL DEFAULT localtimestamp
+);
+
+CREATE INDEX idx_work_entry_tombstones_employee_deleted_xid
+    ON work_entry_tombstones (employee_id, deleted_xid, work_entry_id);
+
+CREATE INDEX idx_work_entry_tombstones_deleted_at
+    ON work_entry_tombstones (deleted_at);
+
+CREATE FUNCTION record_work_entry_tombstone() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    INSERT INTO work_entry_tombstones (work_entry_id, employee_id) VALUES (OLD.id, OLD.employee_id);
+    RETURN OLD;
+END;
+$$;
+
+CREATE TRIGGER trg_work_entries_tombstone
+    AFTER DELETE ON work_entries
+    FOR EACH ROW EXECUTE FUNCTION record_work_entry_tombstone();
+
+-- Highest deleted_xid purged so far: a cursor at or below it may have missed deletions
+CREATE TABLE work_entry_sync_horizon (
+    id             BOOLEAN PRIMARY KEY DEFAULT TRUE CHECK (id),
+    purged_through XID8    NOT NULL
+);
+
+INSERT INTO work_entry_sync_horizon (purged_through) VALUES ('0'::xid8);
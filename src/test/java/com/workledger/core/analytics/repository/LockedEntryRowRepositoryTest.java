@@ -0,0 +1,62 @@
+package com.workledger.core.analytics.repository;
+
+import com.workledger.core.analytics.store.LockedEntryRow;
+import com.workledger.core.timesheet.domain.ProgramType;
+import com.workledger.core.timesheet.domain.WorkEntry;
+import com.workledger.core.timesheet.domain.WorkEntryStatus;
+import com.workledger.core.timesheet.repository.WorkEntryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class LockedEntryRowRepositoryTest {
+
+    @Autowired
+    private WorkEntryRepository workEntryRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void findLockedEntriesAcrossIdChunks() {
+        List<Long> ids = new ArrayList<>();
+        Set<Long> lockedIds = new HashSet<>();
+        for(int i = 0; i < 7; i++) {
+            WorkEntryStatus status = i % 3 == 0 ? WorkEntryStatus.SUBMITTED : WorkEntryStatus.LOCKED;
+            Long id = workEntryRepository.saveAndFlush(workEntry(status, 30 + i)).getId();
+            ids.add(id);
+            if(status == WorkEntryStatus.LOCKED) {
+                lockedIds.add(id);
+            }
+        }
+        ids.add(-1L);
+
+        // Three ids per query: the eight ids take three chunks, the last one partial
+        List<LockedEntryRow> rows = new LockedEntryRowRepository(dataSource, 3).findLockedByIds(ids);
+
+        assertEquals(lockedIds, rows.stream().map(LockedEntryRow::id).collect(Collectors.toSet()));
+        assertEquals(lockedIds.size(), rows.size());
+    }
+
+    private static WorkEntry workEntry(WorkEntryStatus status, int minutesSpent) {
+        WorkEntry workEntry = new WorkEntry();
+        workEntry.setEmployeeId(3L);
+        workEntry.setWorkDate(LocalDate.now().minusDays(1));
+        workEntry.setProgramType(ProgramType.CLIENT);
+        workEntry.setProgramReference("PROJ-1");
+        workEntry.setMinutesSpent(minutesSpent);
+        workEntry.setWorkEntryStatus(status);
+        return workEntry;
+    }
+}
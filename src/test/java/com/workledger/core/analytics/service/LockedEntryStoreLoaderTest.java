@@ -0,0 +1,56 @@
+package com.workledger.core.analytics.service;
+
+import com.workledger.core.analytics.repository.LockedEntryRowRepository;
+import com.workledger.core.analytics.store.LockedEntryColumnStore;
+import com.workledger.core.analytics.store.LockedEntryRow;
+import com.workledger.core.timesheet.domain.ProgramType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LockedEntryStoreLoaderTest {
+
+    private static final LockedEntryRow ROW = new LockedEntryRow(1, 7, LocalDate.of(2026, 2, 2), ProgramType.INTERNAL, "PROJ", 60);
+
+    private LockedEntryRowRepository rowRepository;
+    private LockedEntryColumnStore store;
+    private LockedEntryStoreLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        rowRepository = Mockito.mock(LockedEntryRowRepository.class);
+        store = new LockedEntryColumnStore();
+        loader = new LockedEntryStoreLoader(rowRepository, store, new AnalyticsProperties());
+    }
+
+    @Test
+    void keepPolledIdsWhenAppendFails() {
+        Mockito.when(rowRepository.findLockedByIds(ArgumentMatchers.any()))
+                .thenThrow(new IllegalStateException("mapping failed"))
+                .thenReturn(List.of(ROW));
+        loader.invalidate(Set.of(1L), Set.of());
+
+        loader.appendLockedEntries();
+        assertEquals(0, store.size());
+
+        loader.appendLockedEntries();
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void reportNotLoadedWhenLoadFails() {
+        Mockito.when(rowRepository.findLockedAfter(ArgumentMatchers.anyLong(), ArgumentMatchers.anyInt()))
+                .thenThrow(new IllegalStateException("mapping failed"));
+
+        loader.loadAll();
+
+        assertFalse(loader.isLoaded());
+    }
+}
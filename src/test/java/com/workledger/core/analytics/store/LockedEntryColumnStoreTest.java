@@ -0,0 +1,95 @@
+package com.workledger.core.analytics.store;
+
+import com.workledger.core.timesheet.domain.ProgramType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LockedEntryColumnStoreTest {
+
+    private static final LocalDate JANUARY = LocalDate.of(2025, 1, 15);
+    private static final LocalDate FEBRUARY = LocalDate.of(2025, 2, 3);
+
+    private LockedEntryColumnStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new LockedEntryColumnStore();
+        store.append(List.of(
+                new LockedEntryRow(1, 7, JANUARY, ProgramType.INTERNAL, "PROJ", 480),
+                new LockedEntryRow(2, 7, FEBRUARY, ProgramType.INTERNAL, "PROJ", 90),
+                new LockedEntryRow(3, 8, FEBRUARY, ProgramType.INTERNAL, "OPS", 60)
+        ));
+    }
+
+    @Test
+    void skipEntriesAlreadyLoaded() {
+        int appended = store.append(List.of(
+                new LockedEntryRow(3, 8, FEBRUARY, ProgramType.INTERNAL, "OPS", 60),
+                new LockedEntryRow(4, 8, FEBRUARY, ProgramType.INTERNAL, "OPS", 30)
+        ));
+
+        assertEquals(1, appended);
+        assertEquals(4, store.size());
+    }
+
+    @Test
+    void skipEntriesAlreadyLoadedBeyondIntRange() {
+        long id = Integer.MAX_VALUE + 10L;
+        assertEquals(1, store.append(List.of(new LockedEntryRow(id, 8, FEBRUARY, ProgramType.INTERNAL, "OPS", 30))));
+        assertEquals(0, store.append(List.of(new LockedEntryRow(id, 8, FEBRUARY, ProgramType.INTERNAL, "OPS", 30))));
+        assertEquals(4, store.size());
+    }
+
+    @Test
+    void sumMatchingEntries() {
+        LockedEntryFilter filter = new LockedEntryFilter(7L, FEBRUARY, FEBRUARY, null, null);
+
+        List<LockedEntryTotal> totals = store.aggregate(filter, LockedEntryGroupBy.NONE);
+
+        assertEquals(List.of(new LockedEntryTotal(null, 90, 1)), totals);
+    }
+
+    @Test
+    void matchNothingForUnknownDictionaryValue() {
+        LockedEntryFilter filter = new LockedEntryFilter(null, null, null, null, "UNKNOWN");
+
+        assertEquals(List.of(new LockedEntryTotal(null, 0, 0)), store.aggregate(filter, LockedEntryGroupBy.NONE));
+        assertEquals(List.of(), store.aggregate(filter, LockedEntryGroupBy.PROGRAM_REFERENCE));
+    }
+
+    @Test
+    void groupByMonthAndReference() {
+        LockedEntryFilter all = new LockedEntryFilter(null, null, null, null, null);
+
+        assertEquals(
+                List.of(new LockedEntryTotal("2025-01", 480, 1), new LockedEntryTotal("2025-02", 150, 2)),
+                store.aggregate(all, LockedEntryGroupBy.MONTH)
+        );
+        assertEquals(
+                List.of(new LockedEntryTotal("PROJ", 570, 2), new LockedEntryTotal("OPS", 60, 1)),
+                store.aggregate(all, LockedEntryGroupBy.PROGRAM_REFERENCE)
+        );
+    }
+
+    @Test
+    void keepRowsWhenColumnsGrow() {
+        List<LockedEntryRow> rows = new ArrayList<>();
+        for(int id = 100; id < 40_100; id++) {
+            rows.add(new LockedEntryRow(id, 9, JANUARY.plusDays(id % 10), ProgramType.INTERNAL, "BULK", 1));
+        }
+
+        store.append(rows);
+        // Every id is still found after the id set has grown
+        assertEquals(0, store.append(rows));
+
+        LockedEntryFilter filter = new LockedEntryFilter(9L, null, null, null, "BULK");
+        assertEquals(40_003, store.size());
+        assertEquals(List.of(new LockedEntryTotal(null, 40_000, 40_000)), store.aggregate(filter, LockedEntryGroupBy.NONE));
+    }
+}
@@ -0,0 +1,64 @@
+package com.workledger.core.billing.service;
+
+import com.workledger.core.billing.repository.BillingSummaryRepository;
+import com.workledger.core.timesheet.domain.WorkEntryStatus;
+import com.workledger.core.timesheet.event.WorkEntryChangeType;
+import com.workledger.core.timesheet.event.WorkEntryChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+
+class BillingSummaryRefresherTest {
+
+    private BillingSummaryRepository repository;
+    private BillingSummaryRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        repository = Mockito.mock(BillingSummaryRepository.class);
+        refresher = new BillingSummaryRefresher(repository, Mockito.mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void refreshOnceAfterSeveralLocks() {
+        Mockito.when(repository.refreshIfNotRunning()).thenReturn(true);
+
+        refresher.refreshAfterLocks();
+        Mockito.verify(repository, Mockito.never()).refreshIfNotRunning();
+
+        refresher.onWorkEntryChanged(event(1L, WorkEntryChangeType.LOCKED));
+        refresher.onWorkEntryChanged(event(2L, WorkEntryChangeType.LOCKED));
+        refresher.onWorkEntryChanged(event(3L, WorkEntryChangeType.UPDATED));
+        refresher.refreshAfterLocks();
+        refresher.refreshAfterLocks();
+
+        Mockito.verify(repository, Mockito.times(1)).refreshIfNotRunning();
+    }
+
+    @Test
+    void retryWhenAnotherNodeIsRefreshing() {
+        Mockito.when(repository.refreshIfNotRunning()).thenReturn(false, true);
+
+        refresher.onWorkEntryChanged(event(1L, WorkEntryChangeType.LOCKED));
+        refresher.refreshAfterLocks();
+        refresher.refreshAfterLocks();
+        refresher.refreshAfterLocks();
+
+        Mockito.verify(repository, Mockito.times(2)).refreshIfNotRunning();
+    }
+
+    @Test
+    void ignoreUpdatesOtherThanLocks() {
+        refresher.onWorkEntryChanged(event(1L, WorkEntryChangeType.SUBMITTED));
+        refresher.refreshAfterLocks();
+
+        Mockito.verifyNoInteractions(repository);
+    }
+
+    private static WorkEntryChangedEvent event(Long id, WorkEntryChangeType changeType) {
+        return new WorkEntryChangedEvent(id, changeType, WorkEntryStatus.LOCKED, LocalDate.now(), null);
+    }
+}
@@ -0,0 +1,155 @@
+package com.workledger.core.common.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    @Test
+    void shareOneExecutionBetweenConcurrentCallers() throws Exception {
+        // Lingering covers callers scheduled after the leader returned
+        SingleFlight singleFlight = new SingleFlight(Duration.ofMinutes(1));
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<SingleFlight.Outcome>> outcomes = new ArrayList<>();
+            for(int i = 0; i < callers; i++) {
+                outcomes.add(executor.submit(() -> {
+                    try {
+                        return singleFlight.execute("total", () -> {
+                            executions.incrementAndGet();
+                            release.await();
+                            return 42.0;
+                        });
+                    } catch(Throwable e) {
+                        throw new AssertionError(e);
+                    }
+                }));
+            }
+            while(executions.get() == 0) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            long shared = 0;
+            for(Future<SingleFlight.Outcome> outcome : outcomes) {
+                assertEquals(42.0, outcome.get(5, TimeUnit.SECONDS).value());
+                shared += outcome.get().shared() ? 1 : 0;
+            }
+            assertEquals(1, executions.get());
+            assertEquals(callers - 1, shared);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rerunForWaitingCallerWhenLeaderFailureIsItsOwn() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(Duration.ZERO, e -> e instanceof CancellationException);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch leaderRunning = new CountDownLatch(1);
+        CountDownLatch cancelLeader = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<SingleFlight.Outcome> leader = executor.submit(() -> {
+                try {
+                    return singleFlight.execute("total", () -> {
+                        executions.incrementAndGet();
+                        leaderRunning.countDown();
+                        cancelLeader.await();
+                        throw new CancellationException("client went away");
+                    });
+                } catch(Throwable e) {
+                    throw new ExecutionException(e);
+                }
+            });
+            assertTrue(leaderRunning.await(5, TimeUnit.SECONDS));
+
+            AtomicReference<Thread> followerThread = new AtomicReference<>();
+            Future<SingleFlight.Outcome> follower = executor.submit(() -> {
+                followerThread.set(Thread.currentThread());
+                try {
+                    return singleFlight.execute("total", () -> executions.incrementAndGet());
+                } catch(Throwable e) {
+                    throw new AssertionError(e);
+                }
+            });
+            // Joined the leader's flight
+            while(followerThread.get() == null || followerThread.get().getState() != Thread.State.WAITING) {
+                Thread.onSpinWait();
+            }
+            cancelLeader.countDown();
+
+            ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(CancellationException.class, leaderFailure.getCause().getCause());
+            SingleFlight.Outcome outcome = follower.get(5, TimeUnit.SECONDS);
+            assertEquals(2, outcome.value());
+            assertFalse(outcome.shared());
+            assertEquals(0, singleFlight.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void runAgainOnceFlightLanded() throws Throwable {
+        SingleFlight singleFlight = new SingleFlight(Duration.ZERO);
+        AtomicInteger executions = new AtomicInteger();
+
+        singleFlight.execute("total", executions::incrementAndGet);
+        SingleFlight.Outcome outcome = singleFlight.execute("total", executions::incrementAndGet);
+
+        assertEquals(2, outcome.value());
+        assertFalse(outcome.shared());
+        assertEquals(0, singleFlight.size());
+    }
+
+    @Test
+    void reuseResultWithinLinger() throws Throwable {
+        SingleFlight singleFlight = new SingleFlight(Duration.ofMinutes(1));
+        AtomicInteger executions = new AtomicInteger();
+
+        singleFlight.execute("total", executions::incrementAndGet);
+        SingleFlight.Outcome outcome = singleFlight.execute("total", executions::incrementAndGet);
+
+        assertEquals(1, outcome.value());
+        assertTrue(outcome.shared());
+    }
+
+    @Test
+    void keepDifferentKeysApart() throws Throwable {
+        SingleFlight singleFlight = new SingleFlight(Duration.ofMinutes(1));
+
+        assertEquals("march", singleFlight.execute(List.of(3), () -> "march").value());
+        assertEquals("april", singleFlight.execute(List.of(4), () -> "april").value());
+    }
+
+    @Test
+    void neverLingerFailures() throws Throwable {
+        SingleFlight singleFlight = new SingleFlight(Duration.ofMinutes(1));
+
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("total", () -> {
+            throw new IllegalStateException("timeout");
+        }));
+
+        assertEquals(7, singleFlight.execute("total", () -> 7).value());
+    }
+}
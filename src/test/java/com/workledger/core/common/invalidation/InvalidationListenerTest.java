@@ -0,0 +1,69 @@
+package com.workledger.core.common.invalidation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvalidationListenerTest {
+
+    private static final String OWN_NODE = "node-a";
+    private static final String OTHER_NODE = "node-b";
+
+    private InvalidationHandler handler;
+    private InvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        handler = Mockito.mock(InvalidationHandler.class);
+        listener = new InvalidationListener(
+                () -> { throw new UnsupportedOperationException(); },
+                OWN_NODE,
+                List.of(handler),
+                new InvalidationProperties()
+        );
+    }
+
+    @Test
+    void encodeAndDecodeMessage() {
+        InvalidationMessage message = new InvalidationMessage(
+                OTHER_NODE, 7, Set.of(1L, 2L), Set.of(LocalDate.of(2025, 3, 1)));
+
+        assertEquals(message, InvalidationMessage.decode(message.encode()));
+        assertEquals(
+                new InvalidationMessage(OTHER_NODE, 8, Set.of(), Set.of()),
+                InvalidationMessage.decode(OTHER_NODE + "|8||")
+        );
+    }
+
+    @Test
+    void evictKeysFromOtherNodesOnly() {
+        listener.handle(new InvalidationMessage(OWN_NODE, 1, Set.of(1L), Set.of()).encode());
+        listener.handle(new InvalidationMessage(OTHER_NODE, 1, Set.of(2L), Set.of()).encode());
+
+        Mockito.verify(handler).invalidate(Set.of(2L), Set.of());
+        Mockito.verifyNoMoreInteractions(handler);
+    }
+
+    @Test
+    void evictEverythingAfterSequenceGap() {
+        listener.handle(new InvalidationMessage(OTHER_NODE, 1, Set.of(1L), Set.of()).encode());
+        listener.handle(new InvalidationMessage(OTHER_NODE, 3, Set.of(3L), Set.of()).encode());
+
+        Mockito.verify(handler).invalidate(Set.of(1L), Set.of());
+        Mockito.verify(handler).invalidateAll();
+        Mockito.verify(handler, Mockito.never()).invalidate(Mockito.eq(Set.of(3L)), Mockito.any());
+    }
+
+    @Test
+    void ignoreMalformedPayload() {
+        listener.handle("not an invalidation");
+
+        Mockito.verifyNoInteractions(handler);
+    }
+}
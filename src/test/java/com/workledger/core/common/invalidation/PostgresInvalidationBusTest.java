@@ -0,0 +1,80 @@
+package com.workledger.core.common.invalidation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.DriverManager;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sends invalidations between two in-process nodes through a local PostgreSQL, e.g.
+ * {@code WORKLEDGER_TEST_POSTGRES_URL=jdbc:postgresql://localhost:5432/workledger_test ./gradlew test}
+ */
+@EnabledIfEnvironmentVariable(named = "WORKLEDGER_TEST_POSTGRES_URL", matches = ".+")
+class PostgresInvalidationBusTest {
+
+    private static final String URL = System.getenv("WORKLEDGER_TEST_POSTGRES_URL");
+    private static final String USER = System.getenv().getOrDefault("WORKLEDGER_TEST_POSTGRES_USER", "postgres");
+    private static final String PASSWORD = System.getenv().getOrDefault("WORKLEDGER_TEST_POSTGRES_PASSWORD", "root");
+
+    private final InvalidationProperties properties = new InvalidationProperties();
+    private InvalidationPublisher publisher;
+    private InvalidationListener listener;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if(listener != null) {
+            listener.stop();
+        }
+        if(publisher != null) {
+            publisher.shutdown();
+        }
+    }
+
+    @Test
+    void deliverBatchedKeysToOtherNode() throws InterruptedException {
+        properties.setChannel("workledger_invalidation_test");
+        Set<Long> received = ConcurrentHashMap.newKeySet();
+        CountDownLatch connected = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+
+        listener = new InvalidationListener(
+                () -> DriverManager.getConnection(URL, USER, PASSWORD),
+                "other-node",
+                List.of(new InvalidationHandler() {
+                    @Override
+                    public void invalidate(Set<Long> ids, Set<LocalDate> workDates) {
+                        received.addAll(ids);
+                        if(received.size() == 450) {
+                            delivered.countDown();
+                        }
+                    }
+
+                    @Override
+                    public void invalidateAll() {
+                        connected.countDown();
+                    }
+                }),
+                properties
+        );
+        listener.start();
+        assertTrue(connected.await(10, TimeUnit.SECONDS), "listener did not connect");
+
+        publisher = new InvalidationPublisher(new DriverManagerDataSource(URL, USER, PASSWORD), properties);
+        for(long id = 1; id <= 450; id++) {
+            publisher.publish(id, LocalDate.of(2025, 1, 1));
+        }
+        publisher.flush();
+
+        assertTrue(delivered.await(10, TimeUnit.SECONDS), () -> "received " + received.size() + " of 450 ids");
+    }
+}
@@ -0,0 +1,48 @@
+package com.workledger.core.common.jdbc;
+
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServiceMethodKeyTest {
+
+    @Test
+    void keyByDeclaringTypeAndParameterTypes() throws Exception {
+        assertEquals("ReportService.total(Long,LocalDate)",
+                ServiceMethodKey.of(signature(ReportService.class, ReportService.class.getMethod("total", Long.class, LocalDate.class))));
+        assertEquals("ReportService.total(Long)",
+                ServiceMethodKey.of(signature(ReportService.class, ReportService.class.getMethod("total", Long.class))));
+        assertEquals("BillingService.total(Long)",
+                ServiceMethodKey.of(signature(BillingService.class, BillingService.class.getMethod("total", Long.class))));
+    }
+
+    private static MethodSignature signature(Class<?> declaringType, Method method) {
+        MethodSignature signature = Mockito.mock(MethodSignature.class);
+        Mockito.when(signature.getMethod()).thenReturn(method);
+        Mockito.when(signature.getDeclaringType()).thenReturn(declaringType);
+        return signature;
+    }
+
+    static class ReportService {
+
+        public double total(Long employeeId, LocalDate date) {
+            return 0;
+        }
+
+        public double total(Long employeeId) {
+            return 0;
+        }
+    }
+
+    static class BillingService {
+
+        public double total(Long employeeId) {
+            return 0;
+        }
+    }
+}
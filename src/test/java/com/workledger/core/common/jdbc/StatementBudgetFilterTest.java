@@ -0,0 +1,60 @@
+package com.workledger.core.common.jdbc;
+
+import com.workledger.core.timesheet.controller.WorkEntryController;
+import com.workledger.core.timesheet.service.WorkEntryService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Page;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class StatementBudgetFilterTest {
+
+    /**
+     * A Callable handler's statements run on the async thread; they are recorded with the request once it is
+     * dispatched back.
+     */
+    @Test
+    void countStatementsOfCallableHandlers() throws Exception {
+        WorkEntryService workEntryService = Mockito.mock(WorkEntryService.class);
+        Mockito.when(workEntryService.getWorkEntriesByDateRange(ArgumentMatchers.any(), ArgumentMatchers.any(),
+                        ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenAnswer(invocation -> {
+                    StatementCounter.increment();
+                    StatementCounter.increment();
+                    StatementCounter.increment();
+                    return Page.empty();
+                });
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new WorkEntryController(workEntryService))
+                .addFilters(new StatementBudgetFilter(new SqlBudgetProperties(), meterRegistry))
+                .setCallableInterceptors(new StatementCountingInterceptor())
+                .build();
+
+        MvcResult result = mockMvc.perform(get("/api/v1/work-entries/date-range")
+                        .header("X-Employee-Id", 1L)
+                        .param("startDate", "2026-03-01")
+                        .param("endDate", "2026-03-31"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertNull(meterRegistry.find("workledger.sql.statements").summary());
+
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        DistributionSummary summary = meterRegistry.get("workledger.sql.statements")
+                .tag("scope", "request")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(3.0, summary.totalAmount());
+    }
+}
@@ -0,0 +1,149 @@
+package com.workledger.core.common.jdbc;
+
+import com.workledger.core.common.concurrent.CoalescingAspect;
+import com.workledger.core.timesheet.controller.WorkEntryController;
+import com.workledger.core.timesheet.service.WorkEntryService;
+import com.workledger.core.timesheet.service.impl.WorkEntryServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Drives a Callable endpoint through MockMvc's async support: a client that goes away while its query
+ * runs is simulated by firing onError on the request's async listeners.
+ */
+class StatementCancellingInterceptorTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @Test
+    void cancelStatementsWhenClientDisconnects() throws Exception {
+        WorkEntryService workEntryService = Mockito.mock(WorkEntryService.class);
+        Statement statement = Mockito.mock(Statement.class);
+        CountDownLatch running = new CountDownLatch(1);
+        Mockito.when(workEntryService.calculateTotalHours(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenAnswer(invocation -> runUntilCancelled(statement, running));
+        MockMvc mockMvc = mockMvc(workEntryService);
+
+        MvcResult result = mockMvc.perform(totalHours()).andExpect(request().asyncStarted()).andReturn();
+        assertTrue(running.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        disconnect(result);
+
+        Mockito.verify(statement, Mockito.timeout(TIMEOUT_SECONDS * 1000)).cancel();
+    }
+
+    /**
+     * The leader's cancellation is its own: a caller sharing its flight runs the call again and succeeds.
+     */
+    @Test
+    void rerunForFollowerWhenLeaderIsCancelled() throws Exception {
+        WorkEntryServiceImpl target = Mockito.mock(WorkEntryServiceImpl.class);
+        Statement statement = Mockito.mock(Statement.class);
+        CountDownLatch leaderRunning = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        Mockito.when(target.calculateTotalHours(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenAnswer(invocation -> executions.incrementAndGet() == 1
+                        ? runUntilCancelled(statement, leaderRunning)
+                        : 8.0);
+
+        AtomicInteger calls = new AtomicInteger();
+        AtomicReference<Thread> follower = new AtomicReference<>();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setInterfaces(WorkEntryService.class);
+        proxyFactory.addAspect(new CoalescingAspect(Duration.ZERO, new SimpleMeterRegistry()));
+        // Outermost: notes the thread of the second caller, which joins the leader's flight
+        proxyFactory.addAdvice(0, (MethodInterceptor) invocation -> {
+            if(calls.incrementAndGet() == 2) {
+                follower.set(Thread.currentThread());
+            }
+            return invocation.proceed();
+        });
+        MockMvc mockMvc = mockMvc(proxyFactory.getProxy());
+
+        MvcResult leader = mockMvc.perform(totalHours()).andExpect(request().asyncStarted()).andReturn();
+        assertTrue(leaderRunning.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        MvcResult waiting = mockMvc.perform(totalHours()).andExpect(request().asyncStarted()).andReturn();
+        awaitWaiting(follower);
+
+        disconnect(leader);
+
+        mockMvc.perform(asyncDispatch(waiting))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(8.0));
+        Mockito.verify(statement).cancel();
+        assertEquals(2, executions.get());
+    }
+
+    private static MockMvc mockMvc(WorkEntryService workEntryService) {
+        return MockMvcBuilders.standaloneSetup(new WorkEntryController(workEntryService))
+                .setCallableInterceptors(new StatementCancellingInterceptor())
+                .build();
+    }
+
+    private static RequestBuilder totalHours() {
+        return get("/api/v1/work-entries/hours/total")
+                .header("X-Employee-Id", 1L)
+                .param("startDate", "2026-03-01")
+                .param("endDate", "2026-03-31");
+    }
+
+    /**
+     * Registers a running statement with the request's scope, as StatementTimeoutListener does,
+     * and fails the way the cancelled query would.
+     */
+    private static Object runUntilCancelled(Statement statement, CountDownLatch running) throws Exception {
+        StatementScope scope = StatementScope.current();
+        assertNotNull(scope);
+        scope.begin(statement);
+        running.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while(!scope.isCancelled() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        scope.end(statement);
+        throw new QueryTimeoutException("canceling statement due to user request");
+    }
+
+    private static void disconnect(MvcResult result) throws IOException {
+        MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+        assertNotNull(asyncContext);
+        for(AsyncListener listener : asyncContext.getListeners()) {
+            listener.onError(new AsyncEvent(asyncContext, new IOException("Broken pipe")));
+        }
+    }
+
+    private static void awaitWaiting(AtomicReference<Thread> thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while(thread.get() == null || thread.get().getState() != Thread.State.WAITING) {
+            assertTrue(System.nanoTime() < deadline, "The second caller never joined the flight");
+            Thread.sleep(5);
+        }
+    }
+}
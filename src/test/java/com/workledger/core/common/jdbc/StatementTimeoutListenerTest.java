@@ -0,0 +1,101 @@
+package com.workledger.core.common.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementTimeoutListenerTest {
+
+    private final StatementTimeoutListener listener = new StatementTimeoutListener();
+
+    @AfterEach
+    void tearDown() {
+        StatementScope.restore(null);
+    }
+
+    @Test
+    void leaveStatementsOutsideScopeAlone() throws SQLException {
+        Statement statement = Mockito.mock(Statement.class);
+
+        listener.beforeQuery(execution(statement), List.of());
+
+        Mockito.verify(statement, Mockito.never()).setQueryTimeout(Mockito.anyInt());
+    }
+
+    @Test
+    void applyRemainingTimeAsQueryTimeout() throws SQLException {
+        StatementScope scope = new StatementScope();
+        StatementScope.bind(scope);
+        scope.narrow(Duration.ofMillis(4_500));
+        Statement statement = Mockito.mock(Statement.class);
+
+        listener.beforeQuery(execution(statement), List.of());
+
+        Mockito.verify(statement).setQueryTimeout(5);
+    }
+
+    @Test
+    void keepEarliestDeadlineWhenNested() throws SQLException {
+        StatementScope scope = new StatementScope();
+        StatementScope.bind(scope);
+        scope.narrow(Duration.ofSeconds(2));
+        long previous = scope.narrow(Duration.ofSeconds(30));
+        Statement statement = Mockito.mock(Statement.class);
+
+        listener.beforeQuery(execution(statement), List.of());
+
+        Mockito.verify(statement).setQueryTimeout(2);
+        scope.restoreDeadline(previous);
+    }
+
+    @Test
+    void cancelRunningStatements() throws SQLException {
+        StatementScope scope = new StatementScope();
+        StatementScope.bind(scope);
+        Statement running = Mockito.mock(Statement.class);
+        Statement finished = Mockito.mock(Statement.class);
+
+        listener.beforeQuery(execution(finished), List.of());
+        listener.afterQuery(execution(finished), List.of());
+        listener.beforeQuery(execution(running), List.of());
+        scope.cancel();
+
+        Mockito.verify(running).cancel();
+        Mockito.verify(finished, Mockito.never()).cancel();
+    }
+
+    @Test
+    void rejectStatementsAfterCancel() {
+        StatementScope scope = new StatementScope();
+        StatementScope.bind(scope);
+        scope.cancel();
+
+        assertThrows(QueryTimeoutException.class,
+                () -> listener.beforeQuery(execution(Mockito.mock(Statement.class)), List.of()));
+    }
+
+    @Test
+    void rejectStatementsPastDeadline() {
+        StatementScope scope = new StatementScope();
+        StatementScope.bind(scope);
+        scope.narrow(Duration.ZERO);
+
+        assertThrows(QueryTimeoutException.class,
+                () -> listener.beforeQuery(execution(Mockito.mock(Statement.class)), List.of()));
+    }
+
+    private static ExecutionInfo execution(Statement statement) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setStatement(statement);
+        return executionInfo;
+    }
+}
@@ -0,0 +1,58 @@
+package com.workledger.core.common.jdbc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkloadRoutingDataSourceTest {
+
+    private final Connection oltpConnection = Mockito.mock(Connection.class);
+    private final Connection reportingConnection = Mockito.mock(Connection.class);
+    private final Connection batchConnection = Mockito.mock(Connection.class);
+    private WorkloadRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = new WorkloadRoutingDataSource(Map.of(
+                Workload.OLTP, pool(oltpConnection),
+                Workload.REPORTING, pool(reportingConnection),
+                Workload.BATCH, pool(batchConnection)
+        ));
+        dataSource.afterPropertiesSet();
+    }
+
+    @Test
+    void useOltpPoolByDefault() throws SQLException {
+        assertSame(oltpConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void routeToPoolOfCurrentWorkload() throws SQLException {
+        Workload previous = WorkloadContext.set(Workload.REPORTING);
+        try {
+            assertSame(reportingConnection, dataSource.getConnection());
+
+            Workload nested = WorkloadContext.set(Workload.BATCH);
+            assertSame(batchConnection, dataSource.getConnection());
+            WorkloadContext.restore(nested);
+
+            assertSame(reportingConnection, dataSource.getConnection());
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+        assertSame(oltpConnection, dataSource.getConnection());
+    }
+
+    private static DataSource pool(Connection connection) throws SQLException {
+        DataSource pool = Mockito.mock(DataSource.class);
+        Mockito.when(pool.getConnection()).thenReturn(connection);
+        return pool;
+    }
+}
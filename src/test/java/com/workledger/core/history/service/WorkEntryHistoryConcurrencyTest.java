@@ -0,0 +1,114 @@
+package com.workledger.core.history.service;
+
+import com.workledger.core.history.dto.WorkEntryRevision;
+import com.workledger.core.history.repository.WorkEntryHistoryRepository;
+import com.workledger.core.timesheet.cache.WorkEntryCache;
+import com.workledger.core.timesheet.domain.ProgramType;
+import com.workledger.core.timesheet.dto.CreateWorkEntryRequest;
+import com.workledger.core.timesheet.dto.PatchWorkEntryRequest;
+import com.workledger.core.timesheet.mapper.WorkEntryMapperImpl;
+import com.workledger.core.timesheet.service.WorkEntryService;
+import com.workledger.core.timesheet.service.impl.WorkEntryServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Writers of the same entry, with real commits: each write gets its own history version.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Sql("/db/h2/work_entry_history.sql")
+@Import({
+        WorkEntryHistoryRecorder.class,
+        WorkEntryHistoryRepository.class,
+        WorkEntryHistoryConcurrencyTest.JsonConfig.class,
+        WorkEntryServiceImpl.class,
+        WorkEntryMapperImpl.class,
+        WorkEntryCache.class,
+        SimpleMeterRegistry.class
+})
+class WorkEntryHistoryConcurrencyTest {
+
+    private static final Long EMPLOYEE_ID = 1L;
+
+    @Autowired
+    private WorkEntryService service;
+
+    @Autowired
+    private WorkEntryHistoryRepository historyRepository;
+
+    @Test
+    void appendOneVersionPerWriteWhenWritersRaceOnOneEntry() throws Exception {
+        int writers = 2;
+        int iterations = 25;
+        Long id = service.createWorkEntry(EMPLOYEE_ID, new CreateWorkEntryRequest(
+                LocalDate.now().minusDays(1),
+                ProgramType.CLIENT,
+                "PROJ-1",
+                null,
+                "Test work",
+                0.25,
+                null
+        )).id();
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<?>> writes = new ArrayList<>();
+            for(int w = 0; w < writers; w++) {
+                int writer = w;
+                writes.add(executor.submit(() -> {
+                    start.await();
+                    for(int i = 0; i < iterations; i++) {
+                        double hours = (writer * iterations + i + 2) * 0.25;
+                        service.patchWorkEntry(EMPLOYEE_ID, id, new PatchWorkEntryRequest(null, null, null, null, null, hours));
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for(Future<?> write : writes) {
+                write.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        }
+
+        List<Integer> versions = historyRepository.findRevisions(EMPLOYEE_ID, id).stream()
+                .map(WorkEntryRevision::version)
+                .toList();
+        assertEquals(IntStream.rangeClosed(1, 1 + writers * iterations).boxed().toList(), versions);
+    }
+
+    @TestConfiguration
+    static class JsonConfig {
+
+        @Bean
+        JsonMapper jsonMapper() {
+            return JsonMapper.builder().build();
+        }
+    }
+}
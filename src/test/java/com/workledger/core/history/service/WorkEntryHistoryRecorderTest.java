@@ -0,0 +1,164 @@
+package com.workledger.core.history.service;
+
+import com.workledger.core.history.dto.WorkEntryRevision;
+import com.workledger.core.history.repository.WorkEntryHistoryRepository;
+import com.workledger.core.history.repository.WorkEntryHistoryRepository.NewRevision;
+import com.workledger.core.timesheet.domain.ProgramType;
+import com.workledger.core.timesheet.domain.WorkEntry;
+import com.workledger.core.timesheet.domain.WorkEntryStatus;
+import com.workledger.core.timesheet.event.WorkEntryChangeType;
+import com.workledger.core.timesheet.event.WorkEntryChangedEvent;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs without a transaction, so every change is written as soon as it is published.
+ */
+class WorkEntryHistoryRecorderTest {
+
+    private static final Long EMPLOYEE_ID = 7L;
+    private static final LocalDate WORK_DATE = LocalDate.of(2026, 3, 2);
+
+    private WorkEntryHistoryRepository repository;
+    private EntityManager entityManager;
+    private WorkEntryHistoryRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        repository = Mockito.mock(WorkEntryHistoryRepository.class);
+        entityManager = Mockito.mock(EntityManager.class);
+        recorder = new WorkEntryHistoryRecorder(repository, 3);
+        ReflectionTestUtils.setField(recorder, "entityManager", entityManager);
+    }
+
+    /**
+     * The change is found by comparing with the stored state, so it is recorded even when
+     * Hibernate has already flushed the entity and cleared its dirty attributes.
+     */
+    @Test
+    void recordOnlyTheFieldsThatDifferFromTheStoredState() {
+        Mockito.when(repository.findLatestRevisions(Set.of(1L))).thenReturn(List.of(
+                snapshot(1L, 1),
+                new WorkEntryRevision(1L, EMPLOYEE_ID, 2, false, "UPDATED", LocalDateTime.now(), Map.of("ticketId", "PROJ-2"))
+        ));
+        WorkEntry workEntry = workEntry(90);
+        workEntry.setTicketId("PROJ-2");
+        Mockito.when(entityManager.find(WorkEntry.class, 1L)).thenReturn(workEntry);
+
+        recorder.onWorkEntryChanged(WorkEntryChangedEvent.of(workEntry, WorkEntryChangeType.UPDATED));
+
+        NewRevision revision = appended();
+        assertEquals(3, revision.version());
+        assertEquals(1, revision.snapshotVersion());
+        assertEquals(Map.of("minutesSpent", 90), revision.fields());
+    }
+
+    @Test
+    void recordAVersionForEveryWrite() {
+        Mockito.when(repository.findLatestRevisions(Set.of(1L))).thenReturn(List.of(snapshot(1L, 1)));
+        WorkEntry workEntry = workEntry(240);
+        Mockito.when(entityManager.find(WorkEntry.class, 1L)).thenReturn(workEntry);
+
+        recorder.onWorkEntryChanged(WorkEntryChangedEvent.of(workEntry, WorkEntryChangeType.UPDATED));
+
+        NewRevision revision = appended();
+        assertEquals(2, revision.version());
+        assertEquals(Map.of(), revision.fields());
+    }
+
+    @Test
+    void storeASnapshotEverySnapshotInterval() {
+        Mockito.when(repository.findLatestRevisions(Set.of(1L))).thenReturn(List.of(
+                snapshot(1L, 1),
+                new WorkEntryRevision(1L, EMPLOYEE_ID, 2, false, "UPDATED", LocalDateTime.now(), Map.of("minutesSpent", 120)),
+                new WorkEntryRevision(1L, EMPLOYEE_ID, 3, false, "UPDATED", LocalDateTime.now(), Map.of("ticketId", "PROJ-2"))
+        ));
+        WorkEntry workEntry = workEntry(120);
+        workEntry.setTicketId("PROJ-2");
+        workEntry.setWorkEntryStatus(WorkEntryStatus.SUBMITTED);
+        Mockito.when(entityManager.find(WorkEntry.class, 1L)).thenReturn(workEntry);
+
+        recorder.onWorkEntryChanged(WorkEntryChangedEvent.of(workEntry, WorkEntryChangeType.SUBMITTED));
+
+        NewRevision revision = appended();
+        assertEquals(4, revision.version());
+        assertEquals(4, revision.snapshotVersion());
+        assertEquals(WorkEntryHistoryRecorder.TRACKED_FIELDS, List.copyOf(revision.fields().keySet()));
+        assertEquals("SUBMITTED", revision.fields().get("workEntryStatus"));
+    }
+
+    @Test
+    void recordDeletionUnderTheStoredOwner() {
+        Mockito.when(repository.findLatestRevisions(Set.of(1L))).thenReturn(List.of(snapshot(1L, 1)));
+
+        recorder.onWorkEntryChanged(new WorkEntryChangedEvent(1L, WorkEntryChangeType.DELETED, WorkEntryStatus.DRAFT, WORK_DATE, null));
+
+        NewRevision revision = appended();
+        assertEquals(EMPLOYEE_ID, revision.employeeId());
+        assertEquals(2, revision.version());
+        assertEquals(Map.of(), revision.fields());
+        Mockito.verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    void createWithoutReadingHistory() {
+        WorkEntry workEntry = workEntry(240);
+        Mockito.when(entityManager.find(WorkEntry.class, 1L)).thenReturn(workEntry);
+
+        recorder.onWorkEntryChanged(WorkEntryChangedEvent.of(workEntry, WorkEntryChangeType.CREATED));
+
+        NewRevision revision = appended();
+        assertEquals(1, revision.version());
+        assertEquals(1, revision.snapshotVersion());
+        assertEquals(240, revision.fields().get("minutesSpent"));
+        Mockito.verify(repository, Mockito.never()).findLatestRevisions(Mockito.any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private NewRevision appended() {
+        ArgumentCaptor<List<NewRevision>> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(repository).appendAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        return captor.getValue().getFirst();
+    }
+
+    private static WorkEntryRevision snapshot(Long id, int version) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("employeeId", EMPLOYEE_ID.intValue());
+        fields.put("workDate", WORK_DATE.toString());
+        fields.put("programType", "INTERNAL");
+        fields.put("programReference", "PROJ");
+        fields.put("ticketId", "PROJ-1");
+        fields.put("description", "Work");
+        fields.put("minutesSpent", 240);
+        fields.put("workEntryStatus", "DRAFT");
+        return new WorkEntryRevision(id, EMPLOYEE_ID, version, true, "CREATED", LocalDateTime.now(), fields);
+    }
+
+    private static WorkEntry workEntry(int minutes) {
+        WorkEntry workEntry = new WorkEntry();
+        workEntry.setId(1L);
+        workEntry.setEmployeeId(EMPLOYEE_ID);
+        workEntry.setWorkDate(WORK_DATE);
+        workEntry.setProgramType(ProgramType.INTERNAL);
+        workEntry.setProgramReference("PROJ");
+        workEntry.setTicketId("PROJ-1");
+        workEntry.setDescription("Work");
+        workEntry.setMinutesSpent(minutes);
+        workEntry.setWorkEntryStatus(WorkEntryStatus.DRAFT);
+        return workEntry;
+    }
+}
@@ -0,0 +1,113 @@
+package com.workledger.core.history.service;
+
+import com.workledger.core.common.exception.BusinessValidationException;
+import com.workledger.core.common.exception.ResourceNotFoundException;
+import com.workledger.core.history.dto.WorkEntryAsOf;
+import com.workledger.core.history.dto.WorkEntryRevision;
+import com.workledger.core.history.repository.WorkEntryHistoryRepository;
+import com.workledger.core.history.service.impl.WorkEntryHistoryServiceImpl;
+import com.workledger.core.timesheet.domain.WorkEntryStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkEntryHistoryServiceTest {
+
+    private static final Long EMPLOYEE_ID = 7L;
+    private static final LocalDateTime AS_OF = LocalDateTime.of(2026, 3, 31, 18, 0);
+
+    private WorkEntryHistoryRepository repository;
+    private WorkEntryHistoryServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        repository = Mockito.mock(WorkEntryHistoryRepository.class);
+        service = new WorkEntryHistoryServiceImpl(repository);
+    }
+
+    @Test
+    void rebuildEntryFromSnapshotAndDeltas() {
+        Mockito.when(repository.findRevisionsAsOf(EMPLOYEE_ID, 1L, AS_OF)).thenReturn(List.of(
+                snapshot(1L, 21, "2026-03-02", 240, "DRAFT"),
+                delta(1L, 22, 21, "UPDATED", Map.of("minutesSpent", 300, "description", "Reviewed PR")),
+                delta(1L, 23, 21, "SUBMITTED", Map.of("workEntryStatus", "SUBMITTED"))
+        ));
+
+        WorkEntryAsOf entry = service.getWorkEntryAsOf(EMPLOYEE_ID, 1L, AS_OF);
+
+        assertEquals(LocalDate.of(2026, 3, 2), entry.workDate());
+        assertEquals(5.0, entry.hoursSpent());
+        assertEquals("Reviewed PR", entry.description());
+        assertEquals(WorkEntryStatus.SUBMITTED, entry.workEntryStatus());
+        assertEquals("PROJ", entry.programReference());
+        assertEquals(23, entry.version());
+        assertFalse(entry.deleted());
+    }
+
+    @Test
+    void deltaCanClearField() {
+        Map<String, Object> cleared = new LinkedHashMap<>();
+        cleared.put("ticketId", null);
+        Mockito.when(repository.findRevisionsAsOf(EMPLOYEE_ID, 1L, AS_OF)).thenReturn(List.of(
+                snapshot(1L, 1, "2026-03-02", 240, "DRAFT"),
+                delta(1L, 2, 1, "UPDATED", cleared)
+        ));
+
+        assertNull(service.getWorkEntryAsOf(EMPLOYEE_ID, 1L, AS_OF).ticketId());
+    }
+
+    @Test
+    void rejectEntryThatDidNotExistYet() {
+        Mockito.when(repository.findRevisionsAsOf(EMPLOYEE_ID, 1L, AS_OF)).thenReturn(List.of());
+
+        assertThrows(ResourceNotFoundException.class, () -> service.getWorkEntryAsOf(EMPLOYEE_ID, 1L, AS_OF));
+    }
+
+    @Test
+    void sumHoursAsOfFromTheEntriesInRange() {
+        LocalDate startDate = LocalDate.of(2026, 3, 1);
+        LocalDate endDate = LocalDate.of(2026, 3, 31);
+        // Deleted and out of range entries are filtered by the query
+        Mockito.when(repository.findLiveRevisionsAsOf(EMPLOYEE_ID, startDate, endDate, AS_OF)).thenReturn(List.of(
+                snapshot(1L, 1, "2026-03-02", 240, "DRAFT"),
+                delta(1L, 2, 1, "UPDATED", Map.of("minutesSpent", 90)),
+                snapshot(4L, 1, "2026-03-04", 30, "LOCKED")
+        ));
+
+        Double total = service.calculateTotalHoursAsOf(EMPLOYEE_ID, startDate, endDate, AS_OF);
+
+        assertEquals(2.0, total);
+        Mockito.verify(repository, Mockito.never()).findRevisionsAsOf(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void rejectInvertedDateRange() {
+        assertThrows(BusinessValidationException.class, () -> service.calculateTotalHoursAsOf(
+                EMPLOYEE_ID, LocalDate.of(2026, 3, 31), LocalDate.of(2026, 3, 1), AS_OF));
+    }
+
+    private WorkEntryRevision snapshot(Long id, int version, String workDate, int minutes, String status) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("employeeId", EMPLOYEE_ID);
+        fields.put("workDate", workDate);
+        fields.put("programType", "INTERNAL");
+        fields.put("programReference", "PROJ");
+        fields.put("ticketId", "PROJ-1");
+        fields.put("description", "Work");
+        fields.put("minutesSpent", minutes);
+        fields.put("workEntryStatus", status);
+        return new WorkEntryRevision(id, EMPLOYEE_ID, version, true, "CREATED", AS_OF.minusDays(1), fields);
+    }
+
+    private WorkEntryRevision delta(Long id, int version, int snapshotVersion, String changeType, Map<String, Object> fields) {
+        return new WorkEntryRevision(id, EMPLOYEE_ID, version, version == snapshotVersion, changeType, AS_OF.minusHours(1), fields);
+    }
+}
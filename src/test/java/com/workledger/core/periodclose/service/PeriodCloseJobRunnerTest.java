@@ -0,0 +1,85 @@
+package com.workledger.core.periodclose.service;
+
+import com.workledger.core.common.jdbc.ConnectionPoolThrottle;
+import com.workledger.core.periodclose.domain.PeriodCloseJob;
+import com.workledger.core.periodclose.domain.PeriodCloseStatus;
+import com.workledger.core.periodclose.repository.PeriodCloseJobRepository;
+import com.workledger.core.timesheet.service.WorkEntryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PeriodCloseJobRunnerTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END = LocalDate.of(2025, 1, 31);
+
+    private PeriodCloseJobRepository jobRepository;
+    private WorkEntryService workEntryService;
+    private PeriodCloseJobRunner runner;
+    private PeriodCloseJob job;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        jobRepository = Mockito.mock(PeriodCloseJobRepository.class);
+        workEntryService = Mockito.mock(WorkEntryService.class);
+        ConnectionPoolThrottle throttle = Mockito.mock(ConnectionPoolThrottle.class);
+        Mockito.when(throttle.awaitCapacity(ArgumentMatchers.any(), ArgumentMatchers.anyInt(), ArgumentMatchers.any()))
+                .thenReturn(Duration.ZERO);
+
+        PeriodCloseProperties properties = new PeriodCloseProperties();
+        properties.setChunkSize(2);
+        properties.setChunkPause(Duration.ZERO);
+
+        runner = new PeriodCloseJobRunner(
+                jobRepository, workEntryService, throttle, properties, Mockito.mock(PlatformTransactionManager.class));
+
+        job = PeriodCloseJob.create(START, END, 5);
+        job.setId(1L);
+        Mockito.when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+    }
+
+    @AfterEach
+    void tearDown() {
+        runner.shutdown();
+    }
+
+    @Test
+    void lockChunksUntilShortChunk() {
+        Mockito.when(workEntryService.lockSubmittedWorkEntries(START, END, 0L, 2)).thenReturn(List.of(10L, 11L));
+        Mockito.when(workEntryService.lockSubmittedWorkEntries(START, END, 11L, 2)).thenReturn(List.of(12L, 13L));
+        Mockito.when(workEntryService.lockSubmittedWorkEntries(START, END, 13L, 2)).thenReturn(List.of(14L));
+
+        runner.run(1L);
+
+        assertEquals(PeriodCloseStatus.COMPLETED, job.getStatus());
+        assertEquals(5, job.getProcessedEntries());
+        assertEquals(14L, job.getLastProcessedId());
+        assertNotNull(job.getFinishedAt());
+        assertFalse(runner.isRunning(1L));
+    }
+
+    @Test
+    void keepCheckpointWhenChunkFails() {
+        Mockito.when(workEntryService.lockSubmittedWorkEntries(START, END, 0L, 2)).thenReturn(List.of(10L, 11L));
+        Mockito.when(workEntryService.lockSubmittedWorkEntries(START, END, 11L, 2))
+                .thenThrow(new IllegalStateException("connection reset"));
+
+        runner.run(1L);
+
+        assertEquals(PeriodCloseStatus.FAILED, job.getStatus());
+        assertEquals("connection reset", job.getErrorMessage());
+        assertEquals(11L, job.getLastProcessedId());
+        assertEquals(2, job.getProcessedEntries());
+    }
+}
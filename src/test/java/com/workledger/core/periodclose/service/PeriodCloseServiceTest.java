@@ -0,0 +1,64 @@
+package com.workledger.core.periodclose.service;
+
+import com.workledger.core.common.exception.BusinessValidationException;
+import com.workledger.core.periodclose.domain.PeriodCloseJob;
+import com.workledger.core.periodclose.domain.PeriodCloseStatus;
+import com.workledger.core.periodclose.dto.StartPeriodCloseRequest;
+import com.workledger.core.periodclose.repository.PeriodCloseJobRepository;
+import com.workledger.core.periodclose.service.impl.PeriodCloseServiceImpl;
+import com.workledger.core.timesheet.repository.WorkEntryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PeriodCloseServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END = LocalDate.of(2025, 1, 31);
+
+    private PeriodCloseJobRepository jobRepository;
+    private PeriodCloseJobRunner jobRunner;
+    private PeriodCloseServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = Mockito.mock(PeriodCloseJobRepository.class);
+        jobRunner = Mockito.mock(PeriodCloseJobRunner.class);
+        service = new PeriodCloseServiceImpl(jobRepository, Mockito.mock(WorkEntryRepository.class), jobRunner);
+    }
+
+    /**
+     * Both requests passed the existence check; the unique index on active jobs rejects the second insert.
+     */
+    @Test
+    void rejectConcurrentStartThroughTheActiveJobIndex() {
+        Mockito.when(jobRepository.saveAndFlush(ArgumentMatchers.any()))
+                .thenThrow(new DataIntegrityViolationException("uq_period_close_jobs_active"));
+
+        assertThrows(BusinessValidationException.class,
+                () -> service.startPeriodClose(new StartPeriodCloseRequest(START, END)));
+        Mockito.verifyNoInteractions(jobRunner);
+    }
+
+    @Test
+    void reopenFailedJobBeforeResuming() {
+        PeriodCloseJob job = PeriodCloseJob.create(START, END, 5);
+        job.setId(1L);
+        job.fail("connection reset");
+        Mockito.when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        Mockito.when(jobRepository.saveAndFlush(job)).thenReturn(job);
+
+        service.resumePeriodClose(1L);
+
+        assertEquals(PeriodCloseStatus.PENDING, job.getStatus());
+        Mockito.verify(jobRepository).saveAndFlush(job);
+        Mockito.verify(jobRunner).submit(1L);
+    }
+}
@@ -0,0 +1,143 @@
+package com.workledger.core.timesheet.cache;
+
+import com.workledger.core.timesheet.domain.ProgramType;
+import com.workledger.core.timesheet.domain.WorkEntryStatus;
+import com.workledger.core.timesheet.dto.WorkEntryResponse;
+import com.workledger.core.timesheet.event.WorkEntryChangeType;
+import com.workledger.core.timesheet.event.WorkEntryChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkEntryCacheTest {
+
+    private static final LocalDate WORK_DATE = LocalDate.now().minusDays(1);
+
+    private WorkEntryCache cache;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new WorkEntryCache(1000, Duration.ofMinutes(5), meterRegistry);
+    }
+
+    @Test
+    void serveRepeatedLookupsFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for(int i = 0; i < 5; i++) {
+            cache.get(1L, id -> {
+                loads.incrementAndGet();
+                return response(id, WorkEntryStatus.LOCKED, 8.0);
+            });
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(0.8, meterRegistry.get("cache.hit.ratio").gauge().value(), 0.0001);
+    }
+
+    @Test
+    void evictEntryOnChangeEvent() {
+        cache.get(1L, id -> response(id, WorkEntryStatus.DRAFT, 4.0));
+
+        cache.onWorkEntryChanged(new WorkEntryChangedEvent(
+                1L, WorkEntryChangeType.UPDATED, WorkEntryStatus.DRAFT, WORK_DATE, null));
+
+        WorkEntryResponse reloaded = cache.get(1L, id -> response(id, WorkEntryStatus.DRAFT, 6.0));
+        assertEquals(6.0, reloaded.hoursSpent());
+    }
+
+    /**
+     * Writers bump a version in the backing store and evict, as the service does after commit.
+     * Any read that starts after an eviction returned must see at least that version.
+     */
+    @Test
+    void neverServeValuesOlderThanTheLastEvictionUnderConcurrentUpdates() throws Exception {
+        int entries = 8;
+        int writers = 4;
+        int readers = 8;
+        int iterations = 2_000;
+
+        Map<Long, AtomicInteger> store = new ConcurrentHashMap<>();
+        for(long id = 0; id < entries; id++) {
+            store.put(id, new AtomicInteger());
+        }
+
+        List<String> violations = new CopyOnWriteArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(writers + readers);
+
+        for(int w = 0; w < writers; w++) {
+            executor.submit(() -> {
+                start.await();
+                for(int i = 0; i < iterations; i++) {
+                    long id = i % entries;
+                    int written = store.get(id).incrementAndGet();
+                    cache.evict(id);
+
+                    int seen = version(cache.get(id, key -> response(key, WorkEntryStatus.DRAFT, store.get(key).get())));
+                    if(seen < written) {
+                        violations.add("entry " + id + " saw " + seen + " after writing " + written);
+                    }
+                }
+                return null;
+            });
+        }
+        for(int r = 0; r < readers; r++) {
+            executor.submit(() -> {
+                start.await();
+                for(int i = 0; i < iterations; i++) {
+                    long id = i % entries;
+                    cache.get(id, key -> response(key, WorkEntryStatus.DRAFT, store.get(key).get()));
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertTrue(violations.isEmpty(), () -> String.join("\n", violations));
+        for(long id = 0; id < entries; id++) {
+            long key = id;
+            int cached = version(cache.get(key, k -> response(k, WorkEntryStatus.DRAFT, store.get(k).get())));
+            assertEquals(store.get(key).get(), cached);
+        }
+    }
+
+    private static int version(WorkEntryResponse response) {
+        return response.hoursSpent().intValue();
+    }
+
+    private static WorkEntryResponse response(Long id, WorkEntryStatus status, double hoursSpent) {
+        return new WorkEntryResponse(
+                id,
+                1L,
+                WORK_DATE,
+                ProgramType.CLIENT,
+                "PROJ-1",
+                null,
+                null,
+                hoursSpent,
+                status,
+                null,
+                null
+        );
+    }
+}
@@ -1,6 +1,8 @@
 package com.workledger.core.timesheet.controller;
 
 import com.workledger.core.common.dto.ApiResponse;
+import com.workledger.core.common.exception.BusinessValidationException;
+import com.workledger.core.common.exception.GlobalExceptionHandler;
 import com.workledger.core.timesheet.domain.ProgramType;
 import com.workledger.core.timesheet.domain.WorkEntryStatus;
 import com.workledger.core.timesheet.dto.CreateWorkEntryRequest;
@@ -16,6 +18,7 @@ import org.springframework.test.web.servlet.client.RestTestClient;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -43,6 +46,7 @@ class WorkEntryControllerTest {
         );
 
         WorkEntryResponse response = new WorkEntryResponse(
+                1L,
                 1L,
                 request.workDate(),
                 request.programType(),
@@ -55,10 +59,11 @@ class WorkEntryControllerTest {
                 LocalDateTime.now()
         );
 
-        Mockito.when(workEntryService.createWorkEntry(request)).thenReturn(response);
+        Mockito.when(workEntryService.createWorkEntry(1L, request)).thenReturn(response);
 
         client.post()
                 .uri("/api/v1/work-entries")
+                .header("X-Employee-Id", "1")
                 .body(request)
                 .exchange()
                 .expectStatus().isCreated()
@@ -72,6 +77,7 @@ class WorkEntryControllerTest {
     @Test
     void getAllWorkEntries() {
         WorkEntrySummary summary1 = new WorkEntrySummary(
+                1L,
                 1L,
                 LocalDate.now().minusDays(1),
                 ProgramType.CLIENT,
@@ -82,6 +88,7 @@ class WorkEntryControllerTest {
 
         WorkEntrySummary summary2 = new WorkEntrySummary(
                 2L,
+                1L,
                 LocalDate.now().minusDays(2),
                 ProgramType.INTERNAL,
                 "PROJ-2",
@@ -95,7 +102,7 @@ class WorkEntryControllerTest {
                 2
         );
 
-        Mockito.when(workEntryService.getAllWorkEntries(Mockito.any(Pageable.class))).thenReturn(page);
+        Mockito.when(workEntryService.getAllWorkEntries(Mockito.eq(1L), Mockito.any(Pageable.class))).thenReturn(page);
 
         client.get()
                 .uri(uriBuilder -> uriBuilder
@@ -105,6 +112,7 @@ class WorkEntryControllerTest {
                         .queryParam("sortBy", "woorkDate")
                         .queryParam("direction", "DESC")
                         .build())
+                .header("X-Employee-Id", "1")
                 .exchange()
                 .expectStatus().isOk()
                 .expectBody(ApiResponse.class)
@@ -116,6 +124,61 @@ class WorkEntryControllerTest {
         Mockito.verify(workEntryService).getAllWorkEntries(Mockito.any(Pageable.class));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAllWorkEntriesColumnar() {
+        WorkEntrySummary summary1 = new WorkEntrySummary(
+                1L,
+                1L,
+                LocalDate.now().minusDays(1),
+                ProgramType.CLIENT,
+                "PROJ-1",
+                8.0,
+                WorkEntryStatus.SUBMITTED
+        );
+
+        WorkEntrySummary summary2 = new WorkEntrySummary(
+                2L,
+                1L,
+                LocalDate.now().minusDays(2),
+                ProgramType.CLIENT,
+                "PROJ-1",
+                6.5,
+                WorkEntryStatus.SUBMITTED
+        );
+
+        Page<WorkEntrySummary> page = new PageImpl<>(
+                List.of(summary1, summary2),
+                PageRequest.of(0, 2, Sort.Direction.DESC, "workDate"),
+                2
+        );
+
+        Mockito.when(workEntryService.getAllWorkEntries(Mockito.eq(1L), Mockito.any(Pageable.class))).thenReturn(page);
+
+        client.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/work-entries")
+                        .queryParam("format", "columnar")
+                        .build())
+                .header("X-Employee-Id", "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ApiResponse.class)
+                .value(apiResponse -> {
+                    assertNotNull(apiResponse);
+                    assertTrue(apiResponse.isSuccess());
+
+                    Map<String, Object> data = (Map<String, Object>) apiResponse.getData();
+                    Map<String, Object> columns = (Map<String, Object>) data.get("columns");
+                    Map<String, Object> programType = (Map<String, Object>) columns.get("programType");
+
+                    assertEquals(List.of(1, 2), columns.get("id"));
+                    assertEquals(List.of("CLIENT"), programType.get("values"));
+                    assertEquals(List.of(0, 0), programType.get("codes"));
+                    assertEquals(2, data.get("totalElements"));
+                });
+    }
+
     @Test
     void returnBadRequestForInvalidInput() {
         CreateWorkEntryRequest invalidRequest = new CreateWorkEntryRequest(
@@ -130,8 +193,25 @@ class WorkEntryControllerTest {
 
         client.post()
                 .uri("/api/v1/work-entries")
+                .header("X-Employee-Id", "1")
                 .body(invalidRequest)
                 .exchange()
                 .expectStatus().isBadRequest();
     }
-}
\ No newline at end of file
+
+    @Test
+    void returnBadRequestForTamperedSearchCursor() {
+        Mockito.when(workEntryService.searchWorkEntries(
+                        Mockito.eq("migration"), Mockito.any(), Mockito.eq("tampered"), Mockito.anyInt()))
+                .thenThrow(new BusinessValidationException("Invalid cursor"));
+        RestTestClient clientWithAdvice = RestTestClient.bindToController(new WorkEntryController(workEntryService))
+                .controllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        clientWithAdvice.get()
+                .uri("/api/v1/work-entries/search?q=migration&cursor=tampered")
+                .header("X-Employee-Id", "1")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}
@@ -0,0 +1,41 @@
+package com.workledger.core.timesheet.dto;
+
+import com.workledger.core.common.exception.BusinessValidationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkEntrySearchCursorTest {
+
+    @Test
+    void decodeWhatWasEncoded() {
+        WorkEntrySearchCursor cursor = new WorkEntrySearchCursor(0.0123456789, 42L);
+
+        assertEquals(cursor, WorkEntrySearchCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void treatMissingCursorAsFirstPage() {
+        assertNull(WorkEntrySearchCursor.decode(null));
+        assertNull(WorkEntrySearchCursor.decode(" "));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "bm8tc2VwYXJhdG9y", "%%%", "YWJj"})
+    void rejectMalformedCursor(String cursor) {
+        assertThrows(BusinessValidationException.class, () -> WorkEntrySearchCursor.decode(cursor));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0.5:abc", "abc:7", "NaN:7", "Infinity:7", "-0.5:7", "0.5:0", "0.5:-7", "0.5:", ":7"})
+    void rejectTamperedCursor(String raw) {
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(BusinessValidationException.class, () -> WorkEntrySearchCursor.decode(cursor));
+    }
+}
@@ -0,0 +1,85 @@
+package com.workledger.core.timesheet.repository;
+
+import com.workledger.core.timesheet.domain.ProgramType;
+import com.workledger.core.timesheet.domain.WorkEntry;
+import com.workledger.core.timesheet.domain.WorkEntryStatus;
+import com.workledger.core.timesheet.dto.FacetCount;
+import com.workledger.core.timesheet.dto.WorkEntryFacets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the GROUPING SETS facet query against known data: every grouping set (masks 0b011, 0b101,
+ * 0b110 and the grand total) and the reference limit applied in SQL.
+ * Runs against a local PostgreSQL 16+ only, e.g.
+ * {@code WORKLEDGER_TEST_POSTGRES_URL=jdbc:postgresql://localhost:5432/workledger_test ./gradlew test}
+ */
+@DataJpaTest(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=${WORKLEDGER_TEST_POSTGRES_URL}",
+        "spring.datasource.username=${WORKLEDGER_TEST_POSTGRES_USER:postgres}",
+        "spring.datasource.password=${WORKLEDGER_TEST_POSTGRES_PASSWORD:root}"
+})
+@EnabledIfEnvironmentVariable(named = "WORKLEDGER_TEST_POSTGRES_URL", matches = ".+")
+class WorkEntryFacetsQueryTest {
+
+    // Not used by other data, so the counts below are exact
+    private static final Long EMPLOYEE_ID = 424_242L;
+    private static final LocalDate START = LocalDate.of(2026, 3, 2);
+    private static final LocalDate END = LocalDate.of(2026, 3, 8);
+
+    @Autowired
+    private WorkEntryRepository repository;
+
+    @Test
+    void countEveryGroupingSetAndLimitReferences() {
+        repository.saveAllAndFlush(List.of(
+                createEntry(EMPLOYEE_ID, START, WorkEntryStatus.DRAFT, ProgramType.INTERNAL, "OPS", 1.0),
+                createEntry(EMPLOYEE_ID, START.plusDays(1), WorkEntryStatus.DRAFT, ProgramType.INTERNAL, "OPS", 2.0),
+                createEntry(EMPLOYEE_ID, START, WorkEntryStatus.SUBMITTED, ProgramType.CLIENT, "ACME", 3.0),
+                createEntry(EMPLOYEE_ID, START.plusDays(2), WorkEntryStatus.SUBMITTED, ProgramType.CLIENT, "ACME", 1.0),
+                createEntry(EMPLOYEE_ID, END, WorkEntryStatus.SUBMITTED, ProgramType.CLIENT, "ACME", 1.0),
+                createEntry(EMPLOYEE_ID, END, WorkEntryStatus.LOCKED, ProgramType.INTERNAL, "TRAINING", 0.5),
+                // Outside the range or owned by someone else
+                createEntry(EMPLOYEE_ID, END.plusDays(1), WorkEntryStatus.DRAFT, ProgramType.INTERNAL, "OPS", 8.0),
+                createEntry(EMPLOYEE_ID + 1, START, WorkEntryStatus.DRAFT, ProgramType.INTERNAL, "OPS", 8.0)
+        ));
+
+        WorkEntryFacets facets = repository.findFacets(EMPLOYEE_ID, START, END, 2);
+
+        assertEquals(new FacetCount(null, 6, 8.5), facets.total());
+        assertEquals(List.of(
+                new FacetCount("SUBMITTED", 3, 5.0),
+                new FacetCount("DRAFT", 2, 3.0),
+                new FacetCount("LOCKED", 1, 0.5)
+        ), facets.statuses());
+        // Equal counts are ordered by value
+        assertEquals(List.of(
+                new FacetCount("CLIENT", 3, 5.0),
+                new FacetCount("INTERNAL", 3, 3.5)
+        ), facets.programTypes());
+        assertEquals(List.of(
+                new FacetCount("ACME", 3, 5.0),
+                new FacetCount("OPS", 2, 3.0)
+        ), facets.programReferences());
+    }
+
+    private WorkEntry createEntry(Long employeeId, LocalDate date, WorkEntryStatus status,
+                                  ProgramType programType, String programReference, Double hours) {
+        WorkEntry workEntry = new WorkEntry();
+        workEntry.setEmployeeId(employeeId);
+        workEntry.setWorkDate(date);
+        workEntry.setProgramType(programType);
+        workEntry.setProgramReference(programReference);
+        workEntry.setHoursSpent(hours);
+        workEntry.setWorkEntryStatus(status);
+        return workEntry;
+    }
+}
@@ -0,0 +1,121 @@
+package com.workledger.core.timesheet.repository;
+
+import com.workledger.core.timesheet.domain.ProgramType;
+import com.workledger.core.timesheet.domain.WorkEntryStatus;
+import com.workledger.core.timesheet.dto.WorkEntryFilter;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that every combination of WorkEntrySpecifications filters is planned as an index scan.
+ * Runs against a local PostgreSQL 16+ only, e.g.
+ * {@code WORKLEDGER_TEST_POSTGRES_URL=jdbc:postgresql://localhost:5432/workledger_test ./gradlew test}
+ */
+@DataJpaTest(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=${WORKLEDGER_TEST_POSTGRES_URL}",
+        "spring.datasource.username=${WORKLEDGER_TEST_POSTGRES_USER:postgres}",
+        "spring.datasource.password=${WORKLEDGER_TEST_POSTGRES_PASSWORD:root}",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.workledger.core.timesheet.repository.WorkEntryQueryPlanTest$CapturingStatementInspector"
+})
+@EnabledIfEnvironmentVariable(named = "WORKLEDGER_TEST_POSTGRES_URL", matches = ".+")
+class WorkEntryQueryPlanTest {
+
+    private static final int FILTER_COUNT = 6;
+
+    @Autowired
+    private WorkEntryRepository repository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void everyFilterCombinationUsesAnIndex() throws Exception {
+        for(int mask = 0; mask < (1 << FILTER_COUNT); mask++) {
+            WorkEntryFilter filter = filterFor(mask);
+
+            CapturingStatementInspector.STATEMENTS.clear();
+            repository.findAll(WorkEntrySpecifications.matching(filter),
+                    PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "workDate")));
+
+            String plan = explain(pageQuery());
+            assertFalse(plan.contains("Seq Scan"), () -> "Sequential scan for " + filter + ":\n" + plan);
+        }
+    }
+
+    private WorkEntryFilter filterFor(int mask) {
+        return new WorkEntryFilter(
+                1L,
+                (mask & 1) != 0 ? LocalDate.now().minusDays(30) : null,
+                (mask & 2) != 0 ? LocalDate.now() : null,
+                (mask & 4) != 0 ? WorkEntryStatus.SUBMITTED : null,
+                (mask & 8) != 0 ? ProgramType.CLIENT : null,
+                (mask & 16) != 0 ? "ACME" : null,
+                (mask & 32) != 0 ? "PROJ-1" : null
+        );
+    }
+
+    private String pageQuery() {
+        return CapturingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> !sql.toLowerCase().contains("count("))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No page query was captured"));
+    }
+
+    /**
+     * Explains the generic plan of a captured statement, with sequential scans
+     * discouraged so that the tiny test table does not hide a missing index.
+     */
+    private String explain(String sql) throws Exception {
+        StringBuilder numbered = new StringBuilder();
+        int parameter = 0;
+        for(char c : sql.toCharArray()) {
+            if(c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+
+        StringBuilder plan = new StringBuilder();
+        try(Connection connection = dataSource.getConnection();
+            Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+            try(ResultSet rs = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + numbered)) {
+                while(rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+            } finally {
+                statement.execute("RESET enable_seqscan");
+            }
+        }
+        return plan.toString();
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -3,24 +3,38 @@ package com.workledger.core.timesheet.repository;
 import com.workledger.core.timesheet.domain.ProgramType;
 import com.workledger.core.timesheet.domain.WorkEntry;
 import com.workledger.core.timesheet.domain.WorkEntryStatus;
+import com.workledger.core.timesheet.dto.WorkEntryFilter;
+import com.workledger.core.timesheet.dto.WorkEntryResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
 class WorkEntryRepositoryTest {
 
+    private static final Long EMPLOYEE_ID = 7L;
+
     @Autowired
     private WorkEntryRepository repository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @BeforeEach
     void setUp() {
         repository.deleteAll();
@@ -49,14 +63,14 @@ class WorkEntryRepositoryTest {
         LocalDate startDate = LocalDate.now().minusDays(2);
         LocalDate endDate = LocalDate.now().minusDays(1);
 
-        Page<WorkEntry> page = repository.findByWorkDateBetween(startDate, endDate, PageRequest.of(0, 10));
+        Page<WorkEntry> page = repository.findByEmployeeIdAndWorkDateBetween(EMPLOYEE_ID, startDate, endDate, PageRequest.of(0, 10));
 
         assertEquals(2, page.getTotalElements());
     }
 
     @Test
     void findEntriesByStatus() {
-        Page<WorkEntry> page = repository.findByWorkEntryStatus(WorkEntryStatus.SUBMITTED, PageRequest.of(0, 10));
+        Page<WorkEntry> page = repository.findByEmployeeIdAndWorkEntryStatus(EMPLOYEE_ID, WorkEntryStatus.SUBMITTED, PageRequest.of(0, 10));
 
         assertEquals(2, page.getTotalElements());
     }
@@ -65,7 +79,7 @@ class WorkEntryRepositoryTest {
     void findEntriesByWorkDate() {
         LocalDate date = LocalDate.now().minusDays(1);
 
-        List<WorkEntry> entries = repository.findByWorkDate(date);
+        List<WorkEntry> entries = repository.findByEmployeeIdAndWorkDate(EMPLOYEE_ID, date);
 
         assertEquals(1, entries.size());
     }
@@ -75,16 +89,147 @@ class WorkEntryRepositoryTest {
         LocalDate startDate = LocalDate.now().minusDays(2);
         LocalDate endDate = LocalDate.now().minusDays(1);
 
-        Double totalHours = repository.sumHoursByDateRange(startDate, endDate);
+        Double totalHours = repository.sumHoursByDateRange(EMPLOYEE_ID, startDate, endDate);
 
         assertNotNull(totalHours);
         assertEquals(11.5, totalHours);
     }
 
+    @Test
+    void sumHoursExactlyOverFractionalEntries() {
+        LocalDate date = LocalDate.now().minusDays(10);
+        repository.save(createEntry(date, WorkEntryStatus.DRAFT, 0.1));
+        repository.save(createEntry(date, WorkEntryStatus.DRAFT, 0.2));
+
+        assertEquals(18L, repository.sumMinutesByDateRange(EMPLOYEE_ID, date, date));
+        assertEquals(0.3, repository.sumHoursByDateRange(EMPLOYEE_ID, date, date));
+    }
+
+    @Test
+    void findSelectedFieldsById() {
+        WorkEntry saved = repository.save(createEntry(
+                LocalDate.now().minusDays(3),
+                WorkEntryStatus.DRAFT,
+                2.5
+        ));
+
+        Map<String, Object> fields = repository.findFieldsById(EMPLOYEE_ID, saved.getId(), List.of("workDate", "hoursSpent"))
+                .orElseThrow();
+
+        assertEquals(List.of("workDate", "hoursSpent"), List.copyOf(fields.keySet()));
+        assertEquals(LocalDate.now().minusDays(3), fields.get("workDate"));
+        assertEquals(2.5, fields.get("hoursSpent"));
+    }
+
+    @Test
+    void findSelectedFieldsOfAllEntries() {
+        Page<Map<String, Object>> page = repository.findAllFields(
+                EMPLOYEE_ID,
+                List.of("id", "workEntryStatus"),
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "workDate"))
+        );
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(2, page.getContent().size());
+        assertEquals(WorkEntryStatus.SUBMITTED, page.getContent().get(0).get("workEntryStatus"));
+    }
+
+    @Test
+    void findEntriesMatchingCombinedFilter() {
+        WorkEntryFilter filter = new WorkEntryFilter(
+                EMPLOYEE_ID,
+                LocalDate.now().minusDays(3),
+                LocalDate.now(),
+                WorkEntryStatus.SUBMITTED,
+                ProgramType.INTERNAL,
+                "PROJ",
+                null
+        );
+
+        Page<WorkEntry> page = repository.findAll(WorkEntrySpecifications.matching(filter), PageRequest.of(0, 10));
+
+        assertEquals(1, page.getTotalElements());
+        assertEquals(7.5, page.getContent().get(0).getHoursSpent());
+    }
+
+    @Test
+    void findResponsesByIdsSkippingMissing() {
+        List<Long> ids = repository.findAll().stream().map(WorkEntry::getId).toList();
+        List<Long> requested = List.of(ids.get(0), ids.get(2), -1L);
+
+        List<WorkEntryResponse> responses = repository.findResponsesByIds(EMPLOYEE_ID, requested);
+
+        assertEquals(2, responses.size());
+        assertEquals(
+                Set.of(ids.get(0), ids.get(2)),
+                responses.stream().map(WorkEntryResponse::id).collect(Collectors.toSet())
+        );
+        assertTrue(responses.stream().allMatch(response -> response.hoursSpent() != null));
+    }
+
+    @Test
+    void scopeQueriesToEmployee() {
+        WorkEntry otherEmployeeEntry = createEntry(LocalDate.now().minusDays(1), WorkEntryStatus.SUBMITTED, 3.0);
+        otherEmployeeEntry.setEmployeeId(EMPLOYEE_ID + 1);
+        Long otherId = repository.save(otherEmployeeEntry).getId();
+
+        LocalDate date = LocalDate.now().minusDays(1);
+
+        assertEquals(1, repository.findByEmployeeIdAndWorkDate(EMPLOYEE_ID, date).size());
+        assertEquals(1, repository.findByEmployeeIdAndWorkDate(EMPLOYEE_ID + 1, date).size());
+        assertEquals(3, repository.findByEmployeeId(EMPLOYEE_ID, PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(3.0, repository.sumHoursByDateRange(EMPLOYEE_ID + 1, date, date));
+
+        assertTrue(repository.findByIdAndEmployeeId(otherId, EMPLOYEE_ID).isEmpty());
+        assertTrue(repository.findWithDescriptionByIdAndEmployeeId(otherId, EMPLOYEE_ID).isEmpty());
+        assertTrue(repository.findFieldsById(EMPLOYEE_ID, otherId, List.of("id")).isEmpty());
+        assertTrue(repository.findResponsesByIds(EMPLOYEE_ID, List.of(otherId)).isEmpty());
+        assertTrue(repository.findByIdAndEmployeeId(otherId, EMPLOYEE_ID + 1).isPresent());
+    }
+
+    @Test
+    void leaveDescriptionUnloadedInEqualsHashCodeAndToString() {
+        WorkEntry saved = createEntry(LocalDate.now().minusDays(3), WorkEntryStatus.DRAFT, 2.0);
+        saved.setDescription("Lazy description");
+        Long id = repository.saveAndFlush(saved).getId();
+        entityManager.clear();
+
+        WorkEntry workEntry = repository.findById(id).orElseThrow();
+        WorkEntry other = repository.findAll().stream()
+                .filter(entry -> !entry.getId().equals(id))
+                .findFirst()
+                .orElseThrow();
+
+        assertFalse(Hibernate.isPropertyInitialized(workEntry, "description"));
+        assertEquals(workEntry, workEntry);
+        assertNotEquals(workEntry, other);
+        assertEquals(workEntry.hashCode(), workEntry.hashCode());
+        assertFalse(workEntry.toString().contains("Lazy description"));
+        assertFalse(Hibernate.isPropertyInitialized(workEntry, "description"));
+
+        assertEquals("Lazy description", workEntry.getDescription());
+        assertTrue(Hibernate.isPropertyInitialized(workEntry, "description"));
+    }
+
+    @Test
+    void readDescriptionWithTheEntityForWrites() {
+        WorkEntry saved = createEntry(LocalDate.now().minusDays(3), WorkEntryStatus.DRAFT, 2.0);
+        saved.setDescription("Read with the entity");
+        Long id = repository.saveAndFlush(saved).getId();
+        entityManager.clear();
+
+        WorkEntryWithDescription loaded = repository.findWithDescriptionByIdAndEmployeeId(id, EMPLOYEE_ID).orElseThrow();
+
+        assertFalse(Hibernate.isPropertyInitialized(loaded.workEntry(), "description"));
+        assertEquals("Read with the entity", loaded.currentDescription());
+        assertTrue(entityManager.contains(loaded.workEntry()));
+    }
+
     private WorkEntry createEntry(
             LocalDate date, WorkEntryStatus status, Double hours
     ) {
         WorkEntry workEntry = new WorkEntry();
+        workEntry.setEmployeeId(EMPLOYEE_ID);
         workEntry.setWorkDate(date);
         workEntry.setProgramType(ProgramType.INTERNAL);
         workEntry.setProgramReference("PROJ");
@@ -0,0 +1,95 @@
+package com.workledger.core.timesheet.repository;
+
+import com.workledger.core.timesheet.domain.ProgramType;
+import com.workledger.core.timesheet.domain.WorkEntryStatus;
+import com.workledger.core.timesheet.dto.WorkEntryFilter;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkEntrySearchFilterClauseTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 3, 1);
+    private static final LocalDate END = LocalDate.of(2026, 3, 31);
+
+    @Test
+    void addNothingWithoutFilter() {
+        Map<String, Object> params = new HashMap<>();
+
+        assertEquals("", WorkEntryRepositoryCustomImpl.filterClause(null, params));
+        assertTrue(params.isEmpty());
+    }
+
+    @Test
+    void scopeToEmployeeOnly() {
+        Map<String, Object> params = new HashMap<>();
+        WorkEntryFilter filter = new WorkEntryFilter(1L, null, null, null, null, null, null);
+
+        assertEquals(" AND w.employee_id = :employeeId", WorkEntryRepositoryCustomImpl.filterClause(filter, params));
+        assertEquals(Map.of("employeeId", 1L), params);
+    }
+
+    @Test
+    void combineDateRangeWithStatus() {
+        Map<String, Object> params = new HashMap<>();
+        WorkEntryFilter filter = new WorkEntryFilter(1L, START, END, WorkEntryStatus.SUBMITTED, null, null, null);
+
+        assertEquals(" AND w.employee_id = :employeeId"
+                        + " AND w.work_date >= :startDate"
+                        + " AND w.work_date <= :endDate"
+                        + " AND w.work_entry_status = :workEntryStatus",
+                WorkEntryRepositoryCustomImpl.filterClause(filter, params));
+        assertEquals(Map.of(
+                "employeeId", 1L,
+                "startDate", START,
+                "endDate", END,
+                "workEntryStatus", "SUBMITTED"
+        ), params);
+    }
+
+    @Test
+    void applyOpenEndedDateRange() {
+        Map<String, Object> params = new HashMap<>();
+        WorkEntryFilter filter = new WorkEntryFilter(1L, null, END, null, null, null, null);
+
+        String clause = WorkEntryRepositoryCustomImpl.filterClause(filter, params);
+
+        assertTrue(clause.contains("w.work_date <= :endDate"), clause);
+        assertFalse(clause.contains(":startDate"), clause);
+        assertFalse(params.containsKey("startDate"));
+    }
+
+    @Test
+    void combineProgramAndTicketFilters() {
+        Map<String, Object> params = new HashMap<>();
+        WorkEntryFilter filter = new WorkEntryFilter(1L, null, null, null, ProgramType.CLIENT, "PROJ-1", "TICKET-1");
+
+        assertEquals(" AND w.employee_id = :employeeId"
+                        + " AND w.program_type = :programType"
+                        + " AND w.program_reference = :programReference"
+                        + " AND w.ticket_id = :ticketId",
+                WorkEntryRepositoryCustomImpl.filterClause(filter, params));
+        assertEquals(Map.of(
+                "employeeId", 1L,
+                "programType", "CLIENT",
+                "programReference", "PROJ-1",
+                "ticketId", "TICKET-1"
+        ), params);
+    }
+
+    @Test
+    void bindEveryParameterTheClauseReferences() {
+        Map<String, Object> params = new HashMap<>();
+        WorkEntryFilter filter = new WorkEntryFilter(
+                1L, START, END, WorkEntryStatus.LOCKED, ProgramType.INTERNAL, "OPS", "TICKET-9");
+
+        String clause = WorkEntryRepositoryCustomImpl.filterClause(filter, params);
+
+        assertEquals(7, params.size());
+        params.keySet().forEach(name -> assertTrue(clause.contains(":" + name), name));
+    }
+}
@@ -0,0 +1,187 @@
+package com.workledger.core.timesheet.service;
+
+import com.workledger.core.common.exception.InvalidStateException;
+import com.workledger.core.common.exception.ResourceNotFoundException;
+import com.workledger.core.common.jdbc.StatementCounter;
+import com.workledger.core.config.DataSourceProxyConfig;
+import com.workledger.core.timesheet.cache.WorkEntryCache;
+import com.workledger.core.timesheet.domain.ProgramType;
+import com.workledger.core.timesheet.domain.WorkEntryStatus;
+import com.workledger.core.timesheet.dto.CreateWorkEntryRequest;
+import com.workledger.core.timesheet.dto.PatchWorkEntryRequest;
+import com.workledger.core.timesheet.dto.UpdateWorkEntryRequest;
+import com.workledger.core.timesheet.dto.WorkEntryResponse;
+import com.workledger.core.timesheet.mapper.WorkEntryMapperImpl;
+import com.workledger.core.timesheet.repository.WorkEntryRepository;
+import com.workledger.core.timesheet.service.impl.WorkEntryServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the work entry cache through WorkEntryService, with real commits:
+ * every committed write must be visible to the next lookup.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        DataSourceProxyConfig.class,
+        WorkEntryServiceImpl.class,
+        WorkEntryMapperImpl.class,
+        WorkEntryCache.class,
+        SimpleMeterRegistry.class
+})
+class WorkEntryCacheConsistencyTest {
+
+    private static final Long EMPLOYEE_ID = 1L;
+
+    @Autowired
+    private WorkEntryService service;
+
+    @Autowired
+    private WorkEntryRepository repository;
+
+    @Autowired
+    private WorkEntryCache cache;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        cache.clear();
+    }
+
+    @Test
+    void serveLockedEntryWithoutStatements() {
+        WorkEntryResponse created = createEntry(4.0);
+        service.submitWorkEntry(EMPLOYEE_ID, created.id());
+        service.lockWorkEntry(EMPLOYEE_ID, created.id());
+
+        assertEquals(WorkEntryStatus.LOCKED, service.getWorkEntryById(EMPLOYEE_ID, created.id()).workEntryStatus());
+        assertEquals(0, StatementCounter.count(() -> {
+            for(int i = 0; i < 3; i++) {
+                service.getWorkEntryById(EMPLOYEE_ID, created.id());
+            }
+        }));
+
+        // A rejected write changes nothing, so the locked entry stays cached
+        assertThrows(InvalidStateException.class, () -> service.patchWorkEntry(EMPLOYEE_ID, created.id(), patchHours(6.0)));
+        assertEquals(0, StatementCounter.count(() -> service.getWorkEntryById(EMPLOYEE_ID, created.id())));
+        assertEquals(4.0, service.getWorkEntryById(EMPLOYEE_ID, created.id()).hoursSpent());
+    }
+
+    @Test
+    void seeEveryCommittedWriteOnTheNextLookup() {
+        WorkEntryResponse created = createEntry(4.0);
+        assertEquals(4.0, service.getWorkEntryById(EMPLOYEE_ID, created.id()).hoursSpent());
+
+        service.patchWorkEntry(EMPLOYEE_ID, created.id(), patchHours(6.0));
+        assertEquals(6.0, service.getWorkEntryById(EMPLOYEE_ID, created.id()).hoursSpent());
+
+        service.updateWorkEntry(EMPLOYEE_ID, created.id(), new UpdateWorkEntryRequest(
+                created.workDate(), ProgramType.INTERNAL, "OPS", null, "Updated work", 2.5, null));
+        WorkEntryResponse updated = service.getWorkEntryById(EMPLOYEE_ID, created.id());
+        assertEquals(ProgramType.INTERNAL, updated.programType());
+        assertEquals("Updated work", updated.description());
+
+        service.submitWorkEntry(EMPLOYEE_ID, created.id());
+        assertEquals(WorkEntryStatus.SUBMITTED, service.getWorkEntryById(EMPLOYEE_ID, created.id()).workEntryStatus());
+
+        service.deleteWorkEntry(EMPLOYEE_ID, created.id());
+        assertThrows(ResourceNotFoundException.class, () -> service.getWorkEntryById(EMPLOYEE_ID, created.id()));
+    }
+
+    /**
+     * Every writer owns one entry, so after its patch commits nothing but that patch may be read back,
+     * however many readers were filling the cache from the rows being written.
+     */
+    @Test
+    void neverServeStaleEntriesUnderConcurrentPatches() throws Exception {
+        int writers = 4;
+        int readers = 4;
+        int iterations = 100;
+
+        List<Long> ids = new ArrayList<>();
+        for(int i = 0; i < writers; i++) {
+            ids.add(createEntry(0.25).id());
+        }
+
+        List<String> violations = new CopyOnWriteArrayList<>();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(writers + readers);
+        try {
+            List<Future<?>> writes = new ArrayList<>();
+            for(Long id : ids) {
+                writes.add(executor.submit(() -> {
+                    start.await();
+                    for(int i = 0; i < iterations; i++) {
+                        double written = (i % 95 + 2) * 0.25;
+                        service.patchWorkEntry(EMPLOYEE_ID, id, patchHours(written));
+
+                        double seen = service.getWorkEntryById(EMPLOYEE_ID, id).hoursSpent();
+                        if(seen != written) {
+                            violations.add("entry " + id + " read " + seen + " after writing " + written);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for(int r = 0; r < readers; r++) {
+                executor.submit(() -> {
+                    start.await();
+                    while(writing.get()) {
+                        for(Long id : ids) {
+                            service.getWorkEntryById(EMPLOYEE_ID, id);
+                        }
+                    }
+                    return null;
+                });
+            }
+
+            start.countDown();
+            for(Future<?> write : writes) {
+                write.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            writing.set(false);
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        }
+
+        assertTrue(violations.isEmpty(), () -> String.join("\n", violations));
+    }
+
+    private WorkEntryResponse createEntry(double hoursSpent) {
+        return service.createWorkEntry(EMPLOYEE_ID, new CreateWorkEntryRequest(
+                LocalDate.now().minusDays(1),
+                ProgramType.CLIENT,
+                "PROJ-1",
+                null,
+                "Test work",
+                hoursSpent,
+                null
+        ));
+    }
+
+    private static PatchWorkEntryRequest patchHours(double hoursSpent) {
+        return new PatchWorkEntryRequest(null, null, null, null, null, hoursSpent);
+    }
+}
@@ -1,20 +1,34 @@
 package com.workledger.core.timesheet.service;
 
+import com.workledger.core.common.exception.BusinessValidationException;
 import com.workledger.core.common.exception.InvalidStateException;
 import com.workledger.core.common.exception.ResourceNotFoundException;
+import com.workledger.core.timesheet.cache.WorkEntryCache;
 import com.workledger.core.timesheet.domain.ProgramType;
 import com.workledger.core.timesheet.domain.WorkEntry;
 import com.workledger.core.timesheet.domain.WorkEntryStatus;
 import com.workledger.core.timesheet.dto.CreateWorkEntryRequest;
+import com.workledger.core.timesheet.dto.PatchWorkEntryRequest;
+import com.workledger.core.timesheet.dto.ProgramSubtotal;
+import com.workledger.core.timesheet.dto.TimesheetView;
+import com.workledger.core.timesheet.dto.UpdateWorkEntryRequest;
+import com.workledger.core.timesheet.dto.WorkEntryBatchResponse;
+import com.workledger.core.timesheet.dto.WorkEntryResponse;
 import com.workledger.core.timesheet.mapper.WorkEntryMapper;
 import com.workledger.core.timesheet.repository.WorkEntryRepository;
+import com.workledger.core.timesheet.repository.WorkEntryWithDescription;
 import com.workledger.core.timesheet.service.impl.WorkEntryServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -28,7 +42,12 @@ class WorkEntryServiceTest {
     void setUp() {
         repository = Mockito.mock(WorkEntryRepository.class);
         mapper = Mockito.mock(WorkEntryMapper.class);
-        service = new WorkEntryServiceImpl(repository, mapper);
+        service = new WorkEntryServiceImpl(
+                repository,
+                mapper,
+                new WorkEntryCache(100, Duration.ofMinutes(5), new SimpleMeterRegistry()),
+                Mockito.mock(ApplicationEventPublisher.class)
+        );
     }
 
     @Test
@@ -49,9 +68,10 @@ class WorkEntryServiceTest {
         Mockito.when(mapper.toEntity(request)).thenReturn(workEntry);
         Mockito.when(repository.save(workEntry)).thenReturn(workEntry);
 
-        service.createWorkEntry(request);
+        service.createWorkEntry(1L, request);
 
         assertEquals(WorkEntryStatus.DRAFT, workEntry.getWorkEntryStatus());
+        assertEquals(1L, workEntry.getEmployeeId());
     }
 
     @Test
@@ -60,10 +80,11 @@ class WorkEntryServiceTest {
         workEntry.setId(1L);
         workEntry.setWorkEntryStatus(WorkEntryStatus.DRAFT);
 
-        Mockito.when(repository.findById(1L)).thenReturn(Optional.of(workEntry));
+        Mockito.when(repository.findWithDescriptionByIdAndEmployeeId(1L, 1L))
+                .thenReturn(Optional.of(new WorkEntryWithDescription(workEntry, null)));
         Mockito.when(repository.save(workEntry)).thenReturn(workEntry);
 
-        service.submitWorkEntry(1L);
+        service.submitWorkEntry(1L, 1L);
 
         assertEquals(WorkEntryStatus.SUBMITTED, workEntry.getWorkEntryStatus());
     }
@@ -73,11 +94,12 @@ class WorkEntryServiceTest {
         WorkEntry workEntry = new WorkEntry();
         workEntry.setWorkEntryStatus(WorkEntryStatus.SUBMITTED);
 
-        Mockito.when(repository.findById(1L)).thenReturn(Optional.of(workEntry));
+        Mockito.when(repository.findWithDescriptionByIdAndEmployeeId(1L, 1L))
+                .thenReturn(Optional.of(new WorkEntryWithDescription(workEntry, null)));
 
         assertThrows(
                 InvalidStateException.class,
-                () -> service.submitWorkEntry(1L)
+                () -> service.submitWorkEntry(1L, 1L)
         );
     }
 
@@ -86,21 +108,226 @@ class WorkEntryServiceTest {
         WorkEntry workEntry = new WorkEntry();
         workEntry.setWorkEntryStatus(WorkEntryStatus.LOCKED);
 
-        Mockito.when(repository.findById(1L)).thenReturn(Optional.of(workEntry));
+        Mockito.when(repository.findByIdAndEmployeeId(1L, 1L)).thenReturn(Optional.of(workEntry));
 
         assertThrows(
                 InvalidStateException.class,
-                () -> service.deleteWorkEntry(1L)
+                () -> service.deleteWorkEntry(1L, 1L)
         );
     }
 
     @Test
     void throwWhenEntryNotFound() {
-        Mockito.when(repository.findById(99L)).thenReturn(Optional.empty());
+        Mockito.when(repository.findResponsesByIds(1L, List.of(99L))).thenReturn(List.of());
+
+        assertThrows(
+                ResourceNotFoundException.class,
+                () -> service.getWorkEntryById(1L, 99L)
+        );
+    }
+
+    @Test
+    void hideEntriesOfOtherEmployees() {
+        Mockito.when(repository.findByIdAndEmployeeId(1L, 2L)).thenReturn(Optional.empty());
+        assertThrows(
+                ResourceNotFoundException.class,
+                () -> service.deleteWorkEntry(2L, 1L)
+        );
+
+        // A LOCKED entry of employee 1 stays cached, but is only served to employee 1
+        WorkEntryResponse locked = response(1L, WorkEntryStatus.LOCKED);
+        Mockito.when(repository.findResponsesByIds(1L, List.of(1L))).thenReturn(List.of(locked));
+        assertEquals(locked, service.getWorkEntryById(1L, 1L));
 
         assertThrows(
                 ResourceNotFoundException.class,
-                () -> service.getWorkEntryById(99L)
+                () -> service.getWorkEntryById(2L, 1L)
+        );
+        WorkEntryBatchResponse batch = service.getWorkEntriesByIds(2L, List.of(1L));
+        assertEquals(List.of(), batch.entries());
+        assertEquals(List.of(1L), batch.missingIds());
+        Mockito.verify(repository, Mockito.never()).findResponsesByIds(Mockito.eq(2L), Mockito.any());
+    }
+
+    @Test
+    void rejectUnknownFields() {
+        assertThrows(
+                BusinessValidationException.class,
+                () -> service.getWorkEntryFieldsById(1L, 1L, List.of("hoursSpent", "salary"))
+        );
+
+        Mockito.verifyNoInteractions(repository);
+    }
+
+    @Test
+    void patchValidatesOnlyProvidedFields() {
+        WorkEntry workEntry = new WorkEntry();
+        workEntry.setId(1L);
+        workEntry.setWorkEntryStatus(WorkEntryStatus.DRAFT);
+
+        Mockito.when(repository.findWithDescriptionByIdAndEmployeeId(1L, 1L))
+                .thenReturn(Optional.of(new WorkEntryWithDescription(workEntry, null)));
+        Mockito.when(repository.save(workEntry)).thenReturn(workEntry);
+
+        PatchWorkEntryRequest request = new PatchWorkEntryRequest(null, null, null, null, null, 2.0);
+        service.patchWorkEntry(1L, 1L, request);
+
+        Mockito.verify(mapper).patchEntityFromRequest(request, workEntry);
+        assertThrows(
+                BusinessValidationException.class,
+                () -> service.patchWorkEntry(1L, 1L, new PatchWorkEntryRequest(null, null, null, null, null, 30.0))
+        );
+        assertThrows(
+                BusinessValidationException.class,
+                () -> service.patchWorkEntry(1L, 1L, new PatchWorkEntryRequest(null, null, null, null, null, null))
+        );
+    }
+
+    @Test
+    void groupWeekTimesheetPerDayWithSubtotals() {
+        LocalDate monday = LocalDate.of(2025, 3, 3);
+        LocalDate friday = LocalDate.of(2025, 3, 7);
+        LocalDate sunday = LocalDate.of(2025, 3, 9);
+        List<WorkEntry> workEntries = List.of(
+                workEntry(monday, ProgramType.CLIENT, "ACME", 90),
+                workEntry(monday, ProgramType.SELF_LEARNING, "JAVA", 20),
+                workEntry(friday, ProgramType.CLIENT, "ACME", 30)
+        );
+
+        Mockito.when(repository.findByEmployeeIdAndWorkDateBetweenOrderByWorkDateAscIdAsc(1L, monday, sunday)).thenReturn(workEntries);
+
+        TimesheetView timesheet = service.getWeekTimesheet(1L, LocalDate.of(2025, 3, 5));
+
+        assertEquals(monday, timesheet.startDate());
+        assertEquals(sunday, timesheet.endDate());
+        assertEquals(7, timesheet.days().size());
+        assertEquals(110 / 60.0, timesheet.days().get(0).totalHours());
+        assertEquals(0.0, timesheet.days().get(2).totalHours());
+        assertEquals(2.0 + 1 / 3.0, timesheet.totalHours(), 1e-9);
+        assertEquals(new ProgramSubtotal(ProgramType.CLIENT, "ACME", 2.0, 2), timesheet.programs().getFirst());
+        Mockito.verify(repository, Mockito.never()).findByEmployeeIdAndWorkDate(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void includeWeekendAnchorAndEntriesInWeekTimesheet() {
+        LocalDate monday = LocalDate.of(2025, 3, 3);
+        LocalDate saturday = LocalDate.of(2025, 3, 8);
+        LocalDate sunday = LocalDate.of(2025, 3, 9);
+        List<WorkEntry> workEntries = List.of(
+                workEntry(saturday, ProgramType.CLIENT, "ACME", 120),
+                workEntry(sunday, ProgramType.INTERNAL, "OPS", 60)
+        );
+
+        Mockito.when(repository.findByEmployeeIdAndWorkDateBetweenOrderByWorkDateAscIdAsc(1L, monday, sunday)).thenReturn(workEntries);
+
+        for(LocalDate anchor : List.of(saturday, sunday)) {
+            TimesheetView timesheet = service.getWeekTimesheet(1L, anchor);
+
+            assertEquals(monday, timesheet.startDate());
+            assertEquals(sunday, timesheet.endDate());
+            assertEquals(2.0, timesheet.days().get(5).totalHours());
+            assertEquals(1.0, timesheet.days().get(6).totalHours());
+            assertEquals(3.0, timesheet.totalHours());
+        }
+    }
+
+    @Test
+    void rejectHoursThatAreNotWholeMinutes() {
+        assertThrows(
+                BusinessValidationException.class,
+                () -> service.createWorkEntry(1L, new CreateWorkEntryRequest(
+                        LocalDate.now().minusDays(1), ProgramType.CLIENT, "PROJ-1", null, "Test work", 1.337, null))
+        );
+        assertThrows(
+                BusinessValidationException.class,
+                () -> service.updateWorkEntry(1L, 1L, new UpdateWorkEntryRequest(
+                        LocalDate.now().minusDays(1), ProgramType.CLIENT, "PROJ-1", null, "Test work", 1.337, null))
+        );
+        assertThrows(
+                BusinessValidationException.class,
+                () -> service.patchWorkEntry(1L, 1L, new PatchWorkEntryRequest(null, null, null, null, null, 0.01))
+        );
+
+        Mockito.verifyNoInteractions(repository);
+    }
+
+    @Test
+    void acceptHoursThatAreWholeMinutes() {
+        WorkEntry workEntry = new WorkEntry();
+        workEntry.setId(1L);
+        workEntry.setWorkEntryStatus(WorkEntryStatus.DRAFT);
+
+        Mockito.when(repository.findWithDescriptionByIdAndEmployeeId(1L, 1L))
+                .thenReturn(Optional.of(new WorkEntryWithDescription(workEntry, null)));
+        Mockito.when(repository.save(workEntry)).thenReturn(workEntry);
+
+        // 80 minutes, as a client computing 80 / 60 sends it
+        PatchWorkEntryRequest thirds = new PatchWorkEntryRequest(null, null, null, null, null, 80.0 / 60);
+        PatchWorkEntryRequest quarters = new PatchWorkEntryRequest(null, null, null, null, null, 1.25);
+        PatchWorkEntryRequest oneMinute = new PatchWorkEntryRequest(null, null, null, null, null, 1.0 / 60);
+        service.patchWorkEntry(1L, 1L, thirds);
+        service.patchWorkEntry(1L, 1L, quarters);
+        service.patchWorkEntry(1L, 1L, oneMinute);
+
+        Mockito.verify(mapper).patchEntityFromRequest(thirds, workEntry);
+        Mockito.verify(mapper).patchEntityFromRequest(quarters, workEntry);
+        Mockito.verify(mapper).patchEntityFromRequest(oneMinute, workEntry);
+    }
+
+    @Test
+    void getWorkEntriesByIdsInRequestedOrder() {
+        WorkEntryResponse first = response(1L, WorkEntryStatus.LOCKED);
+        WorkEntryResponse third = response(3L, WorkEntryStatus.DRAFT);
+
+        Mockito.when(repository.findResponsesByIds(1L, List.of(3L, 2L, 1L))).thenReturn(List.of(first, third));
+
+        WorkEntryBatchResponse response = service.getWorkEntriesByIds(1L, List.of(3L, 2L, 1L, 3L));
+
+        assertEquals(List.of(third, first), response.entries());
+        assertEquals(List.of(2L), response.missingIds());
+
+        // Only the LOCKED entry was cached by the bulk load
+        Mockito.when(repository.findResponsesByIds(1L, List.of(3L))).thenReturn(List.of(third));
+        service.getWorkEntriesByIds(1L, List.of(1L, 3L));
+        Mockito.verify(repository).findResponsesByIds(1L, List.of(3L));
+    }
+
+    @Test
+    void rejectTooManyIds() {
+        List<Long> ids = LongStream.rangeClosed(1, WorkEntryService.MAX_BATCH_IDS + 1).boxed().toList();
+
+        assertThrows(
+                BusinessValidationException.class,
+                () -> service.getWorkEntriesByIds(1L, ids)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void rejectInvalidFacetRequests() {
+        LocalDate today = LocalDate.now();
+
+        assertThrows(
+                BusinessValidationException.class,
+                () -> service.getWorkEntryFacets(1L, today, today.minusDays(1), 10)
+        );
+        assertThrows(
+                BusinessValidationException.class,
+                () -> service.getWorkEntryFacets(1L, today.minusDays(7), today, WorkEntryService.MAX_FACET_REFERENCES + 1)
+        );
+        Mockito.verify(repository, Mockito.never()).findFacets(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyInt());
+    }
+
+    private static WorkEntryResponse response(Long id, WorkEntryStatus status) {
+        return new WorkEntryResponse(id, 1L, LocalDate.now(), ProgramType.CLIENT, "ACME", null, null, 1.0, status, null, null);
+    }
+
+    private static WorkEntry workEntry(LocalDate workDate, ProgramType programType, String programReference, int minutes) {
+        WorkEntry workEntry = new WorkEntry();
+        workEntry.setEmployeeId(1L);
+        workEntry.setWorkDate(workDate);
+        workEntry.setProgramType(programType);
+        workEntry.setProgramReference(programReference);
+        workEntry.setMinutesSpent(minutes);
+        return workEntry;
+    }
+}
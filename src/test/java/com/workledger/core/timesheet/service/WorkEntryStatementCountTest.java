@@ -0,0 +1,199 @@
+package com.workledger.core.timesheet.service;
+
+import com.workledger.core.common.jdbc.StatementCounter;
+import com.workledger.core.config.DataSourceProxyConfig;
+import com.workledger.core.history.dto.WorkEntryRevision;
+import com.workledger.core.history.repository.WorkEntryHistoryRepository;
+import com.workledger.core.history.service.WorkEntryHistoryRecorder;
+import com.workledger.core.timesheet.cache.WorkEntryCache;
+import com.workledger.core.timesheet.domain.ProgramType;
+import com.workledger.core.timesheet.dto.CreateWorkEntryRequest;
+import com.workledger.core.timesheet.dto.PatchWorkEntryRequest;
+import com.workledger.core.timesheet.dto.UpdateWorkEntryRequest;
+import com.workledger.core.timesheet.dto.WorkEntryResponse;
+import com.workledger.core.timesheet.mapper.WorkEntryMapperImpl;
+import com.workledger.core.timesheet.repository.WorkEntryRepository;
+import com.workledger.core.timesheet.service.impl.WorkEntryServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guards the number of SQL statements each WorkEntryService operation executes, history included.
+ * A failing assertion here means a change added round trips (e.g. an N+1 or an extra merge select).
+ * Writes to existing entries lock the entry, read its history state and append to it: three statements
+ * on top of their own.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.workledger.core.timesheet.service.WorkEntryStatementCountTest$CapturingStatementInspector")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Sql("/db/h2/work_entry_history.sql")
+@Import({
+        DataSourceProxyConfig.class,
+        WorkEntryHistoryRecorder.class,
+        WorkEntryHistoryRepository.class,
+        WorkEntryStatementCountTest.JsonConfig.class,
+        WorkEntryServiceImpl.class,
+        WorkEntryMapperImpl.class,
+        WorkEntryCache.class,
+        SimpleMeterRegistry.class
+})
+class WorkEntryStatementCountTest {
+
+    private static final Long EMPLOYEE_ID = 1L;
+
+    @Autowired
+    private WorkEntryService service;
+
+    @Autowired
+    private WorkEntryRepository repository;
+
+    @Autowired
+    private WorkEntryHistoryRepository historyRepository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void createIssuesEntryAndHistoryInserts() {
+        assertEquals(2, StatementCounter.count(this::createEntry));
+    }
+
+    @Test
+    void updateIssuesSelectHistoryAndUpdate() {
+        WorkEntryResponse created = createEntry();
+        UpdateWorkEntryRequest request = new UpdateWorkEntryRequest(
+                created.workDate(),
+                ProgramType.CLIENT,
+                "PROJ-1",
+                null,
+                "Updated work",
+                6.0,
+                null
+        );
+
+        assertEquals(5, StatementCounter.count(() -> service.updateWorkEntry(EMPLOYEE_ID, created.id(), request)));
+    }
+
+    @Test
+    void patchHoursUpdatesOnlyChangedColumns() {
+        WorkEntryResponse created = createEntry();
+        PatchWorkEntryRequest request = new PatchWorkEntryRequest(null, null, null, null, null, 6.5);
+
+        CapturingStatementInspector.STATEMENTS.clear();
+        // select with the description for the response, lock, history select and insert, update
+        assertEquals(5, StatementCounter.count(() -> service.patchWorkEntry(EMPLOYEE_ID, created.id(), request)));
+
+        String update = CapturingStatementInspector.STATEMENTS.stream()
+                .map(String::toLowerCase)
+                .filter(sql -> sql.contains("update work_entries"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No update was captured"));
+        assertTrue(update.contains("minutes_spent"), update);
+        assertFalse(update.contains("description"), update);
+        assertFalse(update.contains("program_reference"), update);
+        assertEquals(6.5, service.getWorkEntryById(EMPLOYEE_ID, created.id()).hoursSpent());
+
+        // The history row holds exactly the changed field, without reading the description
+        WorkEntryRevision patched = historyRepository.findRevisions(EMPLOYEE_ID, created.id()).getLast();
+        assertEquals(2, patched.version());
+        assertEquals(Map.of("minutesSpent", 390), patched.fields());
+    }
+
+    @Test
+    void transitionsIssueSelectHistoryAndUpdate() {
+        WorkEntryResponse created = createEntry();
+
+        assertEquals(5, StatementCounter.count(() -> service.submitWorkEntry(EMPLOYEE_ID, created.id())));
+        // The response carries the description without a sixth statement
+        assertEquals(5, StatementCounter.count(
+                () -> assertEquals("Test work", service.lockWorkEntry(EMPLOYEE_ID, created.id()).description())));
+    }
+
+    @Test
+    void lockChunkBatchesUpdatesAndHistory() {
+        for(int i = 0; i < 3; i++) {
+            service.submitWorkEntry(EMPLOYEE_ID, createEntry().id());
+        }
+        LocalDate workDate = LocalDate.now().minusDays(1);
+
+        // chunk select, lock, history select and insert batch, update batch: the same for any chunk size
+        assertEquals(5, StatementCounter.count(
+                () -> assertEquals(3, service.lockSubmittedWorkEntries(workDate, workDate, 0L, 10).size())));
+        assertEquals(3, historyRepository.findRevisions(EMPLOYEE_ID, repository.findAll().getFirst().getId()).size());
+    }
+
+    @Test
+    void cachedLookupIssuesNoStatements() {
+        WorkEntryResponse created = createEntry();
+        service.getWorkEntryById(EMPLOYEE_ID, created.id());
+
+        assertEquals(0, StatementCounter.count(() -> service.getWorkEntryById(EMPLOYEE_ID, created.id())));
+    }
+
+    @Test
+    void deleteIssuesSelectHistoryAndDelete() {
+        WorkEntryResponse created = createEntry();
+
+        assertEquals(5, StatementCounter.count(() -> service.deleteWorkEntry(EMPLOYEE_ID, created.id())));
+    }
+
+    @Test
+    void totalHoursIssuesSingleAggregate() {
+        createEntry();
+
+        assertEquals(1, StatementCounter.count(
+                () -> service.calculateTotalHours(EMPLOYEE_ID, LocalDate.now().minusDays(7), LocalDate.now())));
+    }
+
+    private WorkEntryResponse createEntry() {
+        return service.createWorkEntry(EMPLOYEE_ID, new CreateWorkEntryRequest(
+                LocalDate.now().minusDays(1),
+                ProgramType.CLIENT,
+                "PROJ-1",
+                null,
+                "Test work",
+                4.0,
+                null
+        ));
+    }
+
+    @TestConfiguration
+    static class JsonConfig {
+
+        @Bean
+        JsonMapper jsonMapper() {
+            return JsonMapper.builder().build();
+        }
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.trim());
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.workledger.core.timesheet.service;
+
+import com.workledger.core.common.exception.BusinessValidationException;
+import com.workledger.core.timesheet.dto.WorkEntryChange;
+import com.workledger.core.timesheet.dto.WorkEntryChanges;
+import com.workledger.core.timesheet.dto.WorkEntrySyncCursor;
+import com.workledger.core.timesheet.repository.WorkEntryChangeRepository;
+import com.workledger.core.timesheet.repository.WorkEntryChangeRepository.ChangedRow;
+import com.workledger.core.timesheet.service.impl.WorkEntrySyncServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkEntrySyncServiceTest {
+
+    private static final Long EMPLOYEE_ID = 7L;
+    private static final long HORIZON = 900L;
+
+    private WorkEntryChangeRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private WorkEntrySyncServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        repository = Mockito.mock(WorkEntryChangeRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new WorkEntrySyncServiceImpl(
+                repository, Mockito.mock(PlatformTransactionManager.class), Duration.ofDays(30), 2, meterRegistry);
+        Mockito.when(repository.findHorizon()).thenReturn(HORIZON);
+    }
+
+    @Test
+    void continueFromLastChangeOfFullPage() {
+        Mockito.when(repository.findChanges(EMPLOYEE_ID, WorkEntrySyncCursor.START, HORIZON, 3)).thenReturn(List.of(
+                updated(500L, 1L), deleted(610L, 2L), updated(610L, 3L)
+        ));
+
+        WorkEntryChanges changes = service.getChanges(EMPLOYEE_ID, null, 2);
+
+        assertTrue(changes.hasMore());
+        assertEquals(List.of(1L, 2L), changes.changes().stream().map(WorkEntryChange::id).toList());
+        assertTrue(changes.changes().get(1).deleted());
+        assertEquals(new WorkEntrySyncCursor(610L, 2L), WorkEntrySyncCursor.decode(changes.cursor()));
+    }
+
+    @Test
+    void continueFromHorizonOnceCaughtUp() {
+        WorkEntrySyncCursor after = new WorkEntrySyncCursor(610L, 2L);
+        Mockito.when(repository.findChanges(EMPLOYEE_ID, after, HORIZON, 3)).thenReturn(List.of(updated(610L, 3L)));
+
+        WorkEntryChanges changes = service.getChanges(EMPLOYEE_ID, after.encode(), 2);
+
+        assertFalse(changes.hasMore());
+        assertEquals(1, changes.changes().size());
+        assertEquals(new WorkEntrySyncCursor(HORIZON, 0L), WorkEntrySyncCursor.decode(changes.cursor()));
+    }
+
+    @Test
+    void requireResetWhenTombstonesWerePurgedPastCursor() {
+        Mockito.when(repository.findPurgedThrough()).thenReturn(700L);
+
+        WorkEntryChanges changes = service.getChanges(EMPLOYEE_ID, new WorkEntrySyncCursor(650L, 4L).encode(), 2);
+
+        assertTrue(changes.resetRequired());
+        assertTrue(changes.changes().isEmpty());
+        Mockito.verify(repository, Mockito.never())
+                .findChanges(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.anyLong(), ArgumentMatchers.anyInt());
+    }
+
+    @Test
+    void rejectMalformedCursor() {
+        assertThrows(BusinessValidationException.class, () -> service.getChanges(EMPLOYEE_ID, "not-a-cursor", 2));
+    }
+
+    @Test
+    void purgeTombstonesInBatches() {
+        Mockito.when(repository.purgeTombstones(ArgumentMatchers.any(), ArgumentMatchers.eq(2))).thenReturn(2, 2, 1);
+
+        assertEquals(5, service.purgeTombstones());
+    }
+
+    @Test
+    void reportHowLongTheHorizonIsHeldBack() {
+        Mockito.when(repository.findHorizonAge()).thenReturn(Duration.ofSeconds(90));
+
+        assertEquals(90_000.0, meterRegistry.get("workledger.sync.horizon.age").gauge().value());
+    }
+
+    private static ChangedRow updated(long changeXid, long id) {
+        return new ChangedRow(changeXid, new WorkEntryChange(id, false, null));
+    }
+
+    private static ChangedRow deleted(long changeXid, long id) {
+        return new ChangedRow(changeXid, new WorkEntryChange(id, true, null));
+    }
+}
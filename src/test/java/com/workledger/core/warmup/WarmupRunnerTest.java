@@ -0,0 +1,87 @@
+package com.workledger.core.warmup;
+
+import com.workledger.core.billing.service.BillingSummaryService;
+import com.workledger.core.timesheet.mapper.WorkEntryMapper;
+import com.workledger.core.timesheet.service.WorkEntryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.boot.DefaultApplicationArguments;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WarmupRunnerTest {
+
+    private WarmupProperties properties;
+    private WorkEntryService workEntryService;
+    private BillingSummaryService billingSummaryService;
+    private WorkEntryMapper workEntryMapper;
+    private WarmupRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WarmupProperties();
+        properties.setQueryRepetitions(2);
+        properties.setSerializationIterations(10);
+        workEntryService = Mockito.mock(WorkEntryService.class);
+        billingSummaryService = Mockito.mock(BillingSummaryService.class);
+        workEntryMapper = Mockito.mock(WorkEntryMapper.class);
+        runner = new WarmupRunner(
+                properties, List.of(), workEntryService, billingSummaryService, workEntryMapper, JsonMapper.builder().build());
+    }
+
+    @Test
+    void runEveryStep() {
+        runner.run(new DefaultApplicationArguments());
+
+        Mockito.verify(workEntryService, Mockito.times(2))
+                .getAllWorkEntries(ArgumentMatchers.eq(WarmupRunner.SYNTHETIC_EMPLOYEE_ID), ArgumentMatchers.any());
+        Mockito.verify(workEntryService, Mockito.times(2))
+                .getWorkEntriesByIds(WarmupRunner.SYNTHETIC_EMPLOYEE_ID, List.of(WarmupRunner.MISSING_WORK_ENTRY_ID));
+        Mockito.verify(workEntryService, Mockito.times(2)).getWorkEntryFacets(
+                ArgumentMatchers.eq(WarmupRunner.SYNTHETIC_EMPLOYEE_ID), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.anyInt());
+        Mockito.verify(workEntryMapper, Mockito.times(10)).toResponse(ArgumentMatchers.any());
+        Mockito.verify(billingSummaryService).getMonthlySummary(YearMonth.now(), YearMonth.now(), null, null);
+    }
+
+    @Test
+    void continueAfterFailingStep() {
+        Mockito.when(workEntryService.getAllWorkEntries(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        runner.run(new DefaultApplicationArguments());
+
+        Mockito.verify(billingSummaryService).getMonthlySummary(YearMonth.now(), YearMonth.now(), null, null);
+    }
+
+    @Test
+    void stopWhenBudgetIsSpent() {
+        properties.setBudget(Duration.ofMillis(200));
+        Mockito.when(workEntryService.getAllWorkEntries(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(10_000);
+                    return null;
+                });
+
+        long started = System.nanoTime();
+        runner.run(new DefaultApplicationArguments());
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofSeconds(5)) < 0);
+        Mockito.verifyNoInteractions(billingSummaryService);
+    }
+
+    @Test
+    void skipWhenDisabled() {
+        properties.setEnabled(false);
+
+        runner.run(new DefaultApplicationArguments());
+
+        Mockito.verifyNoInteractions(workEntryService, billingSummaryService, workEntryMapper);
+    }
+}
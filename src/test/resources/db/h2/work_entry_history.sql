@@ -0,0 +1,15 @@
+-- H2 stand-in for the PostgreSQL work_entry_history table (V8 migration), for slices that include
+-- WorkEntryHistoryRecorder. jsonb is a domain over VARCHAR so the recorder's casts work unchanged.
+CREATE DOMAIN IF NOT EXISTS jsonb AS VARCHAR(10000);
+
+CREATE TABLE IF NOT EXISTS work_entry_history (
+    id               BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    work_entry_id    BIGINT       NOT NULL,
+    employee_id      BIGINT       NOT NULL,
+    version          INTEGER      NOT NULL,
+    snapshot_version INTEGER      NOT NULL,
+    change_type      VARCHAR(20)  NOT NULL,
+    changed_at       TIMESTAMP(6) NOT NULL,
+    fields           jsonb        NOT NULL,
+    CONSTRAINT uk_work_entry_history_version UNIQUE (work_entry_id, version)
+);